@@ -0,0 +1,368 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Generating the SqlQuery enum from the query files at build time, so the query strings are compiled into Starbower
+ * instead of being read from the resources at runtime.
+ * Each query file becomes a SqlQuery constant holding the query string, joined from the lines as the query files were read before.
+ * Each SELECT query also gets a row class with the one-based index of every result column and a typed getter for it,
+ * with the column types taken from the CreateTables query. SELECT * is expanded in table column order.
+ * Columns declared NOT NULL or PRIMARY KEY are read as primitives, all other columns as boxed classes that may be null.
+ * Columns that are not declared in the CreateTables query are read as strings.
+ *
+ * <p>This class only uses the JDK, so it can be run from its source file before the other classes are compiled.
+ * It is kept in the build-only src/build/java folder, which is not a source folder of the app, so it is not shipped in the jar or the runtime image.
+ *
+ * <p>Arguments: [query folder, e.g. src/main/resources/queries] [source folder, e.g. target/generated-sources/queries]
+ */
+public class QueryClassGenerator {
+    private static final String PACKAGE_NAME = "com.paigegoldhagen.starbower";
+    private static final String CLASS_NAME = "SqlQuery";
+
+    private static final Pattern TABLE_PATTERN = Pattern.compile("CREATE TABLE IF NOT EXISTS (\\w+) \\((.*?)\\);", Pattern.DOTALL);
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("^\\s*(\\w+) (\\w+)(?:\\(\\d+\\))?(.*?),?\\s*$", Pattern.MULTILINE);
+    private static final Pattern FROM_PATTERN = Pattern.compile("\\bFROM (\\w+)");
+    private static final Pattern JOIN_PATTERN = Pattern.compile("\\bJOIN (\\w+)");
+    private static final Pattern NAME_PATTERN = Pattern.compile("(?:\\w+\\.)?(\\w+)");
+
+    /**
+     * A column of a table or query result, with the SQL type name and whether the column can be null.
+     */
+    private record Column(String Name, String Type, boolean IsNullable) {}
+
+    /**
+     * Generate the SqlQuery source file from the query folder into the package folder of the source folder,
+     * creating the package folder if it does not exist yet.
+     *
+     * @param args          the optional query folder and source folder
+     * @throws IOException  a query file could not be read or the source file could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path queryFolder = Path.of(args.length > 0 ? args[0] : "src/main/resources/queries");
+        Path sourceFolder = Path.of(args.length > 1 ? args[1] : "target/generated-sources/queries");
+
+        Path sourceFile = sourceFolder.resolve(PACKAGE_NAME.replace('.', '/')).resolve(CLASS_NAME + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, generate(queryFolder), StandardCharsets.UTF_8);
+
+        System.out.println("Generated " + sourceFile.toAbsolutePath());
+    }
+
+    /**
+     * Read every query file in the query folder in file name order and build the SqlQuery source.
+     *
+     * @param queryFolder   the folder of the query files
+     *
+     * @return              the SqlQuery source string
+     * @throws IOException  a query file could not be read
+     */
+    static String generate(Path queryFolder) throws IOException {
+        Map<String, String> queryMap = new LinkedHashMap<>();
+
+        try (Stream<Path> pathStream = Files.list(queryFolder)) {
+            for (Path queryFile : pathStream.filter(path -> path.toString().endsWith(".sql")).sorted().toList()) {
+                String fileName = queryFile.getFileName().toString();
+                queryMap.put(fileName.substring(0, fileName.lastIndexOf(".")), String.join("", Files.readAllLines(queryFile, StandardCharsets.UTF_8)));
+            }
+        }
+
+        Map<String, List<Column>> tableMap = getTableMap(queryMap.get("CreateTables"));
+        StringBuilder sourceBuilder = new StringBuilder();
+
+        sourceBuilder.append("package ").append(PACKAGE_NAME).append(";\n\n")
+                .append("import java.sql.ResultSet;\n")
+                .append("import java.sql.SQLException;\n")
+                .append("import java.time.LocalDateTime;\n")
+                .append("import java.time.LocalTime;\n\n")
+                .append("/**\n")
+                .append(" * The SQL queries of the query files, with the result column indexes and typed column getters of each SELECT query.\n")
+                .append(" * Generated from the query files by the QueryClassGenerator class in the generate-sources phase of every build.\n")
+                .append(" * Do not edit this file, edit the query files and build again.\n")
+                .append(" */\n")
+                .append("public enum ").append(CLASS_NAME).append(" {\n");
+
+        List<String> queryNameList = new ArrayList<>(queryMap.keySet());
+
+        for (int query = 0; query < queryNameList.size(); query++) {
+            String queryName = queryNameList.get(query);
+            sourceBuilder.append("    ").append(queryName).append("(\"").append(escape(queryMap.get(queryName))).append("\")")
+                    .append(query < queryNameList.size() - 1 ? ",\n" : ";\n");
+        }
+
+        sourceBuilder.append("\n")
+                .append("    private final String QueryString;\n\n")
+                .append("    SqlQuery(String queryString) {\n")
+                .append("        this.QueryString = queryString;\n")
+                .append("    }\n\n")
+                .append("    public String getQueryString() {return QueryString;}\n");
+
+        for (String queryName : queryNameList) {
+            String queryString = queryMap.get(queryName);
+
+            if (queryString.startsWith("SELECT ")) {
+                appendRowClass(sourceBuilder, queryName, getResultColumnList(queryName, queryString, tableMap));
+            }
+        }
+        return String.valueOf(sourceBuilder.append("}"));
+    }
+
+    /**
+     * Get the columns of every table in the CreateTables query.
+     *
+     * @param createTablesString    the CreateTables query string
+     * @return                      a map of table names to table columns in declaration order
+     */
+    private static Map<String, List<Column>> getTableMap(String createTablesString) {
+        Map<String, List<Column>> tableMap = new HashMap<>();
+        Matcher tableMatcher = TABLE_PATTERN.matcher(createTablesString.replace("\t", "\n\t"));
+
+        while (tableMatcher.find()) {
+            List<Column> columnList = new ArrayList<>();
+            Matcher columnMatcher = COLUMN_PATTERN.matcher(tableMatcher.group(2));
+
+            while (columnMatcher.find()) {
+                String columnName = columnMatcher.group(1);
+
+                if (!columnName.equals("FOREIGN") && !columnName.equals("REFERENCES")) {
+                    String constraints = columnMatcher.group(3);
+                    columnList.add(new Column(columnName, columnMatcher.group(2), !constraints.contains("NOT NULL") && !constraints.contains("PRIMARY KEY")));
+                }
+            }
+            tableMap.put(tableMatcher.group(1), columnList);
+        }
+        return tableMap;
+    }
+
+    /**
+     * Get the result columns of a SELECT query from its select list, expanding SELECT * to the columns of the FROM table.
+     * An expression column takes its name from its alias and its type from the first table column in the expression, and can be null.
+     *
+     * @param queryName     the query name string
+     * @param queryString   the SELECT query string
+     * @param tableMap      a map of table names to table columns
+     *
+     * @return              a list of result columns in result order
+     */
+    private static List<Column> getResultColumnList(String queryName, String queryString, Map<String, List<Column>> tableMap) {
+        String selectList = queryString.substring("SELECT ".length(), queryString.indexOf(" FROM "));
+
+        Matcher fromMatcher = FROM_PATTERN.matcher(queryString);
+        fromMatcher.find();
+        String fromTableName = fromMatcher.group(1);
+
+        if (selectList.equals("*")) {
+            return tableMap.get(fromTableName);
+        }
+
+        Map<String, Column> tableColumnMap = new HashMap<>();
+        addTableColumns(tableColumnMap, tableMap.get(fromTableName));
+
+        Matcher joinMatcher = JOIN_PATTERN.matcher(queryString);
+
+        while (joinMatcher.find()) {
+            addTableColumns(tableColumnMap, tableMap.get(joinMatcher.group(1)));
+        }
+
+        List<Column> columnList = new ArrayList<>();
+
+        for (String selectItem : splitSelectList(selectList)) {
+            int aliasIndex = selectItem.lastIndexOf(" AS ");
+
+            if (aliasIndex >= 0) {
+                Column expressionColumn = new Column(selectItem.substring(aliasIndex + " AS ".length()), "NVARCHAR", true);
+                Matcher nameMatcher = NAME_PATTERN.matcher(selectItem.substring(0, aliasIndex));
+
+                while (nameMatcher.find()) {
+                    Column tableColumn = tableColumnMap.get(nameMatcher.group(1));
+
+                    if (tableColumn != null) {
+                        expressionColumn = new Column(expressionColumn.Name(), tableColumn.Type(), true);
+                        break;
+                    }
+                }
+                columnList.add(expressionColumn);
+            }
+            else {
+                String columnName = selectItem.substring(selectItem.lastIndexOf(".") + 1);
+                columnList.add(tableColumnMap.getOrDefault(columnName, new Column(columnName, "NVARCHAR", true)));
+            }
+        }
+
+        if (columnList.isEmpty()) {
+            throw new IllegalStateException("The " + queryName + " query has no result columns");
+        }
+        return columnList;
+    }
+
+    /**
+     * Add the columns of a table to a map of column names to columns.
+     *
+     * @param tableColumnMap    the map of column names to columns
+     * @param columnList        the table columns, or null if the table is not declared in the CreateTables query
+     */
+    private static void addTableColumns(Map<String, Column> tableColumnMap, List<Column> columnList) {
+        if (columnList != null) {
+            for (Column column : columnList) {
+                tableColumnMap.put(column.Name(), column);
+            }
+        }
+    }
+
+    /**
+     * Split a select list on the commas that are not inside parentheses.
+     *
+     * @param selectList    the select list string
+     * @return              a list of trimmed select item strings
+     */
+    private static List<String> splitSelectList(String selectList) {
+        List<String> selectItemList = new ArrayList<>();
+        int depth = 0;
+        int itemStart = 0;
+
+        for (int index = 0; index < selectList.length(); index++) {
+            char character = selectList.charAt(index);
+
+            if (character == '(') {
+                depth++;
+            }
+            else if (character == ')') {
+                depth--;
+            }
+            else if (character == ',' && depth == 0) {
+                selectItemList.add(selectList.substring(itemStart, index).trim());
+                itemStart = index + 1;
+            }
+        }
+        selectItemList.add(selectList.substring(itemStart).trim());
+        return selectItemList;
+    }
+
+    /**
+     * Append the row class of a SELECT query, with a column index constant and a typed getter for each result column.
+     *
+     * @param sourceBuilder the SqlQuery source builder
+     * @param queryName     the query name string
+     * @param columnList    the result columns in result order
+     */
+    private static void appendRowClass(StringBuilder sourceBuilder, String queryName, List<Column> columnList) {
+        List<String> fieldNameList = new ArrayList<>();
+        Set<String> fieldNameSet = new HashSet<>();
+
+        for (Column column : columnList) {
+            String fieldName = getFieldName(column.Name());
+
+            if (!fieldNameSet.add(fieldName)) {
+                throw new IllegalStateException("The " + queryName + " query has more than one " + fieldName + " column");
+            }
+            fieldNameList.add(fieldName);
+        }
+
+        sourceBuilder.append("\n")
+                .append("    /**\n")
+                .append("     * The result columns of the ").append(queryName).append(" query.\n")
+                .append("     */\n")
+                .append("    public static final class ").append(queryName).append("Row {\n");
+
+        for (int column = 0; column < columnList.size(); column++) {
+            sourceBuilder.append("        public static final int ").append(getConstantName(fieldNameList.get(column))).append(" = ").append(column + 1).append(";\n");
+        }
+
+        sourceBuilder.append("\n")
+                .append("        private ").append(queryName).append("Row() {}\n");
+
+        for (int column = 0; column < columnList.size(); column++) {
+            Column resultColumn = columnList.get(column);
+            String fieldName = fieldNameList.get(column);
+            String[] javaType = getJavaType(resultColumn);
+
+            sourceBuilder.append("\n")
+                    .append("        /**\n")
+                    .append("         * Get the ").append(resultColumn.Name()).append(" column of the current row.\n")
+                    .append("         *\n")
+                    .append("         * @param resultSet     a ResultSet of the ").append(queryName).append(" query\n")
+                    .append("         *\n")
+                    .append("         * @return              the ").append(resultColumn.Name()).append(resultColumn.IsNullable() && !javaType[0].equals("String") ? " value, or null if the column is null\n" : " value\n")
+                    .append("         * @throws SQLException the database could not be accessed or the table/column/row could not be found\n")
+                    .append("         */\n")
+                    .append("        public static ").append(javaType[0]).append(" get").append(fieldName).append("(ResultSet resultSet) throws SQLException {\n")
+                    .append("            return resultSet.").append(javaType[1]).append("(").append(getConstantName(fieldName)).append(javaType[2]).append(");\n")
+                    .append("        }\n");
+        }
+        sourceBuilder.append("    }\n");
+    }
+
+    /**
+     * Get the Java type of a result column and the ResultSet method reading it.
+     *
+     * @param column    the result column
+     * @return          the Java type name, the ResultSet method name and the arguments after the column index
+     */
+    private static String[] getJavaType(Column column) {
+        return switch (column.Type()) {
+            case "INT" -> column.IsNullable() ? new String[] {"Integer", "getObject", ", Integer.class"} : new String[] {"int", "getInt", ""};
+            case "BIT" -> column.IsNullable() ? new String[] {"Boolean", "getObject", ", Boolean.class"} : new String[] {"boolean", "getBoolean", ""};
+            case "TIME" -> new String[] {"LocalTime", "getObject", ", LocalTime.class"};
+            case "TIMESTAMP" -> new String[] {"LocalDateTime", "getObject", ", LocalDateTime.class"};
+            default -> new String[] {"String", "getString", ""};
+        };
+    }
+
+    /**
+     * Get the getter field name of a column, naming a primary key or foreign key column after the ID it holds,
+     * e.g. PK_NotifyStateID to NotifyStateID and FK_Category_NotifyState to NotifyStateID.
+     *
+     * @param columnName    the column name string
+     * @return              the field name string
+     */
+    private static String getFieldName(String columnName) {
+        if (columnName.startsWith("PK_")) {
+            return columnName.substring("PK_".length());
+        }
+        else if (columnName.startsWith("FK_")) {
+            return columnName.substring(columnName.lastIndexOf("_") + 1) + "ID";
+        }
+        else if (columnName.equals(columnName.toUpperCase())) {
+            StringBuilder fieldBuilder = new StringBuilder();
+
+            for (String word : columnName.toLowerCase().split("_")) {
+                fieldBuilder.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+            return String.valueOf(fieldBuilder);
+        }
+        return columnName;
+    }
+
+    /**
+     * Get the constant name of a field name, e.g. NotifyStateID to NOTIFY_STATE_ID.
+     *
+     * @param fieldName the field name string
+     * @return          the constant name string
+     */
+    private static String getConstantName(String fieldName) {
+        return fieldName.replaceAll("([a-z])([A-Z])", "$1_$2").replaceAll("([A-Z])([A-Z][a-z])", "$1_$2").toUpperCase();
+    }
+
+    /**
+     * Escape a query string for a Java string literal.
+     *
+     * @param queryString   the query string
+     * @return              the escaped query string
+     */
+    private static String escape(String queryString) {
+        return queryString.replace("\\", "\\\\").replace("\"", "\\\"").replace("\t", "\\t");
+    }
+}
\ No newline at end of file
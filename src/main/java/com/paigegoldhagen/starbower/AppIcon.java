@@ -0,0 +1,141 @@
+package com.paigegoldhagen.starbower;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.AbstractMultiResolutionImage;
+import java.awt.image.ImageObserver;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Showing the Starbower icon at the size the frame, the Windows taskbar or the system tray draws it.
+ * Every icon file is listed with its size, but a file is only decoded the first time a size it covers is drawn,
+ * so the larger icons are never read on a screen that does not need them.
+ * Each icon has a base size in logical pixels, and the screen scale decides which file is drawn for it.
+ * Icons with different base sizes share the same decoded files.
+ */
+public class AppIcon extends AbstractMultiResolutionImage {
+    static final int SMALL_ICON_SIZE = 16;
+    static final int LARGE_ICON_SIZE = 32;
+
+    private final NavigableMap<Integer, String> FileNameMap;
+    private final Map<Integer, Image> DecodedImageMap;
+    private final int BaseSize;
+
+    public AppIcon(NavigableMap<Integer, String> fileNameMap) {
+        this(fileNameMap, new HashMap<>(), fileNameMap.firstKey());
+    }
+
+    private AppIcon(NavigableMap<Integer, String> fileNameMap, Map<Integer, Image> decodedImageMap, int baseSize) {
+        this.FileNameMap = fileNameMap;
+        this.DecodedImageMap = decodedImageMap;
+        this.BaseSize = baseSize;
+    }
+
+    /**
+     * Get an icon drawn at a different base size, sharing the decoded files of this icon.
+     *
+     * @param baseSize  the width and height of the icon in logical pixels
+     * @return          an AppIcon with the base size
+     */
+    public AppIcon withBaseSize(int baseSize) {
+        return new AppIcon(FileNameMap, DecodedImageMap, baseSize);
+    }
+
+    /**
+     * Get the small and large icons for the frame title bar and the Windows taskbar.
+     *
+     * @return  a list of AppIcons for the frame
+     */
+    public List<Image> getFrameIconList() {
+        return List.of(withBaseSize(SMALL_ICON_SIZE), withBaseSize(LARGE_ICON_SIZE));
+    }
+
+    /**
+     * Get the width of the icon without decoding an icon file.
+     *
+     * @param observer  the object waiting for the image to load, unused as the size is always known
+     * @return          the base size
+     */
+    @Override
+    public int getWidth(ImageObserver observer) {
+        return BaseSize;
+    }
+
+    /**
+     * Get the height of the icon without decoding an icon file.
+     *
+     * @param observer  the object waiting for the image to load, unused as the size is always known
+     * @return          the base size
+     */
+    @Override
+    public int getHeight(ImageObserver observer) {
+        return BaseSize;
+    }
+
+    /**
+     * Get the Image of the smallest icon file covering the base size.
+     *
+     * @return  the decoded Image
+     */
+    @Override
+    protected Image getBaseImage() {
+        return getResolutionVariant(BaseSize, BaseSize);
+    }
+
+    /**
+     * Get the Image of the smallest icon file covering the size drawn on the screen,
+     * or the largest icon file if none covers it.
+     *
+     * @param destImageWidth    the width drawn on the screen in device pixels
+     * @param destImageHeight   the height drawn on the screen in device pixels
+     *
+     * @return                  the decoded Image
+     */
+    @Override
+    public Image getResolutionVariant(double destImageWidth, double destImageHeight) {
+        int drawnSize = (int) Math.ceil(Math.max(destImageWidth, destImageHeight));
+        Integer fileSize = FileNameMap.ceilingKey(drawnSize);
+        return getDecodedImage(fileSize != null ? fileSize : FileNameMap.lastKey());
+    }
+
+    /**
+     * Get the Images of every icon file, decoding any file not drawn yet.
+     *
+     * @return  a list of decoded Images from the smallest to the largest
+     */
+    @Override
+    public List<Image> getResolutionVariants() {
+        List<Image> imageList = new ArrayList<>();
+
+        for (Integer fileSize : FileNameMap.keySet()) {
+            imageList.add(getDecodedImage(fileSize));
+        }
+        return List.copyOf(imageList);
+    }
+
+    /**
+     * Get the Image of an icon file, decoding the file the first time it is needed.
+     * The tray and the frame can draw the icon from different threads, so only one thread decodes at a time.
+     *
+     * @param fileSize  the size of the icon file
+     * @return          the decoded Image
+     */
+    private Image getDecodedImage(Integer fileSize) {
+        synchronized (DecodedImageMap) {
+            return DecodedImageMap.computeIfAbsent(fileSize, newFileSize -> {
+                try (InputStream stream = FileHandler.getInputStream("images/" + FileNameMap.get(newFileSize))) {
+                    return ImageIO.read(stream);
+                }
+                catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
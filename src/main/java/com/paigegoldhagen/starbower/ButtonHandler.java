@@ -4,38 +4,63 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.StringSelection;
+import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.event.MouseListener;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.awt.event.MouseMotionAdapter;
 
 /**
- * Adding listeners to JButton components and handling copy-to-clipboard functionality.
+ * Adding listeners to the location column of DynamicEvent tables and handling copy-to-clipboard functionality.
  */
 public class ButtonHandler {
+    private static final int COPY_FEEDBACK_MILLIS = 2000;
+
     /**
-     * Add an action listener and a mouse listener to a JButton.
+     * Add a mouse listener and a mouse motion listener to the location column of a DynamicEvent table.
      *
-     * @param frame             the visual window for GUI components
-     * @param locationButton    the JButton to add the listeners onto
+     * @param eventTable    the DynamicEvent table to add the listeners onto
      */
-    public static void addLocationButtonListeners(JFrame frame, JButton locationButton) {
-        addLocationButtonActionListener(frame, locationButton);
-        addLocationButtonMouseListener(locationButton);
+    public static void addLocationColumnListeners(EventTable eventTable) {
+        addLocationColumnMouseListener(eventTable);
+        addLocationColumnMotionListener(eventTable);
     }
 
     /**
-     * Add an action listener that copies the waypoint link to the clipboard
+     * Add a mouse listener that copies the waypoint link of a clicked location cell to the clipboard
      * and displays user feedback when the link is copied.
      *
-     * @param frame             the visual window for GUI components
-     * @param locationButton    the JButton to add the action listener onto
+     * @param eventTable    the DynamicEvent table to add the mouse listener onto
      */
-    private static void addLocationButtonActionListener(JFrame frame, JButton locationButton) {
-        locationButton.addActionListener(actionReceiver -> {
-            copyWaypointLinkToClipboard(locationButton.getName());
-            displayCopyFeedback(frame, locationButton);
+    private static void addLocationColumnMouseListener(EventTable eventTable) {
+        eventTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent mouseEvent) {
+                int row = eventTable.rowAtPoint(mouseEvent.getPoint());
+
+                if (SwingUtilities.isLeftMouseButton(mouseEvent) && row >= 0 && eventTable.columnAtPoint(mouseEvent.getPoint()) == EventTableModel.LOCATION_COLUMN) {
+                    copyWaypointLinkToClipboard(eventTable.getEventModel().getEventRow(row).getWaypointLink());
+                    displayCopyFeedback(eventTable.getEventModel(), row);
+                }
+            }
+
+            @Override
+            public void mouseExited(MouseEvent mouseEvent) {
+                eventTable.setCursor(Cursor.getDefaultCursor());
+            }
+        });
+    }
+
+    /**
+     * Add a mouse motion listener that changes the appearance of the mouse cursor when a location cell is hovered over.
+     *
+     * @param eventTable    the DynamicEvent table to add the listener onto
+     */
+    private static void addLocationColumnMotionListener(EventTable eventTable) {
+        eventTable.addMouseMotionListener(new MouseMotionAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent mouseEvent) {
+                boolean isLocationCell = eventTable.rowAtPoint(mouseEvent.getPoint()) >= 0 && eventTable.columnAtPoint(mouseEvent.getPoint()) == EventTableModel.LOCATION_COLUMN;
+                eventTable.setCursor(isLocationCell ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+            }
         });
     }
 
@@ -52,79 +77,21 @@ public class ButtonHandler {
     }
 
     /**
-     * Set the JButton text to the user feedback for when a link is copied to the clipboard,
-     * and schedule the text to change back to the original text.
-     *
-     * @param frame             the visual window for GUI components
-     * @param locationButton    the JButton being changed
-     */
-    private static void displayCopyFeedback(JFrame frame, JButton locationButton) {
-        String originalText = locationButton.getText();
-        locationButton.setText("Waypoint copied!");
-        scheduleLocationButtonTextChange(frame, locationButton, originalText);
-    }
-
-    /**
-     * Change the location button text when the scheduled time elapses.
-     *
-     * @param frame             the visual window for GUI components
-     * @param locationButton    the JButton being changed
-     * @param originalText      the original text appearance of the JButton
-     */
-    private static void scheduleLocationButtonTextChange(JFrame frame, JButton locationButton, String originalText) {
-        Runnable changeLocationButtonText = changeLocationButtonText(frame, locationButton, originalText);
-        ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
-        executorService.scheduleAtFixedRate(changeLocationButtonText, 2, 2, TimeUnit.SECONDS);
-    }
-
-    /**
-     * Set the JButton text to the original text string and revalidate/repaint the JFrame.
-     *
-     * @param frame             the JFrame to revalidate/repaint
-     * @param locationButton    the JButton being changed
-     * @param originalText      the original text appearance of the JButton
-     *
-     * @return                  the methods to run
-     */
-    private static Runnable changeLocationButtonText(JFrame frame, JButton locationButton, String originalText) {
-        return () -> {
-            locationButton.setText(originalText);
-            frame.revalidate();
-            frame.repaint();
-        };
-    }
-
-    /**
-     * Add a mouse listener that changes the appearance of the mouse cursor when hovered over.
+     * Show the user feedback for when a link is copied to the clipboard in the location cell of the row,
+     * and schedule the cell to change back to the location text on the event dispatch thread.
      *
-     * @param locationButton    the JButton to add the listener onto
+     * @param eventModel    the model of the DynamicEvent table being changed
+     * @param row           the row index of the copied waypoint link
      */
-    private static void addLocationButtonMouseListener(JButton locationButton) {
-        locationButton.addMouseListener(new MouseListener() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
+    private static void displayCopyFeedback(EventTableModel eventModel, int row) {
+        eventModel.setCopiedRow(row);
 
-            }
-
-            @Override
-            public void mousePressed(MouseEvent e) {
-
-            }
-
-            @Override
-            public void mouseReleased(MouseEvent e) {
-
-            }
-
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                locationButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-            }
-
-            @Override
-            public void mouseExited(MouseEvent e) {
-                locationButton.setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+        Timer copyFeedbackTimer = new Timer(COPY_FEEDBACK_MILLIS, actionEventReceiver -> {
+            if (eventModel.getCopiedRow() == row) {
+                eventModel.setCopiedRow(-1);
             }
         });
+        copyFeedbackTimer.setRepeats(false);
+        copyFeedbackTimer.start();
     }
 }
\ No newline at end of file
@@ -0,0 +1,302 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reading and writing the binary catalogue of the static Starbower table data.
+ * The catalogue is a header followed by three sections of fixed-width records and a string pool:
+ * DynamicEvents sorted by ID with their Kind ID, Festival Category ID and name, Map name and display name references,
+ * Kinds sorted by ID with their message reference, and Festivals sorted by start with their Category name reference
+ * and start and end epoch seconds in UTC.
+ * Each string pool entry is an unsigned short length followed by the UTF-8 bytes, and repeated strings are stored once.
+ * A catalogue file is memory-mapped, so a record is read straight from the mapped buffer without parsing,
+ * and a string is only created when it is asked for.
+ */
+public class CatalogueFile {
+    private static final int MAGIC = 0x53424354;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int EVENT_RECORD_SIZE = 24;
+    private static final int KIND_RECORD_SIZE = 8;
+    private static final int FESTIVAL_RECORD_SIZE = 24;
+    private static final int NO_FESTIVAL_CATEGORY = -1;
+
+    private final ByteBuffer CatalogueBuffer;
+    private final int EventCount, KindCount, FestivalCount;
+    private final int KindOffset, FestivalOffset, StringPoolOffset;
+
+    private CatalogueFile(ByteBuffer catalogueBuffer) {
+        this.CatalogueBuffer = catalogueBuffer;
+        this.EventCount = catalogueBuffer.getInt(12);
+        this.KindCount = catalogueBuffer.getInt(16);
+        this.FestivalCount = catalogueBuffer.getInt(20);
+        this.KindOffset = HEADER_SIZE + EventCount * EVENT_RECORD_SIZE;
+        this.FestivalOffset = KindOffset + KindCount * KIND_RECORD_SIZE;
+        this.StringPoolOffset = FestivalOffset + FestivalCount * FESTIVAL_RECORD_SIZE;
+    }
+
+    public String getVersionName() {return getString(CatalogueBuffer.getInt(8));}
+
+    public int getEventCount() {return EventCount;}
+    public int getEventID(int record) {return CatalogueBuffer.getInt(getEventOffset(record));}
+    public int getEventKindID(int record) {return CatalogueBuffer.getInt(getEventOffset(record) + 4);}
+    public int getEventFestivalCategoryID(int record) {return CatalogueBuffer.getInt(getEventOffset(record) + 8);}
+    public String getEventName(int record) {return getString(CatalogueBuffer.getInt(getEventOffset(record) + 12));}
+    public String getEventMapName(int record) {return getString(CatalogueBuffer.getInt(getEventOffset(record) + 16));}
+    public String getEventDisplayName(int record) {return getString(CatalogueBuffer.getInt(getEventOffset(record) + 20));}
+
+    public int getKindCount() {return KindCount;}
+    public int getKindID(int record) {return CatalogueBuffer.getInt(KindOffset + record * KIND_RECORD_SIZE);}
+    public String getKindMessage(int record) {return getString(CatalogueBuffer.getInt(KindOffset + record * KIND_RECORD_SIZE + 4));}
+
+    public int getFestivalCount() {return FestivalCount;}
+    public int getFestivalCategoryID(int record) {return CatalogueBuffer.getInt(FestivalOffset + record * FESTIVAL_RECORD_SIZE);}
+    public String getFestivalName(int record) {return getString(CatalogueBuffer.getInt(FestivalOffset + record * FESTIVAL_RECORD_SIZE + 4));}
+    public long getFestivalStartSecond(int record) {return CatalogueBuffer.getLong(FestivalOffset + record * FESTIVAL_RECORD_SIZE + 8);}
+    public long getFestivalEndSecond(int record) {return CatalogueBuffer.getLong(FestivalOffset + record * FESTIVAL_RECORD_SIZE + 16);}
+
+    public boolean hasFestivalCategory(int record) {return getEventFestivalCategoryID(record) != NO_FESTIVAL_CATEGORY;}
+
+    /**
+     * Find the record of a DynamicEvent with a binary search of the DynamicEvent IDs.
+     *
+     * @param dynamicEventID    the DynamicEvent ID
+     * @return                  the position of the DynamicEvent record, or -1 if there is no DynamicEvent with the ID
+     */
+    public int findEvent(int dynamicEventID) {
+        int low = 0;
+        int high = EventCount - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleID = getEventID(middle);
+
+            if (middleID < dynamicEventID) {
+                low = middle + 1;
+            }
+            else if (middleID > dynamicEventID) {
+                high = middle - 1;
+            }
+            else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the byte offset of a DynamicEvent record.
+     *
+     * @param record    the position of the DynamicEvent record
+     * @return          the byte offset of the record in the catalogue
+     */
+    private int getEventOffset(int record) {
+        return HEADER_SIZE + record * EVENT_RECORD_SIZE;
+    }
+
+    /**
+     * Decode a string from the string pool.
+     *
+     * @param reference the byte offset of the string in the string pool
+     * @return          the decoded string
+     */
+    private String getString(int reference) {
+        int position = StringPoolOffset + reference;
+        int length = Short.toUnsignedInt(CatalogueBuffer.getShort(position));
+
+        byte[] stringBytes = new byte[length];
+        CatalogueBuffer.get(position + 2, stringBytes);
+        return new String(stringBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Build a catalogue in memory from the database.
+     * Get every DynamicEvent with its display name, the Festival Category of every Festival DynamicEvent,
+     * the message of every Kind, every Festival and the version name, and encode them into a catalogue buffer.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     *
+     * @return                      a CatalogueFile class backed by a heap buffer
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static CatalogueFile build(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        List<DynamicEvent> notificationEventList = QueryHandler.getNotificationEventList(databaseConnection, sqlQueries);
+        Map<Integer, Integer> festivalCategoryIDMap = QueryHandler.getFestivalCategoryIDMap(databaseConnection, sqlQueries);
+        Map<Integer, String> kindMessageMap = new TreeMap<>(QueryHandler.getKindMessageMap(databaseConnection, sqlQueries));
+        List<Festival> festivalList = QueryHandler.getFestivalList(databaseConnection, sqlQueries);
+        String versionName = QueryHandler.getVersionName(databaseConnection, sqlQueries);
+
+        notificationEventList.sort(Comparator.comparing(DynamicEvent::getID));
+
+        ByteArrayOutputStream stringPool = new ByteArrayOutputStream();
+        Map<String, Integer> stringReferenceMap = new HashMap<>();
+
+        int recordsSize = notificationEventList.size() * EVENT_RECORD_SIZE + kindMessageMap.size() * KIND_RECORD_SIZE + festivalList.size() * FESTIVAL_RECORD_SIZE;
+        ByteBuffer recordBuffer = ByteBuffer.allocate(HEADER_SIZE + recordsSize);
+
+        recordBuffer.putInt(MAGIC);
+        recordBuffer.putInt(FORMAT_VERSION);
+        recordBuffer.putInt(addString(stringPool, stringReferenceMap, versionName));
+        recordBuffer.putInt(notificationEventList.size());
+        recordBuffer.putInt(kindMessageMap.size());
+        recordBuffer.putInt(festivalList.size());
+        recordBuffer.position(HEADER_SIZE);
+
+        for (DynamicEvent dynamicEvent : notificationEventList) {
+            recordBuffer.putInt(dynamicEvent.getID());
+            recordBuffer.putInt(dynamicEvent.getKindID());
+            recordBuffer.putInt(festivalCategoryIDMap.getOrDefault(dynamicEvent.getID(), NO_FESTIVAL_CATEGORY));
+            recordBuffer.putInt(addString(stringPool, stringReferenceMap, dynamicEvent.getName()));
+            recordBuffer.putInt(addString(stringPool, stringReferenceMap, dynamicEvent.getMapName()));
+            recordBuffer.putInt(addString(stringPool, stringReferenceMap, dynamicEvent.getDisplayName()));
+        }
+
+        for (Map.Entry<Integer, String> kindMessage : kindMessageMap.entrySet()) {
+            recordBuffer.putInt(kindMessage.getKey());
+            recordBuffer.putInt(addString(stringPool, stringReferenceMap, kindMessage.getValue()));
+        }
+
+        for (Festival festival : festivalList) {
+            recordBuffer.putInt(festival.getCategoryID());
+            recordBuffer.putInt(addString(stringPool, stringReferenceMap, festival.getName()));
+            recordBuffer.putLong(festival.getStartDate().toEpochSecond(ZoneOffset.UTC));
+            recordBuffer.putLong(festival.getEndDate().toEpochSecond(ZoneOffset.UTC));
+        }
+
+        byte[] stringPoolBytes = stringPool.toByteArray();
+        recordBuffer.putInt(24, stringPoolBytes.length);
+
+        ByteBuffer catalogueBuffer = ByteBuffer.allocate(recordBuffer.capacity() + stringPoolBytes.length);
+        catalogueBuffer.put(recordBuffer.array()).put(stringPoolBytes).flip();
+
+        return new CatalogueFile(catalogueBuffer);
+    }
+
+    /**
+     * Add a string to the string pool unless it is already there.
+     *
+     * @param stringPool            the string pool bytes written so far
+     * @param stringReferenceMap    a map of the strings in the string pool to their byte offsets
+     * @param string                the string to add
+     *
+     * @return                      the byte offset of the string in the string pool
+     */
+    private static int addString(ByteArrayOutputStream stringPool, Map<String, Integer> stringReferenceMap, String string) {
+        Integer reference = stringReferenceMap.get(string);
+
+        if (reference == null) {
+            byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+
+            if (stringBytes.length > 0xFFFF) {
+                throw new IllegalArgumentException("String too long for the catalogue: " + string.substring(0, 50));
+            }
+
+            reference = stringPool.size();
+            stringPool.write(stringBytes.length >>> 8);
+            stringPool.write(stringBytes.length);
+            stringPool.writeBytes(stringBytes);
+
+            stringReferenceMap.put(string, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Write the catalogue to a temporary file next to the catalogue file and move it over the catalogue file,
+     * so a catalogue file is never left half written.
+     *
+     * @param catalogueFile the path of the catalogue file
+     * @throws IOException  the catalogue file could not be written
+     */
+    public void write(Path catalogueFile) throws IOException {
+        Path temporaryFile = catalogueFile.resolveSibling(catalogueFile.getFileName() + ".tmp");
+
+        try (FileChannel fileChannel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer writeBuffer = CatalogueBuffer.duplicate().rewind();
+
+            while (writeBuffer.hasRemaining()) {
+                fileChannel.write(writeBuffer);
+            }
+        }
+        Files.move(temporaryFile, catalogueFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read the header of a catalogue file and memory-map the file if it is a complete catalogue
+     * of the current format for the expected version of Starbower.
+     * The header is read before mapping, so a file that is not mapped can still be replaced on every platform.
+     *
+     * @param catalogueFile         the path of the catalogue file
+     * @param expectedVersionName   the version name the catalogue must have been built for
+     *
+     * @return                      a CatalogueFile class backed by the mapped file, or null if the file cannot be used
+     * @throws IOException          the catalogue file could not be read
+     */
+    public static CatalogueFile map(Path catalogueFile, String expectedVersionName) throws IOException {
+        if (!Files.exists(catalogueFile)) {
+            return null;
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(catalogueFile, StandardOpenOption.READ)) {
+            long fileSize = fileChannel.size();
+
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE);
+            fileChannel.read(headerBuffer, 0);
+
+            if (headerBuffer.getInt(0) != MAGIC || headerBuffer.getInt(4) != FORMAT_VERSION) {
+                return null;
+            }
+
+            long stringPoolOffset = HEADER_SIZE + (long) headerBuffer.getInt(12) * EVENT_RECORD_SIZE + (long) headerBuffer.getInt(16) * KIND_RECORD_SIZE
+                    + (long) headerBuffer.getInt(20) * FESTIVAL_RECORD_SIZE;
+
+            if (fileSize != stringPoolOffset + headerBuffer.getInt(24)) {
+                return null;
+            }
+
+            if (!readString(fileChannel, stringPoolOffset + headerBuffer.getInt(8)).equals(expectedVersionName)) {
+                return null;
+            }
+            return new CatalogueFile(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize));
+        }
+    }
+
+    /**
+     * Read a string pool entry from a file channel without mapping the file.
+     *
+     * @param fileChannel   the channel of the catalogue file
+     * @param position      the byte position of the string pool entry in the file
+     *
+     * @return              the decoded string
+     * @throws IOException  the catalogue file could not be read
+     */
+    private static String readString(FileChannel fileChannel, long position) throws IOException {
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(2);
+        fileChannel.read(lengthBuffer, position);
+
+        ByteBuffer stringBuffer = ByteBuffer.allocate(Short.toUnsignedInt(lengthBuffer.getShort(0)));
+        fileChannel.read(stringBuffer, position + 2);
+        return new String(stringBuffer.array(), StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -4,7 +4,7 @@ package com.paigegoldhagen.starbower;
  * Setting and getting Category information.
  */
 public class Category {
-    public Integer ID, NotifyStateID, ExpansionID;
+    public Integer ID, NotifyStateID;
     public String Name;
     public Boolean NotifyStateEnabled;
 
@@ -13,11 +13,6 @@ public class Category {
         this.Name = name;
     }
 
-    public Category(Integer id, Integer expansionID) {
-        this.ID = id;
-        this.ExpansionID = expansionID;
-    }
-
     public Category(Integer id, String name, Integer notifyStateID, Boolean notifyStateEnabled) {
         this.ID = id;
         this.Name = name;
@@ -29,5 +24,4 @@ public class Category {
     public String getName() {return Name;}
     public Integer getNotifyStateID() {return NotifyStateID;}
     public Boolean getNotifyStateEnabled() {return NotifyStateEnabled;}
-    public Integer getExpansionID() {return ExpansionID;}
 }
\ No newline at end of file
@@ -1,24 +1,46 @@
 package com.paigegoldhagen.starbower;
 
 import javax.swing.*;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
- * Adding listeners to checkboxes to trigger database updates and component repainting.
+ * Adding listeners to Category checkboxes and DynamicEvent tables to trigger database updates and component repainting,
+ * and adding a popup menu to them for overriding the notification reminder time.
  */
 public class CheckboxHandler implements QueryHandler {
+    private static final String TOGGLE_ACTION_NAME = "toggleNotifyState";
+
     /**
-     * Add a listener for each checkbox to update the NotifyState database table with the checkbox selected state.
-     * Update the NotifyState table and repaint checkboxes if the checkbox changed was a Category checkbox.
+     * Add a listener for each Category checkbox to update the NotifyState database table with the checkbox selected state.
+     * Update the NotifyState table and the DynamicEvent tables if the checkbox changed was a Category checkbox.
+     * Add listeners to each DynamicEvent table to update the NotifyState of a row when its checkbox cell is clicked
+     * or the space key is pressed on the selected row.
+     * Set the notification reminder time popup menu of each checkbox and DynamicEvent table.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param checkboxList          a list of all JCheckbox components displayed on the GUI
+     * @param settings              the typed snapshot of the user preferences
+     * @param checkboxList          a list of all Category JCheckbox components displayed on the GUI
+     * @param eventTableList        a list of all DynamicEvent tables displayed on the GUI
      */
-    public static void addCheckboxListeners(Connection databaseConnection, Queries sqlQueries, List<JCheckBox> checkboxList) {
+    public static void addCheckboxListeners(Connection databaseConnection, Queries sqlQueries, Settings settings, List<JCheckBox> checkboxList, List<EventTable> eventTableList) {
         for (JCheckBox checkbox : checkboxList) {
+            int checkboxNotifyStateID = Integer.parseInt(checkbox.getName());
+            checkbox.setComponentPopupMenu(createNotifyMinutesMenu(databaseConnection, sqlQueries, settings, () -> checkboxNotifyStateID));
+
             checkbox.addItemListener(itemEventReceiver -> {
                 int notifyStateID = Integer.parseInt(checkbox.getName());
                 boolean notifyStateEnabled = checkbox.isSelected();
@@ -30,7 +52,7 @@ public class CheckboxHandler implements QueryHandler {
 
                     for (Integer categoryNotifyStateID : categoryNotifyStateIDList) {
                         if (categoryNotifyStateID.equals(notifyStateID)) {
-                            updateDynamicEventNotifyStates(databaseConnection, sqlQueries, checkboxList, notifyStateID, notifyStateEnabled);
+                            updateDynamicEventNotifyStates(databaseConnection, sqlQueries, eventTableList, notifyStateID, notifyStateEnabled);
                             break;
                         }
                     }
@@ -40,51 +62,181 @@ public class CheckboxHandler implements QueryHandler {
                 }
             });
         }
+
+        for (EventTable eventTable : eventTableList) {
+            eventTable.setComponentPopupMenu(createNotifyMinutesMenu(databaseConnection, sqlQueries, settings, eventTable::getPopupNotifyStateID));
+            addEventTableListeners(databaseConnection, sqlQueries, eventTable);
+        }
+    }
+
+    /**
+     * Add a mouse listener that toggles the NotifyState of a clicked checkbox cell,
+     * and a space key action that toggles the NotifyState of the selected row.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param eventTable            the DynamicEvent table to add the listeners onto
+     */
+    private static void addEventTableListeners(Connection databaseConnection, Queries sqlQueries, EventTable eventTable) {
+        eventTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent mouseEvent) {
+                int row = eventTable.rowAtPoint(mouseEvent.getPoint());
+
+                if (SwingUtilities.isLeftMouseButton(mouseEvent) && row >= 0 && eventTable.columnAtPoint(mouseEvent.getPoint()) == EventTableModel.CHECKBOX_COLUMN) {
+                    toggleNotifyState(databaseConnection, sqlQueries, eventTable, row);
+                }
+            }
+        });
+
+        eventTable.getInputMap(JComponent.WHEN_FOCUSED).put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0), TOGGLE_ACTION_NAME);
+        eventTable.getActionMap().put(TOGGLE_ACTION_NAME, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent actionEventReceiver) {
+                int row = eventTable.getSelectionModel().getLeadSelectionIndex();
+
+                if (row >= 0 && row < eventTable.getRowCount()) {
+                    toggleNotifyState(databaseConnection, sqlQueries, eventTable, row);
+                }
+            }
+        });
+    }
+
+    /**
+     * Update the NotifyState database table with the opposite of the NotifyState enabled boolean of a DynamicEvent table row,
+     * and repaint the checkbox cell of the row.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param eventTable            the DynamicEvent table of the row
+     * @param row                   the row index
+     */
+    private static void toggleNotifyState(Connection databaseConnection, Queries sqlQueries, EventTable eventTable, int row) {
+        EventRow eventRow = eventTable.getEventModel().getEventRow(row);
+        boolean notifyStateEnabled = !eventRow.getNotifyStateEnabled();
+
+        try {
+            QueryHandler.updateNotifyState(databaseConnection, sqlQueries, eventRow.getNotifyStateID(), notifyStateEnabled);
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+        eventTable.getEventModel().setNotifyStateEnabled(row, notifyStateEnabled);
     }
 
     /**
      * Get the Category ID associated with the NotifyState ID, get a list of all DynamicEvents with that Category ID,
-     * and update the NotifyState database table for each DynamicEvent NotifyState ID.
+     * update the NotifyState database table for each DynamicEvent NotifyState ID,
+     * and update the matching rows of the DynamicEvent tables.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param checkboxList          a list of all JCheckbox components displayed on the GUI
+     * @param eventTableList        a list of all DynamicEvent tables displayed on the GUI
      * @param notifyStateID         the NotifyState ID from the checkbox name
      * @param notifyStateEnabled    the selected state of the checkbox
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void updateDynamicEventNotifyStates(Connection databaseConnection, Queries sqlQueries, List<JCheckBox> checkboxList, Integer notifyStateID, Boolean notifyStateEnabled) throws SQLException {
+    private static void updateDynamicEventNotifyStates(Connection databaseConnection, Queries sqlQueries, List<EventTable> eventTableList, Integer notifyStateID, Boolean notifyStateEnabled) throws SQLException {
         int categoryID = QueryHandler.getNotifyStateCategoryID(databaseConnection, sqlQueries, notifyStateID);
         List<DynamicEvent> dynamicEventList = QueryHandler.getDynamicEventList(databaseConnection, sqlQueries, categoryID);
+        Set<Integer> dynamicEventNotifyStateIDSet = new HashSet<>();
 
         for (DynamicEvent dynamicEvent : dynamicEventList) {
-            int dynamicEventNotifyStateID = dynamicEvent.getNotifyStateID();
+            QueryHandler.updateNotifyState(databaseConnection, sqlQueries, dynamicEvent.getNotifyStateID(), notifyStateEnabled);
+            dynamicEventNotifyStateIDSet.add(dynamicEvent.getNotifyStateID());
+        }
+
+        for (EventTable eventTable : eventTableList) {
+            eventTable.getEventModel().setNotifyStatesEnabled(dynamicEventNotifyStateIDSet, notifyStateEnabled);
+        }
+    }
 
-            QueryHandler.updateNotifyState(databaseConnection, sqlQueries, dynamicEventNotifyStateID, notifyStateEnabled);
-            updateCheckboxes(databaseConnection, sqlQueries, checkboxList, dynamicEventNotifyStateID);
+    /**
+     * Create a popup menu with an item for the default notification reminder times and an item for each
+     * selectable reminder time. Select the item matching the NotifyState override each time the menu is shown
+     * and update the override in the NotifyState table when an item is chosen.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param settings              the typed snapshot of the user preferences
+     * @param notifyStateID         the NotifyState ID of the checkbox or DynamicEvent table row the menu is shown on
+     *
+     * @return                      the notification reminder time popup menu
+     */
+    private static JPopupMenu createNotifyMinutesMenu(Connection databaseConnection, Queries sqlQueries, Settings settings, Supplier<Integer> notifyStateID) {
+        JPopupMenu notifyMinutesMenu = new JPopupMenu();
+        ButtonGroup notifyMinutesGroup = new ButtonGroup();
+
+        addNotifyMinutesMenuItem(databaseConnection, sqlQueries, notifyMinutesMenu, notifyMinutesGroup, notifyStateID, null, "Use default reminder times");
+        notifyMinutesMenu.addSeparator();
+
+        for (Integer notifyMinutes : settings.getNotifyMinutesChoiceList()) {
+            String itemText = notifyMinutes == 0 ? "Remind me when it starts" : "Remind me " + notifyMinutes + " minutes before";
+            addNotifyMinutesMenuItem(databaseConnection, sqlQueries, notifyMinutesMenu, notifyMinutesGroup, notifyStateID, notifyMinutes, itemText);
         }
+
+        notifyMinutesMenu.addPopupMenuListener(new PopupMenuListener() {
+            @Override
+            public void popupMenuWillBecomeVisible(PopupMenuEvent popupMenuEventReceiver) {
+                try {
+                    selectNotifyMinutesMenuItem(notifyMinutesMenu, QueryHandler.getNotifyStateMinutes(databaseConnection, sqlQueries, notifyStateID.get()));
+                }
+                catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void popupMenuWillBecomeInvisible(PopupMenuEvent popupMenuEventReceiver) {}
+
+            @Override
+            public void popupMenuCanceled(PopupMenuEvent popupMenuEventReceiver) {}
+        });
+        return notifyMinutesMenu;
     }
 
     /**
-     * Get the NotifyState Enabled boolean using the DynamicEvent NotifyState ID and set the checkbox selected to the result.
-     * Validate and repaint the checkbox component.
+     * Create a radio button menu item for a notification reminder time, add it to the popup menu and button group,
+     * and add a listener to update the NotifyState override when the item is chosen.
      *
-     * @param databaseConnection        the connection to the Starbower relational database
-     * @param sqlQueries                a class for retrieving SQL query strings
-     * @param checkboxList              a list of all JCheckbox components displayed on the GUI
-     * @param dynamicEventNotifyStateID the NotifyState ID for a DynamicEvent
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param notifyMinutesMenu     the popup menu to add the item
+     * @param notifyMinutesGroup    the button group so only one item is selected
+     * @param notifyStateID         the NotifyState ID to update when the item is chosen
+     * @param notifyMinutes         the notification reminder time in minutes, or null for the default reminder times
+     * @param itemText              the menu item text string
+     */
+    private static void addNotifyMinutesMenuItem(Connection databaseConnection, Queries sqlQueries, JPopupMenu notifyMinutesMenu, ButtonGroup notifyMinutesGroup, Supplier<Integer> notifyStateID, Integer notifyMinutes, String itemText) {
+        JRadioButtonMenuItem notifyMinutesItem = new JRadioButtonMenuItem(itemText);
+        notifyMinutesItem.setName(notifyMinutes != null ? String.valueOf(notifyMinutes) : null);
+
+        notifyMinutesItem.addActionListener(actionEventReceiver -> {
+            try {
+                QueryHandler.updateNotifyStateMinutes(databaseConnection, sqlQueries, notifyStateID.get(), notifyMinutes);
+            }
+            catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        notifyMinutesGroup.add(notifyMinutesItem);
+        notifyMinutesMenu.add(notifyMinutesItem);
+    }
+
+    /**
+     * Select the popup menu item matching the notification reminder time override of a NotifyState.
      *
-     * @throws SQLException             the database could not be accessed or the table/column/row could not be found
+     * @param notifyMinutesMenu the notification reminder time popup menu
+     * @param notifyMinutes     the NotifyState override in minutes, or null for the default reminder times
      */
-    private static void updateCheckboxes(Connection databaseConnection, Queries sqlQueries, List<JCheckBox> checkboxList, Integer dynamicEventNotifyStateID) throws SQLException {
-        for (JCheckBox checkbox : checkboxList) {
-            if (checkbox.getName().equals(String.valueOf(dynamicEventNotifyStateID))) {
-                boolean notifyStateEnabled = QueryHandler.getNotifyStateEnabled(databaseConnection, sqlQueries, dynamicEventNotifyStateID);
+    private static void selectNotifyMinutesMenuItem(JPopupMenu notifyMinutesMenu, Integer notifyMinutes) {
+        String itemName = notifyMinutes != null ? String.valueOf(notifyMinutes) : null;
 
-                checkbox.setSelected(notifyStateEnabled);
-                checkbox.validate();
-                checkbox.repaint();
+        for (Component component : notifyMinutesMenu.getComponents()) {
+            if (component instanceof JRadioButtonMenuItem notifyMinutesItem) {
+                notifyMinutesItem.setSelected(Objects.equals(notifyMinutesItem.getName(), itemName));
             }
         }
     }
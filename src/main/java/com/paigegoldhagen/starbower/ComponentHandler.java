@@ -4,10 +4,13 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.lang.reflect.InvocationTargetException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.prefs.Preferences;
 
 /**
@@ -74,25 +77,49 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
     /**
      * Get a list of all Expansions and create an expansion panel using the Expansion ID.
      * Create a scroll pane with the expansion panel and add the scroll pane to the tabbed pane.
-     * Add a listener to the tabbed pane.
+     * Add the Upcoming tab after the Expansion tabs and add a listener to the tabbed pane for each tab.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param frame                 the visual window for GUI components
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared with the notification sender
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param searchIndex           the search index to add all created DynamicEvent tables
      * @param tabbedPane            a collection of scroll pane components separated by tabs
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static void populateTabbedPane(Connection databaseConnection, Queries sqlQueries, JFrame frame, JTabbedPane tabbedPane) throws SQLException {
+    static void populateTabbedPane(Connection databaseConnection, Queries sqlQueries, Settings settings, FestivalCalendar festivalCalendar, UpcomingEvents upcomingEvents, Clock utcClock, EventSearchIndex searchIndex, JTabbedPane tabbedPane) throws SQLException {
         List<Expansion> expansionList = QueryHandler.getExpansionList(databaseConnection, sqlQueries);
 
         for (Expansion expansion : expansionList) {
-            JPanel expansionPanel = createExpansionPanel(databaseConnection, sqlQueries, frame, expansion.getID());
+            JPanel expansionPanel = createExpansionPanel(databaseConnection, sqlQueries, settings, festivalCalendar, utcClock, searchIndex, expansion.getID());
             JScrollPane scrollPane = createScrollPane(expansionPanel);
 
             tabbedPane.add(expansion.getName(), scrollPane);
             addTabbedPaneListener(tabbedPane, scrollPane);
         }
+
+        JPanel upcomingPanel = createUpcomingPanel(upcomingEvents, utcClock);
+        JScrollPane upcomingScrollPane = createScrollPane(upcomingPanel);
+
+        tabbedPane.add("Upcoming", upcomingScrollPane);
+        addTabbedPaneListener(tabbedPane, upcomingScrollPane);
+    }
+
+    /**
+     * Create an Upcoming panel inside an Expansion panel and schedule the Upcoming component updater.
+     *
+     * @param upcomingEvents    the upcoming DynamicEvent indexes shared with the notification sender
+     * @param utcClock          the clock giving the current instant in UTC
+     * @return                  an Expansion panel containing the Upcoming panel
+     */
+    private static JPanel createUpcomingPanel(UpcomingEvents upcomingEvents, Clock utcClock) {
+        JPanel upcomingPanel = newPanel();
+        UpcomingComponents.scheduleUpcomingComponentUpdater(upcomingEvents, utcClock, upcomingPanel);
+
+        return getExpansionPanel(List.of(upcomingPanel));
     }
 
     /**
@@ -100,14 +127,17 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param frame                 the visual window for GUI components
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param searchIndex           the search index to add all created DynamicEvent tables
      * @param expansionID           an Expansion ID to get related categories
      *
      * @return                      an Expansion panel containing Category panels
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static JPanel createExpansionPanel(Connection databaseConnection, Queries sqlQueries, JFrame frame, Integer expansionID) throws SQLException {
-        List<JPanel> categoryPanelList = getCategoryPanelList(databaseConnection, sqlQueries, frame, expansionID);
+    private static JPanel createExpansionPanel(Connection databaseConnection, Queries sqlQueries, Settings settings, FestivalCalendar festivalCalendar, Clock utcClock, EventSearchIndex searchIndex, Integer expansionID) throws SQLException {
+        List<JPanel> categoryPanelList = getCategoryPanelList(databaseConnection, sqlQueries, settings, festivalCalendar, utcClock, searchIndex, expansionID);
         return getExpansionPanel(categoryPanelList);
     }
 
@@ -184,22 +214,28 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
     }
 
     /**
-     * Create Category panels with the Expansion ID and add listeners to all created checkboxes.
+     * Create Category panels with the Expansion ID, add listeners to all created checkboxes and DynamicEvent tables,
+     * and add the DynamicEvent tables to the search index.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param frame                 the visual window for GUI components
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param searchIndex           the search index to add all created DynamicEvent tables
      * @param expansionID           an Expansion ID to get related categories
      *
      * @return                      a list of populated Category panels
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static List<JPanel> getCategoryPanelList(Connection databaseConnection, Queries sqlQueries, JFrame frame, Integer expansionID) throws SQLException {
+    private static List<JPanel> getCategoryPanelList(Connection databaseConnection, Queries sqlQueries, Settings settings, FestivalCalendar festivalCalendar, Clock utcClock, EventSearchIndex searchIndex, Integer expansionID) throws SQLException {
         List<JPanel> categoryPanelList = new ArrayList<>();
         List<JCheckBox> checkboxList = new ArrayList<>();
+        List<EventTable> eventTableList = new ArrayList<>();
 
-        createCategoryPanels(databaseConnection, sqlQueries, frame, expansionID, categoryPanelList, checkboxList);
-        CheckboxHandler.addCheckboxListeners(databaseConnection, sqlQueries, checkboxList);
+        createCategoryPanels(databaseConnection, sqlQueries, settings, festivalCalendar, utcClock, searchIndex, expansionID, categoryPanelList, checkboxList, eventTableList);
+        CheckboxHandler.addCheckboxListeners(databaseConnection, sqlQueries, settings, checkboxList, eventTableList);
+        searchIndex.addEventTables(eventTableList);
 
         return categoryPanelList;
     }
@@ -207,31 +243,36 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
     /**
      * Get Categories associated with the Expansion ID and create Category panels for each Category.
      * Get the Expansion ID of the last Expansion and create a festival panel if the Expansion ID is the last expansion ID.
+     * The festival panel keeps its own DynamicEvent table list, as its updater replaces the tables on the event dispatch thread.
      * Add the created panels to the category panel list.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param frame                 the visual window for GUI components
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param searchIndex           the search index to add all created DynamicEvent tables
      * @param expansionID           an Expansion ID to get related categories
      * @param categoryPanelList     the list to add the Category panels
      * @param checkboxList          the list to add all created checkboxes
+     * @param eventTableList        the list to add all created DynamicEvent tables
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void createCategoryPanels(Connection databaseConnection, Queries sqlQueries, JFrame frame, Integer expansionID, List<JPanel> categoryPanelList, List<JCheckBox> checkboxList) throws SQLException {
+    private static void createCategoryPanels(Connection databaseConnection, Queries sqlQueries, Settings settings, FestivalCalendar festivalCalendar, Clock utcClock, EventSearchIndex searchIndex, Integer expansionID, List<JPanel> categoryPanelList, List<JCheckBox> checkboxList, List<EventTable> eventTableList) throws SQLException {
         Integer lastExpansionID = QueryHandler.getLastExpansionID(databaseConnection, sqlQueries);
         List<Category> categoryList = QueryHandler.getCategoryList(databaseConnection, sqlQueries, expansionID);
 
         for (Category category : categoryList) {
             if (expansionID.equals(lastExpansionID)) {
                 JPanel festivalPanel = newPanel();
-                FestivalComponents.scheduleFestivalComponentUpdater(databaseConnection, sqlQueries, frame, festivalPanel, checkboxList);
+                FestivalComponents.scheduleFestivalComponentUpdater(databaseConnection, sqlQueries, settings, festivalCalendar, utcClock, searchIndex, festivalPanel, checkboxList, new ArrayList<>());
                 categoryPanelList.add(festivalPanel);
                 break;
             }
             else {
                 JPanel categoryPanel = newPanel();
-                populateCategoryPanel(databaseConnection, sqlQueries, frame, categoryPanel, checkboxList, category);
+                populateCategoryPanel(databaseConnection, sqlQueries, categoryPanel, checkboxList, eventTableList, category);
                 categoryPanelList.add(categoryPanel);
             }
         }
@@ -243,14 +284,14 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param frame                 the visual window for GUI components
      * @param categoryPanel         the panel to add Category components, separator and DynamicEvent components
      * @param checkboxList          a list to add all created checkboxes
+     * @param eventTableList        a list to add all created DynamicEvent tables
      * @param category              a class for retrieving Category information
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void populateCategoryPanel(Connection databaseConnection, Queries sqlQueries, JFrame frame, JPanel categoryPanel, List<JCheckBox> checkboxList, Category category) throws SQLException {
+    private static void populateCategoryPanel(Connection databaseConnection, Queries sqlQueries, JPanel categoryPanel, List<JCheckBox> checkboxList, List<EventTable> eventTableList, Category category) throws SQLException {
         GridBagConstraints layout = new GridBagConstraints();
         LayoutHandler.setCategoryPanelLayout(layout);
 
@@ -265,7 +306,7 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
         addSeparator(categoryPanel, layout, rowCount);
         rowCount += 1;
 
-        addDynamicEventComponents(databaseConnection, sqlQueries, frame, categoryPanel, checkboxList, layout, rowCount, categoryID, categoryName);
+        addDynamicEventComponents(databaseConnection, sqlQueries, categoryPanel, eventTableList, layout, rowCount, categoryID, categoryName);
     }
 
     /**
@@ -284,9 +325,9 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     private static void addCategoryComponents(Connection databaseConnection, Queries sqlQueries, JPanel categoryPanel, List<JCheckBox> checkboxList, GridBagConstraints layout, Integer rowCount, Integer categoryID, String categoryName) throws SQLException {
-        int categoryNotifyStateID = QueryHandler.getNotifyStateID(databaseConnection, sqlQueries, categoryID);
+        Integer categoryNotifyStateID = QueryHandler.getNotifyStateID(databaseConnection, sqlQueries, categoryID);
 
-        if (categoryNotifyStateID != 0) {
+        if (categoryNotifyStateID != null) {
             boolean categoryNotifyStateEnabled = QueryHandler.getNotifyStateEnabled(databaseConnection, sqlQueries, categoryNotifyStateID);
             addCategoryCheckbox(categoryPanel, checkboxList, layout, rowCount, categoryName, categoryNotifyStateID, categoryNotifyStateEnabled);
         }
@@ -374,13 +415,13 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
 
     /**
      * Update the Category panel layout and get the DynamicEvents associated with a Category ID.
-     * For each DynamicEvent, determine the DynamicEvent name and location and create a DynamicEvent checkbox and location button.
+     * For each DynamicEvent, determine the DynamicEvent name and location and create a DynamicEvent table row,
+     * then create one DynamicEvent table with all the rows.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param frame                 the visual window for GUI components
-     * @param categoryPanel         the panel to add DynamicEvent components
-     * @param checkboxList          a list to add all created checkboxes
+     * @param categoryPanel         the panel to add the DynamicEvent table
+     * @param eventTableList        a list to add all created DynamicEvent tables
      * @param layout                a class for setting visual constraints for GUI components
      * @param rowCount              the current row within the layout
      * @param categoryID            the Category ID to get a list of DynamicEvents
@@ -388,11 +429,11 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void addDynamicEventComponents(Connection databaseConnection, Queries sqlQueries, JFrame frame, JPanel categoryPanel, List<JCheckBox> checkboxList, GridBagConstraints layout, Integer rowCount, Integer categoryID, String categoryName) throws SQLException {
+    private static void addDynamicEventComponents(Connection databaseConnection, Queries sqlQueries, JPanel categoryPanel, List<EventTable> eventTableList, GridBagConstraints layout, Integer rowCount, Integer categoryID, String categoryName) throws SQLException {
         LayoutHandler.updateCategoryPanelLayout(layout);
-        int startRow = rowCount;
 
         List<DynamicEvent> dynamicEventList = QueryHandler.getDynamicEventList(databaseConnection, sqlQueries, categoryID);
+        List<EventRow> eventRowList = new ArrayList<>();
 
         for (DynamicEvent dynamicEvent : dynamicEventList) {
             String dynamicEventName = dynamicEvent.getName();
@@ -400,6 +441,7 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
             String waypointName = dynamicEvent.getWaypointName();
             String waypointLink = dynamicEvent.getWaypointLink();
             String tooltipText = "Copy Waypoint link";
+            String searchText = String.join(" ", dynamicEventName, mapName, waypointName, categoryName);
 
             String dynamicEventLocation = mapName;
 
@@ -415,86 +457,29 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
                 tooltipText = "Copy nearest Waypoint link";
             }
 
-            addDynamicEventCheckbox(categoryPanel, checkboxList, layout, rowCount, dynamicEventName, dynamicEvent.getNotifyStateID(), dynamicEvent.getNotifyStateEnabled());
-            rowCount += 1;
-            addLocationButton(frame, categoryPanel, layout, startRow, dynamicEventLocation, waypointLink, tooltipText);
-            startRow += 1;
+            eventRowList.add(new EventRow(dynamicEventName, dynamicEvent.getNotifyStateID(), dynamicEvent.getNotifyStateEnabled(), dynamicEventLocation, waypointLink, tooltipText, searchText));
         }
+        addEventTable(categoryPanel, eventTableList, layout, rowCount, eventRowList);
     }
 
     /**
-     * Create a DynamicEvent checkbox using the DynamicEvent name, NotifyState ID, and NotifyState enabled boolean.
-     * Set the DynamicEvent checkbox layout and add the checkbox to the checkbox list and Category panel.
-     *
-     * @param categoryPanel                     the panel to add the DynamicEvent checkbox
-     * @param checkboxList                      a list to add all created checkboxes
-     * @param layout                            a class for setting visual constraints for GUI components
-     * @param rowCount                          the current row within the layout
-     * @param dynamicEventName                  the DynamicEvent name string
-     * @param dynamicEventNotifyStateID         the NotifyState ID
-     * @param dynamicEventNotifyStateEnabled    the NotifyState enabled boolean
-     */
-    static void addDynamicEventCheckbox(JPanel categoryPanel, List<JCheckBox> checkboxList, GridBagConstraints layout, Integer rowCount, String dynamicEventName, Integer dynamicEventNotifyStateID, Boolean dynamicEventNotifyStateEnabled) {
-        JCheckBox dynamicEventCheckbox = createDynamicEventCheckbox(dynamicEventName, dynamicEventNotifyStateID, dynamicEventNotifyStateEnabled);
-        LayoutHandler.setDynamicEventCheckboxLayout(layout, rowCount);
-
-        checkboxList.add(dynamicEventCheckbox);
-        categoryPanel.add(dynamicEventCheckbox, layout);
-    }
-
-    /**
-     * Create a DynamicEvent checkbox with the DynamicEvent name as the text and NotifyState enabled boolean as the selected state.
-     * Set the checkbox name as the NotifyState ID.
-     *
-     * @param dynamicEventName                  the DynamicEvent name string
-     * @param dynamicEventNotifyStateID         the NotifyState ID
-     * @param dynamicEventNotifyStateEnabled    the NotifyState enabled boolean
-     *
-     * @return                                  a populated DynamicEvent checkbox
-     */
-    private static JCheckBox createDynamicEventCheckbox(String dynamicEventName, Integer dynamicEventNotifyStateID, Boolean dynamicEventNotifyStateEnabled) {
-        JCheckBox eventCheckbox = new JCheckBox(dynamicEventName, dynamicEventNotifyStateEnabled);
-        eventCheckbox.setName(String.valueOf(dynamicEventNotifyStateID));
-        return eventCheckbox;
-    }
-
-    /**
-     * Create a location button using the DynamicEvent location, waypoint link, and tooltip text.
-     * Add listeners to the button, set the button layout, and add the button to the Category panel.
+     * Create a DynamicEvent table with the DynamicEvent table rows and add the location column listeners using the ButtonHandler.
+     * Set the DynamicEvent table layout and add the table to the DynamicEvent table list and the panel.
      *
-     * @param frame                 the visual window for GUI components
-     * @param categoryPanel         the panel to add the button
-     * @param layout                a class for setting visual constraints for GUI components
-     * @param startRow              the starting row within the layout
-     * @param dynamicEventLocation  the Map name or Waypoint name string
-     * @param waypointLink          the Waypoint chat link string
-     * @param tooltipText           the tooltip text string for the button
+     * @param categoryPanel     the panel to add the DynamicEvent table
+     * @param eventTableList    a list to add all created DynamicEvent tables
+     * @param layout            a class for setting visual constraints for GUI components
+     * @param rowCount          the current row within the layout
+     * @param eventRowList      the DynamicEvent table rows
      */
-    static void addLocationButton(JFrame frame, JPanel categoryPanel, GridBagConstraints layout, Integer startRow, String dynamicEventLocation, String waypointLink, String tooltipText) {
-        JButton locationButton = createLocationButton(dynamicEventLocation, waypointLink, tooltipText);
-        ButtonHandler.addLocationButtonListeners(frame, locationButton);
+    static void addEventTable(JPanel categoryPanel, List<EventTable> eventTableList, GridBagConstraints layout, Integer rowCount, List<EventRow> eventRowList) {
+        EventTable eventTable = new EventTable(new EventTableModel(eventRowList));
+        ButtonHandler.addLocationColumnListeners(eventTable);
 
-        LayoutHandler.setLocationButtonLayout(layout, startRow);
-        categoryPanel.add(locationButton, layout);
-    }
+        LayoutHandler.setEventTableLayout(layout, rowCount);
 
-    /**
-     * Create a location button using the DynamicEvent location.
-     * Set the button name as the Waypoint link string and set the tooltip text.
-     * Set the horizontal alignment of the button contents.
-     *
-     * @param dynamicEventLocation  the Map name or Waypoint name string
-     * @param waypointLink          the Waypoint chat link string
-     * @param tooltipText           the tooltip text string for the button
-     *
-     * @return                      a populated location button
-     */
-    private static JButton createLocationButton(String dynamicEventLocation, String waypointLink, String tooltipText) {
-        JButton locationButton = new JButton(dynamicEventLocation);
-        locationButton.setName(waypointLink);
-        locationButton.setToolTipText(tooltipText);
-        locationButton.setHorizontalAlignment(SwingConstants.RIGHT);
-        return locationButton;
+        eventTableList.add(eventTable);
+        categoryPanel.add(eventTable, layout);
     }
 
     /**
@@ -521,6 +506,25 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
         countdownPanel.add(countdownLabel, layout);
     }
 
+    /**
+     * Create a label for an upcoming DynamicEvent and a label for its start time,
+     * set the labels using the DynamicEvent checkbox and location button layouts, and add the labels to the Upcoming panel.
+     *
+     * @param upcomingPanel     the panel to add the labels
+     * @param layout            a class for setting visual constraints for GUI components
+     * @param rowCount          the current row within the layout
+     * @param eventText         the start time and DynamicEvent name string
+     * @param startingInText    the amount of time until the DynamicEvent starts
+     */
+    static void addUpcomingEventLabels(JPanel upcomingPanel, GridBagConstraints layout, Integer rowCount, String eventText, String startingInText) {
+        LayoutHandler.setDynamicEventCheckboxLayout(layout, rowCount);
+        upcomingPanel.add(new JLabel(eventText), layout);
+
+        LayoutHandler.setLocationButtonLayout(layout, rowCount);
+        upcomingPanel.add(new JLabel(startingInText), layout);
+        layout.anchor = GridBagConstraints.FIRST_LINE_START;
+    }
+
     /**
      * Update the Category panel layout using the LayoutHandler interface.
      *
@@ -549,14 +553,45 @@ public interface ComponentHandler extends LayoutHandler, QueryHandler {
     }
 
     /**
-     * Add checkbox listeners for the Checkbox list using the CheckboxHandler.
+     * Add checkbox listeners for the Checkbox list and DynamicEvent table list using the CheckboxHandler.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
+     * @param settings              the typed snapshot of the user preferences
      * @param checkboxList          a list of all JCheckbox components displayed on the GUI
+     * @param eventTableList        a list of all DynamicEvent tables displayed on the GUI
      */
-    static void addCheckboxListeners(Connection databaseConnection, Queries sqlQueries, List<JCheckBox> checkboxList) {
-        CheckboxHandler.addCheckboxListeners(databaseConnection, sqlQueries, checkboxList);
+    static void addCheckboxListeners(Connection databaseConnection, Queries sqlQueries, Settings settings, List<JCheckBox> checkboxList, List<EventTable> eventTableList) {
+        CheckboxHandler.addCheckboxListeners(databaseConnection, sqlQueries, settings, checkboxList, eventTableList);
+    }
+
+    /**
+     * Wrap a task so that it runs on the event dispatch thread, confining the GUI components
+     * and the writer database connection to one thread. Wait for the task to finish
+     * and rethrow any exception it threw so the supervised task still records the failure.
+     *
+     * @param task  the work that updates GUI components
+     * @return      the work to run on a scheduled thread
+     */
+    static SupervisedTask.Task onEventDispatchThread(SupervisedTask.Task task) {
+        return () -> {
+            try {
+                SwingUtilities.invokeAndWait(() -> {
+                    try {
+                        task.run();
+                    }
+                    catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                });
+            }
+            catch (InvocationTargetException e) {
+                if (e.getCause() instanceof CompletionException taskFailure && taskFailure.getCause() instanceof Exception taskException) {
+                    throw taskException;
+                }
+                throw new RuntimeException(e.getCause());
+            }
+        };
     }
 
     /**
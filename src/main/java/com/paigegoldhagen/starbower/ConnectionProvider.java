@@ -0,0 +1,150 @@
+package com.paigegoldhagen.starbower;
+
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handing out connections to the Starbower embedded database so that no connection is shared between threads by accident.
+ * The single write connection is owned by the event dispatch thread: the GUI uses it there,
+ * the main thread only uses it to prepare the database before the GUI is built and any background thread starts,
+ * and background threads hand their writes, such as the once a day Schedule table update, to the event dispatch thread.
+ * Each background thread reading the database, such as the notification sender, gets its own read connection,
+ * so engine reads never wait on statements or result sets of the GUI.
+ * The read connection of a thread that has ended is closed the next time a read connection is opened.
+ * The database commits every statement, so a write is visible to every read connection as soon as it returns.
+ */
+public class ConnectionProvider implements AutoCloseable {
+    private final String DatabaseURL, UserName, Password;
+    private final Connection WriteConnection;
+    private final Map<Thread, Connection> ReadConnectionMap = new ConcurrentHashMap<>();
+
+    /**
+     * Writing to the database with the write connection.
+     */
+    public interface WriteTask {
+        void write(Connection writeConnection) throws SQLException;
+    }
+
+    /**
+     * Open the write connection to the database.
+     *
+     * @param databaseURL   the JDBC URL of the database
+     * @param userName      the database user name
+     * @param password      the database password
+     *
+     * @throws SQLException the database could not be accessed
+     */
+    public ConnectionProvider(String databaseURL, String userName, String password) throws SQLException {
+        this.DatabaseURL = databaseURL;
+        this.UserName = userName;
+        this.Password = password;
+        this.WriteConnection = DriverManager.getConnection(databaseURL, userName, password);
+    }
+
+    /**
+     * Get the single write connection, for use on the event dispatch thread,
+     * or on the main thread before the GUI is built and any background thread starts.
+     * Background threads write with {@link #write(WriteTask)} instead.
+     *
+     * @return  the write connection to the database
+     */
+    public Connection getWriteConnection() {
+        return WriteConnection;
+    }
+
+    /**
+     * Run a write with the write connection on the event dispatch thread, waiting for it to finish.
+     * The write runs straight away if the calling thread is the event dispatch thread.
+     * The calling thread must not hold a lock the event dispatch thread can wait for.
+     *
+     * @param writeTask     the write to run
+     * @throws SQLException the database could not be accessed, or the calling thread was interrupted while waiting
+     */
+    public void write(WriteTask writeTask) throws SQLException {
+        if (SwingUtilities.isEventDispatchThread()) {
+            writeTask.write(WriteConnection);
+            return;
+        }
+
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    writeTask.write(WriteConnection);
+                }
+                catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+        catch (InvocationTargetException e) {
+            if (e.getCause() instanceof CompletionException writeFailure && writeFailure.getCause() instanceof SQLException writeException) {
+                throw writeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the write on the event dispatch thread", e);
+        }
+    }
+
+    /**
+     * Get the read connection of the calling thread, opening a read-only connection the first time a thread asks for one.
+     * Close the read connections of threads that have ended before opening a new one.
+     *
+     * @return              the read connection of the calling thread
+     * @throws SQLException the database could not be accessed
+     */
+    public Connection getReadConnection() throws SQLException {
+        Thread currentThread = Thread.currentThread();
+        Connection readConnection = ReadConnectionMap.get(currentThread);
+
+        if (readConnection == null || readConnection.isClosed()) {
+            closeEndedThreadConnections();
+
+            readConnection = DriverManager.getConnection(DatabaseURL, UserName, Password);
+            readConnection.setReadOnly(true);
+            ReadConnectionMap.put(currentThread, readConnection);
+        }
+        return readConnection;
+    }
+
+    /**
+     * Close and forget the read connection of every thread that has ended, such as a pooled thread that was replaced.
+     *
+     * @throws SQLException the database could not be accessed
+     */
+    private void closeEndedThreadConnections() throws SQLException {
+        Iterator<Map.Entry<Thread, Connection>> readConnectionIterator = ReadConnectionMap.entrySet().iterator();
+
+        while (readConnectionIterator.hasNext()) {
+            Map.Entry<Thread, Connection> readConnection = readConnectionIterator.next();
+
+            if (!readConnection.getKey().isAlive()) {
+                readConnectionIterator.remove();
+                readConnection.getValue().close();
+            }
+        }
+    }
+
+    /**
+     * Close every read connection and then the write connection.
+     *
+     * @throws SQLException the database could not be accessed
+     */
+    @Override
+    public void close() throws SQLException {
+        for (Connection readConnection : ReadConnectionMap.values()) {
+            readConnection.close();
+        }
+        ReadConnectionMap.clear();
+        WriteConnection.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Reading the rows of a CSV stream one at a time into reused buffers.
+ * The fields of the current row are kept as offsets into one character buffer, so integers, booleans, times and dates
+ * are parsed straight from the characters and only string fields create a String.
+ * A field may be quoted with double quotes, using two double quotes for a literal double quote.
+ */
+public class CsvRowReader implements AutoCloseable {
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final Reader SourceReader;
+    private final char[] ReadBuffer = new char[READ_BUFFER_SIZE];
+    private int ReadPosition;
+    private int ReadLimit;
+
+    private char[] RowBuffer = new char[256];
+    private int RowLength;
+    private int[] FieldStartList = new int[16];
+    private int[] FieldEndList = new int[16];
+    private int FieldCount;
+
+    public CsvRowReader(InputStream inputStream) {
+        this.SourceReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    public int getFieldCount() {return FieldCount;}
+    public boolean isEmpty(int field) {return FieldStartList[field] == FieldEndList[field];}
+    public String getString(int field) {return new String(RowBuffer, FieldStartList[field], FieldEndList[field] - FieldStartList[field]);}
+
+    /**
+     * Read the next row into the row buffer, splitting the fields on commas outside of quotes
+     * and ending the row on a line feed or the end of the stream. Carriage returns outside of quotes are skipped.
+     *
+     * @return              true if a row was read, or false at the end of the stream
+     * @throws IOException  the stream could not be read
+     */
+    public boolean next() throws IOException {
+        int character = read();
+
+        if (character < 0) {
+            return false;
+        }
+
+        RowLength = 0;
+        FieldCount = 0;
+
+        int fieldStart = 0;
+        boolean isQuoted = false;
+
+        while (character >= 0) {
+            if (isQuoted) {
+                if (character == '"') {
+                    character = read();
+
+                    if (character != '"') {
+                        isQuoted = false;
+                        continue;
+                    }
+                }
+                append((char) character);
+            }
+            else if (character == '"') {
+                isQuoted = true;
+            }
+            else if (character == ',') {
+                addField(fieldStart);
+                fieldStart = RowLength;
+            }
+            else if (character == '\n') {
+                break;
+            }
+            else if (character != '\r') {
+                append((char) character);
+            }
+            character = read();
+        }
+        addField(fieldStart);
+
+        return true;
+    }
+
+    /**
+     * Parse a field as a decimal integer with an optional leading minus sign.
+     *
+     * @param field                     the position of the field in the row
+     * @return                          the integer value of the field
+     * @throws NumberFormatException    the field is not a decimal integer
+     */
+    public int getInt(int field) {
+        int position = FieldStartList[field];
+        int end = FieldEndList[field];
+        boolean isNegative = position < end && RowBuffer[position] == '-';
+
+        if (isNegative) {
+            position++;
+        }
+
+        if (position == end) {
+            throw new NumberFormatException("Not an integer: " + getString(field));
+        }
+
+        int value = 0;
+
+        for (; position < end; position++) {
+            int digit = RowBuffer[position] - '0';
+
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not an integer: " + getString(field));
+            }
+            value = value * 10 + digit;
+        }
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Parse a field as a boolean, where "1" and "true" in any case are true.
+     *
+     * @param field the position of the field in the row
+     * @return      the boolean value of the field
+     */
+    public boolean getBoolean(int field) {
+        int length = FieldEndList[field] - FieldStartList[field];
+
+        if (length == 1) {
+            return RowBuffer[FieldStartList[field]] == '1';
+        }
+        return length == 4 && getString(field).equalsIgnoreCase("true");
+    }
+
+    /**
+     * Parse a field in the form HH:mm:ss as a time.
+     *
+     * @param field the position of the field in the row
+     * @return      the time value of the field
+     */
+    public LocalTime getLocalTime(int field) {
+        int start = FieldStartList[field];
+        return LocalTime.of(getDigits(field, start, 2), getDigits(field, start + 3, 2), getDigits(field, start + 6, 2));
+    }
+
+    /**
+     * Parse a field in the form yyyy-MM-dd HH:mm:ss as a date and time.
+     *
+     * @param field the position of the field in the row
+     * @return      the date and time value of the field
+     */
+    public LocalDateTime getLocalDateTime(int field) {
+        int start = FieldStartList[field];
+        return LocalDateTime.of(getDigits(field, start, 4), getDigits(field, start + 5, 2), getDigits(field, start + 8, 2),
+                getDigits(field, start + 11, 2), getDigits(field, start + 14, 2), getDigits(field, start + 17, 2));
+    }
+
+    /**
+     * Parse a fixed number of decimal digits at a position in the row buffer.
+     *
+     * @param field                     the position of the field in the row, used when reporting a bad field
+     * @param position                  the position of the first digit in the row buffer
+     * @param digitCount                the number of digits to parse
+     *
+     * @return                          the value of the digits
+     * @throws NumberFormatException    the field is too short or a character is not a digit
+     */
+    private int getDigits(int field, int position, int digitCount) {
+        if (position + digitCount > FieldEndList[field]) {
+            throw new NumberFormatException("Field too short: " + getString(field));
+        }
+
+        int value = 0;
+
+        for (int end = position + digitCount; position < end; position++) {
+            int digit = RowBuffer[position] - '0';
+
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a digit in " + getString(field));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Read the next character from the read buffer, refilling the read buffer from the stream when it is empty.
+     *
+     * @return              the next character, or -1 at the end of the stream
+     * @throws IOException  the stream could not be read
+     */
+    private int read() throws IOException {
+        if (ReadPosition == ReadLimit) {
+            ReadLimit = SourceReader.read(ReadBuffer);
+            ReadPosition = 0;
+
+            if (ReadLimit <= 0) {
+                ReadLimit = 0;
+                return -1;
+            }
+        }
+        return ReadBuffer[ReadPosition++];
+    }
+
+    /**
+     * Append a character to the row buffer, growing the row buffer if it is full.
+     *
+     * @param character the character to append
+     */
+    private void append(char character) {
+        if (RowLength == RowBuffer.length) {
+            RowBuffer = Arrays.copyOf(RowBuffer, RowLength * 2);
+        }
+        RowBuffer[RowLength++] = character;
+    }
+
+    /**
+     * End the current field at the end of the row buffer, growing the field lists if they are full.
+     *
+     * @param fieldStart    the position of the first character of the field in the row buffer
+     */
+    private void addField(int fieldStart) {
+        if (FieldCount == FieldStartList.length) {
+            FieldStartList = Arrays.copyOf(FieldStartList, FieldCount * 2);
+            FieldEndList = Arrays.copyOf(FieldEndList, FieldCount * 2);
+        }
+        FieldStartList[FieldCount] = fieldStart;
+        FieldEndList[FieldCount] = RowLength;
+        FieldCount++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        SourceReader.close();
+    }
+}
\ No newline at end of file
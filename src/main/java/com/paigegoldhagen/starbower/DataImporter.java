@@ -0,0 +1,189 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Populating the database tables from the table data CSVs.
+ * Each CSV is streamed through a CsvRowReader and inserted with a batched prepared statement,
+ * and every table is populated in one transaction so a failed import leaves the tables empty.
+ * The CSV header names the columns, and each field is bound using the SQL type of its column.
+ */
+public class DataImporter {
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * Opening a table data CSV by file name.
+     */
+    public interface DataFileOpener {
+        InputStream open(String dataFileName) throws IOException;
+    }
+
+    /**
+     * Opening the table data CSVs bundled in the data resource folder.
+     */
+    public static final DataFileOpener BUNDLED_DATA = dataFileName -> FileHandler.getInputStream("data/" + dataFileName);
+
+    /**
+     * Read from the DataFiles CSV to get the data file names in the order the tables are populated
+     * and insert the rows of each data file into the table of the same name.
+     * Commit once every table is populated, or roll back if any row could not be read or inserted.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param dataFileOpener        a class to open the table data CSVs
+     *
+     * @throws IOException          a resource folder/file could not be found or read
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static void importData(Connection databaseConnection, DataFileOpener dataFileOpener) throws IOException, SQLException {
+        boolean autoCommit = databaseConnection.getAutoCommit();
+        databaseConnection.setAutoCommit(false);
+
+        try {
+            for (String dataFileName : ResourceHandler.getDataFileNames()) {
+                String tableName = dataFileName.substring(0, dataFileName.lastIndexOf("."));
+                InputStream stream = dataFileOpener.open(dataFileName);
+
+                if (stream == null) {
+                    throw new IOException("Data file not found: " + dataFileName);
+                }
+
+                try (CsvRowReader rowReader = new CsvRowReader(stream)) {
+                    importTable(databaseConnection, tableName, rowReader);
+                }
+            }
+            databaseConnection.commit();
+        }
+        catch (IOException | SQLException | RuntimeException exception) {
+            databaseConnection.rollback();
+            throw exception;
+        }
+        finally {
+            databaseConnection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Read the header row to get the column names, prepare an insert statement for the columns
+     * and add each following row to the batch, executing the batch every BATCH_SIZE rows.
+     * Blank lines are skipped.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param tableName             the name of the table to populate
+     * @param rowReader             a class to read the rows of the table data CSV
+     *
+     * @throws IOException          a resource folder/file could not be found or read
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static void importTable(Connection databaseConnection, String tableName, CsvRowReader rowReader) throws IOException, SQLException {
+        if (!rowReader.next()) {
+            return;
+        }
+
+        Map<String, Integer> columnTypeMap = getColumnTypeMap(databaseConnection, tableName);
+        int columnCount = rowReader.getFieldCount();
+        int[] columnTypeList = new int[columnCount];
+        List<String> columnNameList = new ArrayList<>();
+
+        for (int column = 0; column < columnCount; column++) {
+            String columnName = rowReader.getString(column).trim();
+            Integer columnType = columnTypeMap.get(columnName.toUpperCase());
+
+            if (columnType == null) {
+                throw new SQLException("Column " + columnName + " not found in table " + tableName);
+            }
+            columnTypeList[column] = columnType;
+            columnNameList.add(columnName);
+        }
+
+        String queryString = "INSERT INTO " + tableName + " (" + String.join(", ", columnNameList) + ") VALUES (" + "?, ".repeat(columnCount - 1) + "?)";
+
+        try (PreparedStatement preparedStatement = databaseConnection.prepareStatement(queryString)) {
+            int batchCount = 0;
+
+            while (rowReader.next()) {
+                if (rowReader.getFieldCount() == 1 && rowReader.isEmpty(0)) {
+                    continue;
+                }
+
+                if (rowReader.getFieldCount() != columnCount) {
+                    throw new SQLException("Expected " + columnCount + " fields in " + tableName + " row but found " + rowReader.getFieldCount());
+                }
+
+                for (int column = 0; column < columnCount; column++) {
+                    bindField(preparedStatement, rowReader, column, columnTypeList[column]);
+                }
+                preparedStatement.addBatch();
+                batchCount++;
+
+                if (batchCount == BATCH_SIZE) {
+                    preparedStatement.executeBatch();
+                    batchCount = 0;
+                }
+            }
+
+            if (batchCount > 0) {
+                preparedStatement.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Get the SQL type of each column in a table from the database metadata.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param tableName             the name of the table
+     *
+     * @return                      a map of upper case column names to SQL types
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static Map<String, Integer> getColumnTypeMap(Connection databaseConnection, String tableName) throws SQLException {
+        Map<String, Integer> columnTypeMap = new HashMap<>();
+        DatabaseMetaData databaseMetaData = databaseConnection.getMetaData();
+
+        try (ResultSet resultSet = databaseMetaData.getColumns(null, null, tableName.toUpperCase(), null)) {
+            while (resultSet.next()) {
+                columnTypeMap.put(resultSet.getString("COLUMN_NAME").toUpperCase(), resultSet.getInt("DATA_TYPE"));
+            }
+        }
+        return columnTypeMap;
+    }
+
+    /**
+     * Bind a field of the current row to a statement parameter, parsing the field as the SQL type of its column.
+     * Empty fields are bound as null.
+     *
+     * @param preparedStatement the insert statement of the table
+     * @param rowReader         a class to read the rows of the table data CSV
+     * @param column            the position of the field in the row
+     * @param columnType        the SQL type of the column
+     *
+     * @throws SQLException     the database could not be accessed or the table/column/row could not be found
+     */
+    private static void bindField(PreparedStatement preparedStatement, CsvRowReader rowReader, int column, int columnType) throws SQLException {
+        int parameter = column + 1;
+
+        if (rowReader.isEmpty(column)) {
+            preparedStatement.setNull(parameter, columnType);
+            return;
+        }
+
+        switch (columnType) {
+            case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> preparedStatement.setInt(parameter, rowReader.getInt(column));
+            case Types.BIT, Types.BOOLEAN -> preparedStatement.setBoolean(parameter, rowReader.getBoolean(column));
+            case Types.TIME -> preparedStatement.setObject(parameter, rowReader.getLocalTime(column));
+            case Types.TIMESTAMP -> preparedStatement.setObject(parameter, rowReader.getLocalDateTime(column));
+            default -> preparedStatement.setString(parameter, rowReader.getString(column));
+        }
+    }
+}
\ No newline at end of file
@@ -1,44 +1,190 @@
 package com.paigegoldhagen.starbower;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.prefs.Preferences;
 
 /**
- * Establishing the connection to the Starbower embedded database,
- * creating the database tables and restoring saved preferences to the NotifyState table.
+ * Providing the connections to the Starbower embedded database, installing the prebuilt database image,
+ * creating the database tables, restoring saved preferences to the NotifyState table and mapping the binary catalogue.
  */
 public class DatabaseHandler implements QueryHandler {
+    static final String DATABASE_NAME = "Starbower";
+    static final String DATABASE_IMAGE_NAME = DATABASE_NAME + ".mv.db";
+    static final String CATALOGUE_NAME = DATABASE_NAME + ".catalogue";
+    private static final String DATABASE_PATH = "./" + DATABASE_NAME;
+
+    /**
+     * Get the connection provider for the Starbower embedded database in the current directory.
+     *
+     * @return              the provider of the write connection and per-thread read connections
+     * @throws SQLException the database could not be accessed or the table/column/row could not be found
+     */
+    public static ConnectionProvider getConnectionProvider() throws SQLException {
+        return getConnectionProvider(DATABASE_PATH);
+    }
+
     /**
-     * Get the connection to the Starbower embedded database using the current directory URL and a basic administrator login.
+     * Get the connection provider for a Starbower embedded database using the database path URL and a basic administrator login.
+     *
+     * @param databasePath  the path of the database files without the file extension
      *
-     * @return              the connection to the Starbower relational database
+     * @return              the provider of the write connection and per-thread read connections
      * @throws SQLException the database could not be accessed or the table/column/row could not be found
      */
-    public static Connection getDatabaseConnection() throws SQLException {
-        String databaseURL = "jdbc:h2:./Starbower";
-        return DriverManager.getConnection(databaseURL, "sa", "");
+    public static ConnectionProvider getConnectionProvider(String databasePath) throws SQLException {
+        String databaseURL = "jdbc:h2:" + databasePath;
+        return new ConnectionProvider(databaseURL, "sa", "");
+    }
+
+    /**
+     * Install the prebuilt database image bundled in the database resource folder into the current directory,
+     * along with the bundled binary catalogue built from the same table data.
+     *
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param currentVersionName    the current version name of Starbower
+     *
+     * @return                      true if the image was installed and the saved preferences need restoring
+     * @throws IOException          a resource folder/file could not be found or read
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static boolean installDatabaseImage(Queries sqlQueries, String currentVersionName) throws IOException, SQLException {
+        boolean isImageInstalled = installDatabaseImage(DATABASE_PATH, FileHandler.getInputStream("database/" + DATABASE_IMAGE_NAME), sqlQueries, currentVersionName);
+
+        if (isImageInstalled) {
+            InputStream catalogueImage = FileHandler.getInputStream("database/" + CATALOGUE_NAME);
+
+            if (catalogueImage != null) {
+                try (catalogueImage) {
+                    Files.copy(catalogueImage, Path.of(DATABASE_PATH + ".catalogue"), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        return isImageInstalled;
+    }
+
+    /**
+     * Copy the database image over the database file if there is no database file yet
+     * or the database is missing the Version table or was created by another version of Starbower.
+     * Builds without a database image leave the database to be populated from the table data CSVs.
+     * The database must not be open when the image is installed.
+     *
+     * @param databasePath          the path of the database files without the file extension
+     * @param databaseImage         an input stream of the database image, or null if there is no database image
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param currentVersionName    the current version name of Starbower
+     *
+     * @return                      true if the image was installed and the saved preferences need restoring
+     * @throws IOException          a resource folder/file could not be found or read
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static boolean installDatabaseImage(String databasePath, InputStream databaseImage, Queries sqlQueries, String currentVersionName) throws IOException, SQLException {
+        if (databaseImage == null) {
+            return false;
+        }
+
+        try (databaseImage) {
+            Path databaseFile = Path.of(databasePath + ".mv.db");
+
+            if (Files.exists(databaseFile) && isCurrentVersion(databasePath, sqlQueries, currentVersionName)) {
+                return false;
+            }
+            Files.copy(databaseImage, databaseFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return true;
+    }
+
+    /**
+     * Open the database to check that it has a Version table with the current version name.
+     *
+     * @param databasePath          the path of the database files without the file extension
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param currentVersionName    the current version name of Starbower
+     *
+     * @return                      true if the database was created by the current version of Starbower
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static boolean isCurrentVersion(String databasePath, Queries sqlQueries, String currentVersionName) throws SQLException {
+        String versionTableName = "Version";
+
+        try (ConnectionProvider connectionProvider = getConnectionProvider(databasePath)) {
+            Connection databaseConnection = connectionProvider.getWriteConnection();
+            List<String> tableNameList = QueryHandler.getTableNames(databaseConnection, sqlQueries);
+
+            return tableNameList.contains(versionTableName.toUpperCase())
+                    && QueryHandler.getVersionName(databaseConnection, sqlQueries).equals(currentVersionName);
+        }
+    }
+
+    /**
+     * Map the binary catalogue in the current directory.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param currentVersionName    the current version name of Starbower
+     *
+     * @return                      a CatalogueFile class of the static table data
+     * @throws IOException          the catalogue file could not be read or written
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static CatalogueFile getCatalogue(Connection databaseConnection, Queries sqlQueries, String currentVersionName) throws IOException, SQLException {
+        return getCatalogue(DATABASE_PATH, databaseConnection, sqlQueries, currentVersionName);
+    }
+
+    /**
+     * Map the binary catalogue next to the database files if it was built for the current version of Starbower.
+     * Otherwise build the catalogue from the populated database, write it next to the database files and map it,
+     * so the catalogue is only rebuilt after an upgrade or when the catalogue file is missing.
+     *
+     * @param databasePath          the path of the database files without the file extension
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param currentVersionName    the current version name of Starbower
+     *
+     * @return                      a CatalogueFile class of the static table data
+     * @throws IOException          the catalogue file could not be read or written
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static CatalogueFile getCatalogue(String databasePath, Connection databaseConnection, Queries sqlQueries, String currentVersionName) throws IOException, SQLException {
+        Path catalogueFile = Path.of(databasePath + ".catalogue");
+        CatalogueFile catalogue = CatalogueFile.map(catalogueFile, currentVersionName);
+
+        if (catalogue == null) {
+            CatalogueFile.build(databaseConnection, sqlQueries).write(catalogueFile);
+            catalogue = CatalogueFile.map(catalogueFile, currentVersionName);
+        }
+        return catalogue;
     }
 
     /**
      * Populate the database depending on the existence of a database and/or the database version.
+     * A newly installed database image is already populated and only needs the saved preferences restored.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
      * @param currentVersionName    the current version name of Starbower
      * @param existingTableNameList a list of user-created table names
+     * @param isImageInstalled      true if the prebuilt database image was just installed
      * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
      *
+     * @throws IOException          a resource folder/file could not be found or read
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    public static void populateDatabase(Connection databaseConnection, Queries sqlQueries, String currentVersionName, List<String> existingTableNameList, Preferences windowsRegistry) throws SQLException {
+    public static void populateDatabase(Connection databaseConnection, Queries sqlQueries, String currentVersionName, List<String> existingTableNameList, boolean isImageInstalled, Preferences windowsRegistry) throws IOException, SQLException {
         String versionTableName = "Version";
 
         List<String> tableNameList = QueryHandler.getTableNames(databaseConnection, sqlQueries);
 
-        if (!tableNameList.contains(existingTableNameList.getFirst().toUpperCase())) {
+        if (isImageInstalled) {
+            restoreSavedPreferences(databaseConnection, sqlQueries, windowsRegistry);
+        }
+        else if (!tableNameList.contains(existingTableNameList.getFirst().toUpperCase())) {
             QueryHandler.createTables(databaseConnection, sqlQueries);
             restoreSavedPreferences(databaseConnection, sqlQueries, windowsRegistry);
         }
@@ -65,16 +211,17 @@ public class DatabaseHandler implements QueryHandler {
      * @param existingTableNameList the list of user-created table names
      * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
      *
+     * @throws IOException          a resource folder/file could not be found or read
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void refreshDatabaseTables(Connection databaseConnection, Queries sqlQueries, List<String> existingTableNameList, Preferences windowsRegistry) throws SQLException {
+    private static void refreshDatabaseTables(Connection databaseConnection, Queries sqlQueries, List<String> existingTableNameList, Preferences windowsRegistry) throws IOException, SQLException {
         QueryHandler.dropTables(databaseConnection, sqlQueries, existingTableNameList);
         QueryHandler.createTables(databaseConnection, sqlQueries);
         restoreSavedPreferences(databaseConnection, sqlQueries, windowsRegistry);
     }
 
     /**
-     * Compare the NotifyState table to the saved user preferences
+     * Compare the NotifyState table to the saved user preferences, including any notification reminder time overrides,
      * and update the NotifyState table if the saved preferences are different.
      *
      * @param databaseConnection    the connection to the Starbower relational database
@@ -94,6 +241,12 @@ public class DatabaseHandler implements QueryHandler {
             if (notifyStateEnabled != savedPreference) {
                 QueryHandler.updateNotifyState(databaseConnection, sqlQueries, notifyStateID, savedPreference);
             }
+
+            int savedNotifyMinutes = windowsRegistry.getInt(QueryHandler.getNotifyMinutesKey(String.valueOf(notifyStateID)), -1);
+
+            if (savedNotifyMinutes >= 0 && !Integer.valueOf(savedNotifyMinutes).equals(notifyState.getNotifyMinutes())) {
+                QueryHandler.updateNotifyStateMinutes(databaseConnection, sqlQueries, notifyStateID, savedNotifyMinutes);
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Building the prebuilt Starbower database image at build time.
+ * The tables are created and populated from the bundled table data CSVs into a new database file,
+ * which is then compacted and closed so it can be shipped in the jar and copied into place on first run.
+ * The binary catalogue of the static table data is built from the same tables and written next to the image.
+ *
+ * <p>Arguments: [output folder, e.g. target/classes/database]
+ */
+public class DatabaseImageBuilder {
+    /**
+     * Build the database image into the output folder and print the size of the image.
+     *
+     * @param args          the optional output folder
+     *
+     * @throws IOException  a resource folder/file could not be found or read, or the image could not be written
+     * @throws SQLException the database could not be accessed or the table/column/row could not be found
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        Path imageFolder = Path.of(args.length > 0 ? args[0] : "database");
+        Path imageFile = build(imageFolder);
+
+        System.out.println("Built " + imageFile.toAbsolutePath() + " (" + Files.size(imageFile) + " bytes)");
+    }
+
+    /**
+     * Replace any database image in the image folder with a new database,
+     * create the tables from the bundled table data CSVs, write the binary catalogue and compact the database file.
+     *
+     * @param imageFolder   the folder to write the database image
+     *
+     * @return              the path of the database image file
+     * @throws IOException  a resource folder/file could not be found or read, or the image could not be written
+     * @throws SQLException the database could not be accessed or the table/column/row could not be found
+     */
+    public static Path build(Path imageFolder) throws IOException, SQLException {
+        Path imageFile = imageFolder.resolve(DatabaseHandler.DATABASE_IMAGE_NAME);
+        String imagePath = imageFolder.toAbsolutePath().resolve(DatabaseHandler.DATABASE_NAME).toString();
+
+        Files.createDirectories(imageFolder);
+        Files.deleteIfExists(imageFile);
+
+        Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+
+        try (ConnectionProvider connectionProvider = DatabaseHandler.getConnectionProvider(imagePath)) {
+            QueryHandler.createTables(connectionProvider.getWriteConnection(), sqlQueries);
+            CatalogueFile.build(connectionProvider.getWriteConnection(), sqlQueries).write(imageFolder.resolve(DatabaseHandler.CATALOGUE_NAME));
+            QueryHandler.compactDatabase(connectionProvider.getWriteConnection(), sqlQueries);
+        }
+        return imageFile;
+    }
+}
\ No newline at end of file
@@ -1,13 +1,23 @@
 package com.paigegoldhagen.starbower;
 
 /**
- * Setting and getting Dropdown data using OpenCSV mapping.
+ * Setting and getting Dropdown data from the DropdownData CSV.
  */
 public class Dropdown {
     public String FirstLabelText, SecondLabelText, PreferenceKey, PreferenceValue;
     public String[] SelectionData;
     public Integer SizeWidth, SizeHeight;
 
+    public Dropdown(String firstLabelText, String secondLabelText, String[] selectionData, String preferenceKey, String preferenceValue, Integer sizeWidth, Integer sizeHeight) {
+        this.FirstLabelText = firstLabelText;
+        this.SecondLabelText = secondLabelText;
+        this.SelectionData = selectionData;
+        this.PreferenceKey = preferenceKey;
+        this.PreferenceValue = preferenceValue;
+        this.SizeWidth = sizeWidth;
+        this.SizeHeight = sizeHeight;
+    }
+
     public String getFirstLabelText() {return FirstLabelText;}
     public String getSecondLabelText() {return SecondLabelText;}
     public String getPreferenceKey() {return PreferenceKey;}
@@ -0,0 +1,142 @@
+package com.paigegoldhagen.starbower;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holding the notification due times of every Timetable time for every notification reminder time,
+ * shifted by the reminder time and merged into a single list sorted by second of the day.
+ * The index is built once and looked up with a binary search, so each tick costs the same
+ * no matter how many reminder times are selected.
+ */
+public class DueTimeIndex {
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private final int[] DueSecondList;
+    private final int[] DynamicEventIDList;
+    private final int[] NotifyMinutesList;
+
+    private DueTimeIndex(int[] dueSecondList, int[] dynamicEventIDList, int[] notifyMinutesList) {
+        this.DueSecondList = dueSecondList;
+        this.DynamicEventIDList = dynamicEventIDList;
+        this.NotifyMinutesList = notifyMinutesList;
+    }
+
+    public int size() {return DueSecondList.length;}
+    public int getDueSecond(int position) {return DueSecondList[position];}
+    public int getDynamicEventID(int position) {return DynamicEventIDList[position];}
+    public int getNotifyMinutes(int position) {return NotifyMinutesList[position];}
+
+    /**
+     * Calculate the due second of the day for each Timetable time and notification reminder time,
+     * using the override reminder time instead of the default reminder times for a DynamicEvent with an override.
+     * Sort the due times by second of the day, then by the longest reminder time first,
+     * then by the order of the Timetables.
+     *
+     * @param timetableList             a list of Timetable classes for the enabled DynamicEvents
+     * @param notifyMinutesList         a list of the default notification reminder times in minutes
+     * @param notifyMinutesOverrideMap  a map of DynamicEvent IDs to override reminder times in minutes
+     *
+     * @return                          the built DueTimeIndex class
+     */
+    public static DueTimeIndex build(List<Timetable> timetableList, List<Integer> notifyMinutesList, Map<Integer, Integer> notifyMinutesOverrideMap) {
+        List<int[]> dueTimeList = new ArrayList<>();
+
+        for (int timetablePosition = 0; timetablePosition < timetableList.size(); timetablePosition++) {
+            Timetable timetable = timetableList.get(timetablePosition);
+
+            Integer notifyMinutesOverride = notifyMinutesOverrideMap.get(timetable.getDynamicEventID());
+            List<Integer> timetableNotifyMinutesList = notifyMinutesOverride != null ? List.of(notifyMinutesOverride) : notifyMinutesList;
+
+            for (LocalTime time : timetable.getTimeList()) {
+                for (Integer notifyMinutes : timetableNotifyMinutesList) {
+                    int dueSecond = Math.floorMod(time.toSecondOfDay() - notifyMinutes * 60, SECONDS_PER_DAY);
+                    dueTimeList.add(new int[] {dueSecond, notifyMinutes, timetablePosition, timetable.getDynamicEventID()});
+                }
+            }
+        }
+
+        dueTimeList.sort(Comparator.<int[]>comparingInt(dueTime -> dueTime[0])
+                .thenComparing(dueTime -> dueTime[1], Comparator.reverseOrder())
+                .thenComparingInt(dueTime -> dueTime[2]));
+
+        return fromSortedDueTimes(dueTimeList);
+    }
+
+    /**
+     * Copy the sorted due times into the index lists, skipping a repeated DynamicEvent
+     * with the same due second and reminder time.
+     *
+     * @param dueTimeList   a sorted list of due second, reminder time, Timetable position and DynamicEvent ID
+     * @return              the built DueTimeIndex class
+     */
+    private static DueTimeIndex fromSortedDueTimes(List<int[]> dueTimeList) {
+        int[] dueSecondList = new int[dueTimeList.size()];
+        int[] dynamicEventIDList = new int[dueTimeList.size()];
+        int[] notifyMinutesList = new int[dueTimeList.size()];
+
+        int indexSize = 0;
+
+        for (int[] dueTime : dueTimeList) {
+            if (isRepeated(dueSecondList, dynamicEventIDList, notifyMinutesList, indexSize, dueTime)) {
+                continue;
+            }
+            dueSecondList[indexSize] = dueTime[0];
+            notifyMinutesList[indexSize] = dueTime[1];
+            dynamicEventIDList[indexSize] = dueTime[3];
+            indexSize++;
+        }
+
+        return new DueTimeIndex(Arrays.copyOf(dueSecondList, indexSize), Arrays.copyOf(dynamicEventIDList, indexSize), Arrays.copyOf(notifyMinutesList, indexSize));
+    }
+
+    /**
+     * Check the due times already added with the same due second and reminder time for the same DynamicEvent.
+     *
+     * @param dueSecondList         the due seconds added so far
+     * @param dynamicEventIDList    the DynamicEvent IDs added so far
+     * @param notifyMinutesList     the reminder times added so far
+     * @param indexSize             the number of due times added so far
+     * @param dueTime               the due time to check
+     *
+     * @return                      true if the due time has already been added
+     */
+    private static boolean isRepeated(int[] dueSecondList, int[] dynamicEventIDList, int[] notifyMinutesList, int indexSize, int[] dueTime) {
+        for (int position = indexSize - 1; position >= 0; position--) {
+            if (dueSecondList[position] != dueTime[0] || notifyMinutesList[position] != dueTime[1]) {
+                return false;
+            }
+            if (dynamicEventIDList[position] == dueTime[3]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the position of the first due time at or after a second of the day.
+     *
+     * @param secondOfDay   the second of the day to find
+     * @return              the position of the first due time, or the index size if there is none
+     */
+    public int getFirstPosition(int secondOfDay) {
+        int low = 0;
+        int high = DueSecondList.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (DueSecondList[middle] < secondOfDay) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
\ No newline at end of file
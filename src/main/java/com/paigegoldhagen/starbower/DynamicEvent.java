@@ -4,15 +4,16 @@ package com.paigegoldhagen.starbower;
  * Setting and getting DynamicEvent information.
  */
 public class DynamicEvent {
-    public String Name, KindMessage, MapName, WaypointName, WaypointLink;
-    public Integer NotifyStateID, KindID;
+    public String Name, DisplayName, MapName, WaypointName, WaypointLink;
+    public Integer ID, NotifyStateID, KindID;
     public Boolean NotifyStateEnabled;
 
-    public DynamicEvent(String name, Integer kindID, String kindMessage, String mapName) {
+    public DynamicEvent(Integer id, String name, Integer kindID, String mapName, String displayName) {
+        this.ID = id;
         this.Name = name;
         this.KindID = kindID;
-        this.KindMessage = kindMessage;
         this.MapName = mapName;
+        this.DisplayName = displayName;
     }
 
     public DynamicEvent(String name, Integer notifyStateID, Boolean notifyStateEnabled, String mapName, String waypointName, String waypointLink) {
@@ -24,11 +25,12 @@ public class DynamicEvent {
         this.WaypointLink = waypointLink;
     }
 
+    public Integer getID() {return ID;}
     public String getName() {return Name;}
+    public String getDisplayName() {return DisplayName;}
     public Integer getNotifyStateID() {return NotifyStateID;}
     public Boolean getNotifyStateEnabled() {return NotifyStateEnabled;}
     public Integer getKindID() {return KindID;}
-    public String getKindMessage() {return KindMessage;}
     public String getMapName() {return MapName;}
     public String getWaypointName() {return WaypointName;}
     public String getWaypointLink() {return WaypointLink;}
@@ -0,0 +1,96 @@
+package com.paigegoldhagen.starbower;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Holding the DynamicEvent information used for notifications, the Festival Category of each Festival DynamicEvent
+ * and the compiled Kind message templates, read from the binary catalogue loaded at startup.
+ * A DynamicEvent class is only created the first time its DynamicEvent is looked up and is then reused,
+ * so the heap only holds the DynamicEvents that have been notified or shown.
+ */
+public class EventCatalogue {
+    private final CatalogueFile Catalogue;
+    private final AtomicReferenceArray<DynamicEvent> DynamicEventList;
+    private final Map<Integer, MessageTemplate> MessageTemplateMap;
+
+    private EventCatalogue(CatalogueFile catalogue, Map<Integer, MessageTemplate> messageTemplateMap) {
+        this.Catalogue = catalogue;
+        this.DynamicEventList = new AtomicReferenceArray<>(catalogue.getEventCount());
+        this.MessageTemplateMap = messageTemplateMap;
+    }
+
+    public MessageTemplate getMessageTemplate(Integer kindID) {return MessageTemplateMap.get(kindID);}
+
+    /**
+     * Find the DynamicEvent record in the catalogue and get its DynamicEvent class,
+     * creating the class from the record the first time the DynamicEvent is looked up.
+     *
+     * @param dynamicEventID    the DynamicEvent ID
+     * @return                  the DynamicEvent class with its display name, or null if there is no DynamicEvent with the ID
+     */
+    public DynamicEvent getDynamicEvent(Integer dynamicEventID) {
+        int record = Catalogue.findEvent(dynamicEventID);
+
+        if (record < 0) {
+            return null;
+        }
+
+        DynamicEvent dynamicEvent = DynamicEventList.get(record);
+
+        if (dynamicEvent == null) {
+            dynamicEvent = new DynamicEvent(Catalogue.getEventID(record), Catalogue.getEventName(record), Catalogue.getEventKindID(record), Catalogue.getEventMapName(record), Catalogue.getEventDisplayName(record));
+
+            if (!DynamicEventList.compareAndSet(record, null, dynamicEvent)) {
+                dynamicEvent = DynamicEventList.get(record);
+            }
+        }
+        return dynamicEvent;
+    }
+
+    /**
+     * Find the DynamicEvent record in the catalogue and get its Festival Category ID.
+     *
+     * @param dynamicEventID    the DynamicEvent ID
+     * @return                  the Festival Category ID, or null if the DynamicEvent is not a Festival DynamicEvent
+     */
+    public Integer getFestivalCategoryID(Integer dynamicEventID) {
+        int record = Catalogue.findEvent(dynamicEventID);
+
+        if (record < 0 || !Catalogue.hasFestivalCategory(record)) {
+            return null;
+        }
+        return Catalogue.getEventFestivalCategoryID(record);
+    }
+
+    /**
+     * Build a catalogue in memory from the database and load the EventCatalogue from it.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     *
+     * @return                      a populated EventCatalogue class
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static EventCatalogue load(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        return load(CatalogueFile.build(databaseConnection, sqlQueries));
+    }
+
+    /**
+     * Compile the message of every Kind in the catalogue.
+     *
+     * @param catalogue the binary catalogue of the static table data
+     * @return          a populated EventCatalogue class
+     */
+    public static EventCatalogue load(CatalogueFile catalogue) {
+        Map<Integer, MessageTemplate> messageTemplateMap = new HashMap<>();
+
+        for (int record = 0; record < catalogue.getKindCount(); record++) {
+            messageTemplateMap.put(catalogue.getKindID(record), MessageTemplate.compile(catalogue.getKindMessage(record)));
+        }
+        return new EventCatalogue(catalogue, messageTemplateMap);
+    }
+}
\ No newline at end of file
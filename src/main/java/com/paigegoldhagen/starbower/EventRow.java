@@ -0,0 +1,30 @@
+package com.paigegoldhagen.starbower;
+
+/**
+ * Setting and getting the information shown in one row of a DynamicEvent table.
+ */
+public class EventRow {
+    public String Name, Location, WaypointLink, TooltipText, SearchText;
+    public Integer NotifyStateID;
+    public Boolean NotifyStateEnabled;
+
+    public EventRow(String name, Integer notifyStateID, Boolean notifyStateEnabled, String location, String waypointLink, String tooltipText, String searchText) {
+        this.Name = name;
+        this.NotifyStateID = notifyStateID;
+        this.NotifyStateEnabled = notifyStateEnabled;
+        this.Location = location;
+        this.WaypointLink = waypointLink;
+        this.TooltipText = tooltipText;
+        this.SearchText = searchText;
+    }
+
+    public String getName() {return Name;}
+    public Integer getNotifyStateID() {return NotifyStateID;}
+    public Boolean getNotifyStateEnabled() {return NotifyStateEnabled;}
+    public String getLocation() {return Location;}
+    public String getWaypointLink() {return WaypointLink;}
+    public String getTooltipText() {return TooltipText;}
+    public String getSearchText() {return SearchText;}
+
+    public void setNotifyStateEnabled(Boolean notifyStateEnabled) {this.NotifyStateEnabled = notifyStateEnabled;}
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package com.paigegoldhagen.starbower;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Finding DynamicEvents by the words in their DynamicEvent, Map, Waypoint and Category names
+ * and showing only the matching rows of every DynamicEvent table.
+ * The rows of each table are numbered one after another, and each word is held once in a sorted map
+ * with the set of row numbers it appears in, so a search word finds every row with a word starting with it
+ * in one range lookup and the words of a search are combined with bitwise operations.
+ * The row sets of a search are cleared and reused by the next search, and a table whose matching rows have not changed
+ * keeps its visible rows, so typing into the search field allocates little beyond the rows of the tables that change.
+ * A search never touches the database or rebuilds a panel, and a table with no matching rows
+ * has its panel hidden without changing its rows.
+ * The index is only used on the event dispatch thread, alongside the tables it filters.
+ */
+public class EventSearchIndex {
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NavigableMap<String, BitSet> WordRowMap = new TreeMap<>();
+    private final Map<EventTable, Integer> FirstRowMap = new LinkedHashMap<>();
+    private final BitSet MatchingRows = new BitSet();
+    private final BitSet SearchWordRows = new BitSet();
+    private int NextRow = 0;
+    private boolean HasSearchWords = false;
+
+    public Set<EventTable> getEventTableSet() {return FirstRowMap.keySet();}
+
+    /**
+     * Number the rows of each DynamicEvent table, add them to the index and apply the current search to the table.
+     * Tables already in the index are skipped.
+     *
+     * @param eventTableList    the DynamicEvent tables to add
+     */
+    public void addEventTables(List<EventTable> eventTableList) {
+        for (EventTable eventTable : eventTableList) {
+            if (FirstRowMap.containsKey(eventTable)) {
+                continue;
+            }
+            int firstRow = NextRow;
+            FirstRowMap.put(eventTable, firstRow);
+
+            for (EventRow eventRow : eventTable.getEventModel().getEventRowList()) {
+                for (String word : getWordSet(eventRow.getSearchText())) {
+                    WordRowMap.computeIfAbsent(word, newWord -> new BitSet()).set(NextRow);
+                }
+                NextRow += 1;
+            }
+            applySearch(eventTable, firstRow);
+        }
+    }
+
+    /**
+     * Remove the rows of a DynamicEvent table from the index and show its panel again.
+     * Reuse the row numbers if the table was the last one added, as the Festival tables are replaced every minute.
+     *
+     * @param eventTable    the DynamicEvent table to remove
+     */
+    public void removeEventTable(EventTable eventTable) {
+        Integer firstRow = FirstRowMap.remove(eventTable);
+
+        if (firstRow == null) {
+            return;
+        }
+        List<EventRow> eventRowList = eventTable.getEventModel().getEventRowList();
+        int endRow = firstRow + eventRowList.size();
+
+        for (int row = firstRow; row < endRow; row++) {
+            for (String word : getWordSet(eventRowList.get(row - firstRow).getSearchText())) {
+                BitSet wordRows = WordRowMap.get(word);
+                wordRows.clear(row);
+
+                if (wordRows.isEmpty()) {
+                    WordRowMap.remove(word);
+                }
+            }
+        }
+
+        if (endRow == NextRow) {
+            NextRow = firstRow;
+        }
+        setPanelVisible(eventTable, true);
+    }
+
+    /**
+     * Find the rows matching the search text and show only those rows in every DynamicEvent table.
+     * Hide the panel of any table left without rows, and show every row again when the search text has no words.
+     *
+     * @param searchText    the text typed into the search field
+     */
+    public void search(String searchText) {
+        HasSearchWords = findMatchingRows(searchText);
+
+        for (Map.Entry<EventTable, Integer> firstRowEntry : FirstRowMap.entrySet()) {
+            applySearch(firstRowEntry.getKey(), firstRowEntry.getValue());
+        }
+    }
+
+    /**
+     * Find the rows with a word starting with each word of the search text,
+     * clearing and reusing the row sets of the last search.
+     *
+     * @param searchText    the text typed into the search field
+     * @return              true if the search text has words, or false if every row is shown
+     */
+    private boolean findMatchingRows(String searchText) {
+        boolean hasSearchWords = false;
+        MatchingRows.clear();
+
+        for (String searchWord : getWordSet(searchText)) {
+            BitSet searchWordRows = hasSearchWords ? SearchWordRows : MatchingRows;
+            searchWordRows.clear();
+
+            for (BitSet wordRows : WordRowMap.subMap(searchWord, true, searchWord + Character.MAX_VALUE, true).values()) {
+                searchWordRows.or(wordRows);
+            }
+
+            if (hasSearchWords) {
+                MatchingRows.and(SearchWordRows);
+            }
+            hasSearchWords = true;
+
+            if (MatchingRows.isEmpty()) {
+                break;
+            }
+        }
+        return hasSearchWords;
+    }
+
+    /**
+     * Show only the matching rows of a DynamicEvent table, or hide its panel if no rows match.
+     *
+     * @param eventTable    the DynamicEvent table to filter
+     * @param firstRow      the number of the first table row in the index
+     */
+    private void applySearch(EventTable eventTable, Integer firstRow) {
+        EventTableModel eventModel = eventTable.getEventModel();
+        List<EventRow> eventRowList = eventModel.getEventRowList();
+
+        if (!HasSearchWords) {
+            eventModel.setVisibleRowList(eventRowList);
+            setPanelVisible(eventTable, true);
+            return;
+        }
+
+        int endRow = firstRow + eventRowList.size();
+        int matchingRowCount = 0;
+
+        for (int row = MatchingRows.nextSetBit(firstRow); row >= 0 && row < endRow; row = MatchingRows.nextSetBit(row + 1)) {
+            matchingRowCount += 1;
+        }
+
+        if (matchingRowCount == eventRowList.size()) {
+            eventModel.setVisibleRowList(eventRowList);
+        }
+        else if (matchingRowCount > 0 && !isShowingMatchingRows(eventModel, firstRow, endRow, matchingRowCount)) {
+            List<EventRow> visibleRowList = new ArrayList<>(matchingRowCount);
+
+            for (int row = MatchingRows.nextSetBit(firstRow); row >= 0 && row < endRow; row = MatchingRows.nextSetBit(row + 1)) {
+                visibleRowList.add(eventRowList.get(row - firstRow));
+            }
+            eventModel.setVisibleRowList(visibleRowList);
+        }
+        setPanelVisible(eventTable, matchingRowCount > 0);
+    }
+
+    /**
+     * Check if a DynamicEvent table already shows exactly its matching rows, so the rows are not copied again.
+     *
+     * @param eventModel        the model of the DynamicEvent table
+     * @param firstRow          the number of the first table row in the index
+     * @param endRow            the number after the last table row in the index
+     * @param matchingRowCount  the number of matching rows of the table
+     *
+     * @return                  true if the visible rows are the matching rows
+     */
+    private boolean isShowingMatchingRows(EventTableModel eventModel, int firstRow, int endRow, int matchingRowCount) {
+        if (eventModel.getRowCount() != matchingRowCount) {
+            return false;
+        }
+        List<EventRow> eventRowList = eventModel.getEventRowList();
+        int visibleRow = 0;
+
+        for (int row = MatchingRows.nextSetBit(firstRow); row >= 0 && row < endRow; row = MatchingRows.nextSetBit(row + 1)) {
+            if (eventModel.getEventRow(visibleRow) != eventRowList.get(row - firstRow)) {
+                return false;
+            }
+            visibleRow += 1;
+        }
+        return true;
+    }
+
+    /**
+     * Show or hide the Category or Festival panel holding a DynamicEvent table.
+     *
+     * @param eventTable    the DynamicEvent table
+     * @param isVisible     whether the panel is shown
+     */
+    private static void setPanelVisible(EventTable eventTable, Boolean isVisible) {
+        if (eventTable.getParent() != null) {
+            eventTable.getParent().setVisible(isVisible);
+        }
+    }
+
+    /**
+     * Split text into distinct lowercase words of letters and digits.
+     *
+     * @param text  the text to split
+     * @return      a set of words in the order they appear
+     */
+    private static Set<String> getWordSet(String text) {
+        Set<String> wordSet = new LinkedHashSet<>();
+
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                wordSet.add(word);
+            }
+        }
+        return wordSet;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.paigegoldhagen.starbower;
+
+import javax.swing.*;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.io.Serial;
+
+/**
+ * Showing the DynamicEvents of a Category as the rows of one table instead of a checkbox and a location button per DynamicEvent.
+ * Every checkbox cell is painted by the same checkbox and every location cell by the same button,
+ * so the number of components in a Category panel does not grow with the number of DynamicEvents.
+ * Clicking a checkbox cell or a location cell is handled by the CheckboxHandler and ButtonHandler listeners added to the table.
+ * The class is final as the constructor sets up the table through overridable JTable methods.
+ */
+public final class EventTable extends JTable {
+    static final String COPY_FEEDBACK_TEXT = "Waypoint copied!";
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final EventTableModel EventModel;
+    private final CellRenderer CheckboxRenderer;
+    private final CellRenderer LocationRenderer;
+    private int PopupRow = 0;
+
+    public EventTable(EventTableModel eventModel) {
+        super(eventModel);
+        this.EventModel = eventModel;
+        this.CheckboxRenderer = new CellRenderer(new JCheckBox());
+        this.LocationRenderer = new CellRenderer(createLocationButton());
+
+        setTableHeader(null);
+        setShowGrid(false);
+        setIntercellSpacing(new Dimension(0, 0));
+        setOpaque(false);
+
+        getColumnModel().getColumn(EventTableModel.CHECKBOX_COLUMN).setCellRenderer(CheckboxRenderer);
+        getColumnModel().getColumn(EventTableModel.LOCATION_COLUMN).setCellRenderer(LocationRenderer);
+        updateCellSizes();
+    }
+
+    public EventTableModel getEventModel() {return EventModel;}
+
+    /**
+     * Get the NotifyState ID of the row the popup menu was last opened on.
+     *
+     * @return  the NotifyState ID
+     */
+    public Integer getPopupNotifyStateID() {
+        return EventModel.getEventRow(PopupRow).getNotifyStateID();
+    }
+
+    /**
+     * Update the look and feel of the table and its renderers, and fit the row height and column widths to the new look and feel.
+     */
+    @Override
+    public void updateUI() {
+        super.updateUI();
+
+        if (EventModel != null) {
+            updateCellSizes();
+        }
+    }
+
+    /**
+     * Remember the row the popup menu is opened on, the row under the mouse or the selected row from the keyboard,
+     * so the popup menu changes the NotifyState of that row.
+     *
+     * @param mouseEvent    the mouse event opening the popup menu, or null if it is opened from the keyboard
+     * @return              the popup menu location, or null to use the default location
+     */
+    @Override
+    public Point getPopupLocation(MouseEvent mouseEvent) {
+        int row = mouseEvent != null ? rowAtPoint(mouseEvent.getPoint()) : getSelectionModel().getLeadSelectionIndex();
+        PopupRow = Math.max(row, 0);
+        return super.getPopupLocation(mouseEvent);
+    }
+
+    /**
+     * Get the tooltip text of the location cell under the mouse.
+     *
+     * @param mouseEvent    the mouse event of the tooltip
+     * @return              the tooltip text string, or null if the mouse is not over a location cell
+     */
+    @Override
+    public String getToolTipText(MouseEvent mouseEvent) {
+        int row = rowAtPoint(mouseEvent.getPoint());
+
+        if (row >= 0 && columnAtPoint(mouseEvent.getPoint()) == EventTableModel.LOCATION_COLUMN) {
+            return EventModel.getEventRow(row).getTooltipText();
+        }
+        return null;
+    }
+
+    /**
+     * Fit the row height to the tallest cell and the location column to the widest location or copy feedback text,
+     * leaving the rest of the table width to the checkbox column.
+     * Every row is measured, including rows hidden by a search, so the columns keep their width when the search changes.
+     */
+    private void updateCellSizes() {
+        int rowHeight = 1;
+        int checkboxWidth = 0;
+        int locationWidth = 0;
+
+        for (EventRow eventRow : EventModel.getEventRowList()) {
+            Dimension checkboxSize = CheckboxRenderer.setCellContents(eventRow, EventTableModel.CHECKBOX_COLUMN, false).getPreferredSize();
+            Dimension locationSize = LocationRenderer.setCellContents(eventRow, EventTableModel.LOCATION_COLUMN, false).getPreferredSize();
+
+            rowHeight = Math.max(rowHeight, Math.max(checkboxSize.height, locationSize.height));
+            checkboxWidth = Math.max(checkboxWidth, checkboxSize.width);
+            locationWidth = Math.max(locationWidth, locationSize.width);
+        }
+
+        JButton feedbackButton = createLocationButton();
+        feedbackButton.setText(COPY_FEEDBACK_TEXT);
+        locationWidth = Math.max(locationWidth, feedbackButton.getPreferredSize().width);
+
+        setRowHeight(rowHeight);
+        getColumnModel().getColumn(EventTableModel.CHECKBOX_COLUMN).setPreferredWidth(checkboxWidth);
+
+        TableColumn locationColumn = getColumnModel().getColumn(EventTableModel.LOCATION_COLUMN);
+        locationColumn.setMinWidth(locationWidth);
+        locationColumn.setMaxWidth(locationWidth);
+        locationColumn.setPreferredWidth(locationWidth);
+    }
+
+    /**
+     * Create a location button with the button contents aligned to the right.
+     *
+     * @return  a location button
+     */
+    private static JButton createLocationButton() {
+        JButton locationButton = new JButton();
+        locationButton.setHorizontalAlignment(SwingConstants.RIGHT);
+        return locationButton;
+    }
+
+    /**
+     * Painting every cell of a column with the same checkbox or button, below the spacing between DynamicEvent rows.
+     */
+    private static class CellRenderer extends JPanel implements TableCellRenderer {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final AbstractButton CellButton;
+
+        CellRenderer(AbstractButton cellButton) {
+            super(new BorderLayout());
+            this.CellButton = cellButton;
+
+            setOpaque(false);
+            setBorder(BorderFactory.createEmptyBorder(LayoutHandler.EVENT_ROW_SPACING, 0, 0, 0));
+            add(cellButton, BorderLayout.CENTER);
+        }
+
+        /**
+         * Set the checkbox text and selected state, or the location button text, from the EventRow of the cell.
+         *
+         * @param table         the EventTable being painted
+         * @param value         the EventRow of the cell
+         * @param isSelected    whether the cell is selected
+         * @param hasFocus      whether the cell has the keyboard focus
+         * @param row           the row index of the cell
+         * @param column        the column index of the cell
+         *
+         * @return              the renderer with the cell contents
+         */
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+            boolean isCopied = table instanceof EventTable eventTable && eventTable.getEventModel().getCopiedRow() == row;
+            return setCellContents((EventRow) value, column, isCopied);
+        }
+
+        /**
+         * Set the checkbox text and selected state, or the location button text, from an EventRow.
+         *
+         * @param eventRow  the EventRow of the cell
+         * @param column    the column index of the cell
+         * @param isCopied  whether the location cell shows the copy feedback
+         *
+         * @return          the renderer with the cell contents
+         */
+        Component setCellContents(EventRow eventRow, int column, boolean isCopied) {
+            if (column == EventTableModel.CHECKBOX_COLUMN) {
+                CellButton.setText(eventRow.getName());
+                CellButton.setSelected(eventRow.getNotifyStateEnabled());
+            }
+            else {
+                CellButton.setText(isCopied ? COPY_FEEDBACK_TEXT : eventRow.getLocation());
+            }
+            return this;
+        }
+    }
+}
\ No newline at end of file
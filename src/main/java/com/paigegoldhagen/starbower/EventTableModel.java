@@ -0,0 +1,106 @@
+package com.paigegoldhagen.starbower;
+
+import javax.swing.table.AbstractTableModel;
+import java.io.Serial;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holding the rows of a DynamicEvent table, with a checkbox column for the NotifyState of each DynamicEvent
+ * and a location column for copying its Waypoint link.
+ * Each cell value is the whole row, so the renderers can read any row information from it.
+ * Only the rows matching the current search are visible, and row indexes refer to the visible rows.
+ */
+public class EventTableModel extends AbstractTableModel {
+    static final int CHECKBOX_COLUMN = 0;
+    static final int LOCATION_COLUMN = 1;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<EventRow> EventRowList;
+    private transient List<EventRow> VisibleRowList;
+    private int CopiedRow = -1;
+
+    public EventTableModel(List<EventRow> eventRowList) {
+        this.EventRowList = eventRowList;
+        this.VisibleRowList = eventRowList;
+    }
+
+    public List<EventRow> getEventRowList() {return EventRowList;}
+    public EventRow getEventRow(int row) {return VisibleRowList.get(row);}
+    public int getCopiedRow() {return CopiedRow;}
+
+    @Override
+    public int getRowCount() {return VisibleRowList.size();}
+
+    @Override
+    public int getColumnCount() {return 2;}
+
+    @Override
+    public Class<?> getColumnClass(int column) {return EventRow.class;}
+
+    @Override
+    public Object getValueAt(int row, int column) {return VisibleRowList.get(row);}
+
+    /**
+     * Show only the rows in the visible row list, and clear any copy feedback,
+     * as its row index would no longer point at the copied row.
+     *
+     * @param visibleRowList    the rows matching the current search, in table order
+     */
+    public void setVisibleRowList(List<EventRow> visibleRowList) {
+        if (!visibleRowList.equals(VisibleRowList)) {
+            VisibleRowList = visibleRowList;
+            CopiedRow = -1;
+            fireTableDataChanged();
+        }
+    }
+
+    /**
+     * Set the NotifyState enabled boolean of a row and repaint its checkbox cell.
+     *
+     * @param row                   the row index
+     * @param notifyStateEnabled    the NotifyState enabled boolean
+     */
+    public void setNotifyStateEnabled(int row, Boolean notifyStateEnabled) {
+        VisibleRowList.get(row).setNotifyStateEnabled(notifyStateEnabled);
+        fireTableCellUpdated(row, CHECKBOX_COLUMN);
+    }
+
+    /**
+     * Set the NotifyState enabled boolean of every row with one of the NotifyState IDs, including hidden rows,
+     * and repaint the checkbox cells of the visible rows.
+     *
+     * @param notifyStateIDSet      the NotifyState IDs to update
+     * @param notifyStateEnabled    the NotifyState enabled boolean
+     */
+    public void setNotifyStatesEnabled(Set<Integer> notifyStateIDSet, Boolean notifyStateEnabled) {
+        for (EventRow eventRow : EventRowList) {
+            if (notifyStateIDSet.contains(eventRow.getNotifyStateID())) {
+                eventRow.setNotifyStateEnabled(notifyStateEnabled);
+            }
+        }
+
+        if (!VisibleRowList.isEmpty()) {
+            fireTableRowsUpdated(0, VisibleRowList.size() - 1);
+        }
+    }
+
+    /**
+     * Show the copy feedback in the location cell of a row, or clear it with a row index of -1.
+     *
+     * @param row   the row index of the copied Waypoint link, or -1
+     */
+    public void setCopiedRow(int row) {
+        int previousRow = CopiedRow;
+        CopiedRow = row;
+
+        if (previousRow >= 0) {
+            fireTableCellUpdated(previousRow, LOCATION_COLUMN);
+        }
+        if (row >= 0) {
+            fireTableCellUpdated(row, LOCATION_COLUMN);
+        }
+    }
+}
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.paigegoldhagen.starbower;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Setting and getting Festival information.
@@ -11,20 +10,13 @@ public class Festival {
     public String Name;
     public LocalDateTime StartDate, EndDate;
     public Boolean IsOngoing;
-    public List<DynamicEvent> DynamicEventList;
 
-    public Festival(Integer categoryID, String name, LocalDateTime startDate, LocalDateTime endDate, Boolean isOngoing, List<DynamicEvent> dynamicEventList) {
+    public Festival(Integer categoryID, String name, LocalDateTime startDate, LocalDateTime endDate, Boolean isOngoing) {
         this.CategoryID = categoryID;
         this.Name = name;
         this.StartDate = startDate;
         this.EndDate = endDate;
         this.IsOngoing = isOngoing;
-        this.DynamicEventList = dynamicEventList;
-    }
-
-    public Festival(Integer categoryID, Boolean isOngoing) {
-        this.CategoryID = categoryID;
-        this.IsOngoing = isOngoing;
     }
 
     public Integer getCategoryID() {return CategoryID;}
@@ -32,5 +24,4 @@ public class Festival {
     public LocalDateTime getStartDate() {return StartDate;}
     public LocalDateTime getEndDate() {return EndDate;}
     public Boolean getIsOngoing() {return IsOngoing;}
-    public List<DynamicEvent> getDynamicEventList() {return DynamicEventList;}
 }
\ No newline at end of file
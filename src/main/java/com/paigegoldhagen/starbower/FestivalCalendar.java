@@ -0,0 +1,233 @@
+package com.paigegoldhagen.starbower;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holding the Festival intervals as sorted, non-overlapping start and end seconds
+ * and finding the current or next Festival at any date with a binary search.
+ * The Festival table holds dated intervals, and each Festival recurs every year on the dates of its latest stored interval,
+ * so the stored intervals are used as they are up to the latest stored year of each Festival
+ * and that interval is projected onto every later year, keeping its months, days and times.
+ * The intervals of the years either side of the looked up year are indexed, and indexed again when the looked up year changes.
+ * Overlapping intervals are rejected when the calendar is loaded, as only one Festival can be current.
+ * The last answer is cached until the next interval boundary, so most lookups cost a single comparison.
+ */
+public class FestivalCalendar {
+    private final List<Festival> StoredFestivalList;
+    private final List<Festival> LatestFestivalList;
+
+    private int ProjectedYear;
+    private Festival[] FestivalList;
+    private long[] StartSecondList;
+    private long[] EndSecondList;
+
+    private Festival CachedFestival;
+    private long CachedFromSecond;
+    private long CachedUntilSecond;
+
+    /**
+     * Sort the stored Festivals by start date, find the latest stored interval of each Festival,
+     * and check the stored intervals and the intervals projected onto the years after the latest stored year.
+     *
+     * @param festivalList              the Festivals with their dates
+     * @throws IllegalArgumentException a Festival ends before it starts or overlaps the next Festival
+     */
+    private FestivalCalendar(List<Festival> festivalList) {
+        List<Festival> storedFestivalList = new ArrayList<>(festivalList);
+        storedFestivalList.sort(Comparator.comparing(Festival::getStartDate));
+
+        Map<Integer, Festival> latestFestivalMap = new LinkedHashMap<>();
+
+        for (Festival festival : storedFestivalList) {
+            latestFestivalMap.put(festival.getCategoryID(), festival);
+        }
+
+        this.StoredFestivalList = storedFestivalList;
+        this.LatestFestivalList = List.copyOf(latestFestivalMap.values());
+
+        indexFestivals(storedFestivalList);
+
+        if (!LatestFestivalList.isEmpty()) {
+            int latestStoredYear = LatestFestivalList.stream().mapToInt(festival -> festival.getStartDate().getYear()).max().getAsInt();
+            projectFestivals(latestStoredYear + 1);
+        }
+    }
+
+    /**
+     * Get every Festival from the database once.
+     *
+     * @param databaseConnection        the connection to the Starbower relational database
+     * @param sqlQueries                a class for retrieving SQL query strings
+     *
+     * @return                          a FestivalCalendar class holding the Festival dates
+     * @throws SQLException             the database could not be accessed or the table/column/row could not be found
+     * @throws IllegalArgumentException a Festival ends before it starts or overlaps another Festival
+     */
+    public static FestivalCalendar load(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        return new FestivalCalendar(QueryHandler.getFestivalList(databaseConnection, sqlQueries));
+    }
+
+    /**
+     * Get every Festival from the binary catalogue once.
+     *
+     * @param catalogue                 the binary catalogue of the static table data
+     *
+     * @return                          a FestivalCalendar class holding the Festival dates
+     * @throws IllegalArgumentException a Festival ends before it starts or overlaps another Festival
+     */
+    public static FestivalCalendar load(CatalogueFile catalogue) {
+        List<Festival> festivalList = new ArrayList<>();
+
+        for (int record = 0; record < catalogue.getFestivalCount(); record++) {
+            LocalDateTime startDate = LocalDateTime.ofEpochSecond(catalogue.getFestivalStartSecond(record), 0, ZoneOffset.UTC);
+            LocalDateTime endDate = LocalDateTime.ofEpochSecond(catalogue.getFestivalEndSecond(record), 0, ZoneOffset.UTC);
+
+            festivalList.add(new Festival(catalogue.getFestivalCategoryID(record), catalogue.getFestivalName(record), startDate, endDate, false));
+        }
+        return new FestivalCalendar(festivalList);
+    }
+
+    /**
+     * Get the ongoing Festival at a date, or the next Festival to start if none is ongoing.
+     * A Festival is ongoing from its start date up to and including its end date.
+     * Return the cached Festival if the date is still before the next interval boundary,
+     * otherwise index the intervals of the years around the date if needed and search them.
+     *
+     * @param utcDate   the date in UTC
+     * @return          a Festival class with the ongoing boolean, or null if there are no Festivals
+     */
+    public synchronized Festival getCurrentOrNextFestival(LocalDateTime utcDate) {
+        long utcSecond = utcDate.toEpochSecond(ZoneOffset.UTC);
+
+        if (CachedFestival != null && utcSecond >= CachedFromSecond && utcSecond < CachedUntilSecond) {
+            return CachedFestival;
+        }
+
+        if (StoredFestivalList.isEmpty()) {
+            return null;
+        }
+
+        if (utcDate.getYear() != ProjectedYear) {
+            projectFestivals(utcDate.getYear());
+        }
+        return findFestival(utcSecond);
+    }
+
+    /**
+     * Find the last interval starting at or before a second and check if the second is within it.
+     * Otherwise find the interval that starts next.
+     * Cache the found Festival with the seconds it stays correct for.
+     *
+     * @param utcSecond the epoch second in UTC
+     * @return          the ongoing or next Festival class, or null if no indexed Festival starts after the second
+     */
+    private Festival findFestival(long utcSecond) {
+        int position = Arrays.binarySearch(StartSecondList, utcSecond);
+        int lastStartedPosition = position >= 0 ? position : -position - 2;
+
+        if (lastStartedPosition >= 0 && utcSecond <= EndSecondList[lastStartedPosition]) {
+            Festival festival = FestivalList[lastStartedPosition];
+            Festival ongoingFestival = new Festival(festival.getCategoryID(), festival.getName(), festival.getStartDate(), festival.getEndDate(), true);
+
+            return cacheFestival(ongoingFestival, StartSecondList[lastStartedPosition], EndSecondList[lastStartedPosition] + 1);
+        }
+
+        int nextPosition = lastStartedPosition + 1;
+        long fromSecond = lastStartedPosition >= 0 ? EndSecondList[lastStartedPosition] + 1 : Long.MIN_VALUE;
+
+        if (nextPosition >= StartSecondList.length) {
+            return null;
+        }
+        return cacheFestival(FestivalList[nextPosition], fromSecond, StartSecondList[nextPosition]);
+    }
+
+    /**
+     * Store a found Festival and the range of seconds it is the answer for.
+     *
+     * @param festival      the found Festival class
+     * @param fromSecond    the first epoch second the Festival is the answer for
+     * @param untilSecond   the epoch second the next interval boundary is reached
+     *
+     * @return              the found Festival class
+     */
+    private Festival cacheFestival(Festival festival, long fromSecond, long untilSecond) {
+        CachedFestival = festival;
+        CachedFromSecond = fromSecond;
+        CachedUntilSecond = untilSecond;
+        return festival;
+    }
+
+    /**
+     * Get the intervals of the year before, the year of and the year after the looked up year and index them.
+     * A stored interval is used for each year up to the latest stored year of its Festival,
+     * and the latest stored interval of the Festival is shifted onto each later year.
+     *
+     * @param year                      the looked up year
+     * @throws IllegalArgumentException a projected Festival overlaps the next Festival
+     */
+    private void projectFestivals(int year) {
+        List<Festival> projectedFestivalList = new ArrayList<>();
+
+        for (Festival festival : StoredFestivalList) {
+            int startYear = festival.getStartDate().getYear();
+
+            if (startYear >= year - 1 && startYear <= year + 1) {
+                projectedFestivalList.add(festival);
+            }
+        }
+
+        for (Festival festival : LatestFestivalList) {
+            int latestYear = festival.getStartDate().getYear();
+
+            for (int projectedYear = Math.max(year - 1, latestYear + 1); projectedYear <= year + 1; projectedYear++) {
+                int yearOffset = projectedYear - latestYear;
+                projectedFestivalList.add(new Festival(festival.getCategoryID(), festival.getName(), festival.getStartDate().plusYears(yearOffset), festival.getEndDate().plusYears(yearOffset), false));
+            }
+        }
+
+        indexFestivals(projectedFestivalList);
+        ProjectedYear = year;
+    }
+
+    /**
+     * Sort the Festivals by start date and store their start and end seconds for searching.
+     *
+     * @param festivalList              the Festivals to index
+     * @throws IllegalArgumentException a Festival ends before it starts or overlaps the next Festival
+     */
+    private void indexFestivals(List<Festival> festivalList) {
+        Festival[] sortedFestivalList = festivalList.toArray(new Festival[0]);
+        Arrays.sort(sortedFestivalList, Comparator.comparing(Festival::getStartDate));
+
+        long[] startSecondList = new long[sortedFestivalList.length];
+        long[] endSecondList = new long[sortedFestivalList.length];
+
+        for (int position = 0; position < sortedFestivalList.length; position++) {
+            Festival festival = sortedFestivalList[position];
+            startSecondList[position] = festival.getStartDate().toEpochSecond(ZoneOffset.UTC);
+            endSecondList[position] = festival.getEndDate().toEpochSecond(ZoneOffset.UTC);
+
+            if (endSecondList[position] < startSecondList[position]) {
+                throw new IllegalArgumentException("The " + festival.getName() + " Festival ends before it starts: " + festival.getStartDate() + " to " + festival.getEndDate());
+            }
+
+            if (position > 0 && startSecondList[position] <= endSecondList[position - 1]) {
+                Festival previousFestival = sortedFestivalList[position - 1];
+                throw new IllegalArgumentException("The " + festival.getName() + " Festival starting " + festival.getStartDate() + " overlaps the " + previousFestival.getName() + " Festival ending " + previousFestival.getEndDate());
+            }
+        }
+
+        FestivalList = sortedFestivalList;
+        StartSecondList = startSecondList;
+        EndSecondList = endSecondList;
+    }
+}
\ No newline at end of file
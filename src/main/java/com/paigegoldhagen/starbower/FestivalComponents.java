@@ -4,75 +4,92 @@ import javax.swing.*;
 import java.awt.*;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Creating and updating Festival panel components using a repeating Runnable interface.
+ * Creating and updating Festival panel components using a repeating supervised task.
  */
 public class FestivalComponents implements ComponentHandler, QueryHandler {
     /**
-     * Schedule a Runnable to update the Festival components every minute.
+     * Schedule a supervised task to update the Festival components every minute.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param searchIndex           the search index to manage all created DynamicEvent tables
      * @param festivalPanel         the panel to add Festival components
      * @param checkboxList          a list to manage all created checkboxes
+     * @param eventTableList        a list to manage all created DynamicEvent tables
+     *
+     * @return                      the supervised Festival component updater
      */
-    public static void scheduleFestivalComponentUpdater(Connection databaseConnection, Queries sqlQueries, JFrame frame, JPanel festivalPanel, List<JCheckBox> checkboxList) {
-        Runnable updateFestivalComponents = updateFestivalComponents(databaseConnection, sqlQueries, frame, festivalPanel, checkboxList);
-        ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
-        executorService.scheduleAtFixedRate(updateFestivalComponents, 0, 1, TimeUnit.MINUTES);
+    public static SupervisedTask scheduleFestivalComponentUpdater(Connection databaseConnection, Queries sqlQueries, Settings settings, FestivalCalendar festivalCalendar, Clock utcClock, EventSearchIndex searchIndex, JPanel festivalPanel, List<JCheckBox> checkboxList, List<EventTable> eventTableList) {
+        SupervisedTask.Task updateFestivalComponents = updateFestivalComponents(databaseConnection, sqlQueries, settings, festivalCalendar, utcClock, searchIndex, festivalPanel, checkboxList, eventTableList);
+        return SupervisedTask.scheduleAtFixedRate("Festival component updater", updateFestivalComponents, 0, 1, TimeUnit.MINUTES);
     }
 
     /**
      * Remove any out of date Festival components from the Festival panel,
-     * populate the Festival panel with new Festival components, add listeners to the populated checkboxes,
-     * and repaint the Festival panel.
+     * populate the Festival panel with new Festival components, add listeners to the populated checkboxes and DynamicEvent tables,
+     * add the DynamicEvent tables to the search index,
+     * and repaint the Festival panel on the event dispatch thread, which owns the writer database connection.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param searchIndex           the search index to manage all created DynamicEvent tables
      * @param festivalPanel         the panel to add Festival components
      * @param checkboxList          a list to manage all created checkboxes
+     * @param eventTableList        a list to manage all created DynamicEvent tables
      *
      * @return                      the methods to run
      */
-    private static Runnable updateFestivalComponents(Connection databaseConnection, Queries sqlQueries, JFrame frame, JPanel festivalPanel, List<JCheckBox> checkboxList) {
-        return () -> {
-            removeOutOfDateComponents(festivalPanel, checkboxList);
+    static SupervisedTask.Task updateFestivalComponents(Connection databaseConnection, Queries sqlQueries, Settings settings, FestivalCalendar festivalCalendar, Clock utcClock, EventSearchIndex searchIndex, JPanel festivalPanel, List<JCheckBox> checkboxList, List<EventTable> eventTableList) {
+        return ComponentHandler.onEventDispatchThread(() -> {
+            removeOutOfDateComponents(searchIndex, festivalPanel, checkboxList, eventTableList);
 
             try {
-                populateFestivalPanel(databaseConnection, sqlQueries, frame, festivalPanel, checkboxList);
-                ComponentHandler.addCheckboxListeners(databaseConnection, sqlQueries, checkboxList);
+                populateFestivalPanel(databaseConnection, sqlQueries, festivalCalendar, utcClock, festivalPanel, checkboxList, eventTableList);
+                ComponentHandler.addCheckboxListeners(databaseConnection, sqlQueries, settings, checkboxList, eventTableList);
+                searchIndex.addEventTables(eventTableList);
             }
-            catch (SQLException e) {
-                throw new RuntimeException(e);
+            finally {
+                refreshFestivalPanel(festivalPanel);
             }
-            refreshFestivalPanel(festivalPanel);
-        };
+        });
     }
 
     /**
-     * Remove all components from the Festival panel and remove any Festival panel checkboxes from the checkbox list.
+     * Remove all components from the Festival panel and remove any Festival panel checkboxes and DynamicEvent tables
+     * from their lists and the search index.
      *
-     * @param festivalPanel the panel to remove components
-     * @param checkboxList  a list to manage all created checkboxes
+     * @param searchIndex       the search index to manage all created DynamicEvent tables
+     * @param festivalPanel     the panel to remove components
+     * @param checkboxList      a list to manage all created checkboxes
+     * @param eventTableList    a list to manage all created DynamicEvent tables
      */
-    private static void removeOutOfDateComponents(JPanel festivalPanel, List<JCheckBox> checkboxList) {
+    private static void removeOutOfDateComponents(EventSearchIndex searchIndex, JPanel festivalPanel, List<JCheckBox> checkboxList, List<EventTable> eventTableList) {
         List<Component> festivalComponentList = List.of(festivalPanel.getComponents());
 
         for (Component component : festivalComponentList) {
-            festivalPanel.remove(component);
-
             if (component instanceof JCheckBox) {
                 String componentName = component.getName();
                 checkboxList.removeIf(checkbox -> checkbox.getName().equals(componentName));
             }
+            else if (component instanceof EventTable eventTable) {
+                eventTableList.remove(eventTable);
+                searchIndex.removeEventTable(eventTable);
+            }
+            festivalPanel.remove(component);
         }
         refreshFestivalPanel(festivalPanel);
     }
@@ -88,43 +105,41 @@ public class FestivalComponents implements ComponentHandler, QueryHandler {
     }
 
     /**
-     * Get a list of Festivals and create countdown components based on the Festival ongoing boolean.
-     * Create DynamicEvent components if a Festival has DynamicEvents.
+     * Get the current or next Festival from the FestivalCalendar and create countdown components based on the Festival ongoing boolean.
+     * Get the Festival DynamicEvents and create DynamicEvent components if an ongoing Festival has DynamicEvents.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param utcClock              the clock giving the current instant in UTC
      * @param festivalPanel         the panel to add the countdown components and DynamicEvent components
      * @param checkboxList          a list to add all created checkboxes
+     * @param eventTableList        a list to add all created DynamicEvent tables
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void populateFestivalPanel(Connection databaseConnection, Queries sqlQueries, JFrame frame, JPanel festivalPanel, List<JCheckBox> checkboxList) throws SQLException {
-        LocalDateTime utcDate = getUtcDate();
-
-        List<Festival> festivalList = QueryHandler.getFestivalList(databaseConnection, sqlQueries, utcDate);
+    private static void populateFestivalPanel(Connection databaseConnection, Queries sqlQueries, FestivalCalendar festivalCalendar, Clock utcClock, JPanel festivalPanel, List<JCheckBox> checkboxList, List<EventTable> eventTableList) throws SQLException {
+        LocalDateTime utcDate = getUtcDate(utcClock);
 
-        for (Festival festival : festivalList) {
-            String festivalName = festival.getName();
+        Festival festival = festivalCalendar.getCurrentOrNextFestival(utcDate);
 
-            LocalDateTime startDate = festival.getStartDate();
-            LocalDateTime endDate = festival.getEndDate();
+        if (festival == null) {
+            return;
+        }
 
-            int rowCount = 0;
+        int rowCount = 0;
 
-            if (festival.getIsOngoing()) {
-                addCountdownComponents(festivalPanel, rowCount, festivalName, endDate, utcDate, festival.getIsOngoing());
-                List<DynamicEvent> dynamicEventList = festival.getDynamicEventList();
+        if (festival.getIsOngoing()) {
+            addCountdownComponents(festivalPanel, rowCount, festival.getName(), festival.getEndDate(), utcDate, festival.getIsOngoing());
+            List<DynamicEvent> dynamicEventList = QueryHandler.getDynamicEventList(databaseConnection, sqlQueries, festival.getCategoryID());
 
-                if (!dynamicEventList.isEmpty()) {
-                    addDynamicEventComponents(databaseConnection, sqlQueries, frame, festivalPanel, checkboxList, rowCount, festival, dynamicEventList);
-                }
-                break;
-            }
-            else if (startDate.equals(getUpcomingFestivalDate(databaseConnection, sqlQueries, utcDate))) {
-                addCountdownComponents(festivalPanel, rowCount, festivalName, startDate, utcDate, festival.getIsOngoing());
-                break;
+            if (!dynamicEventList.isEmpty()) {
+                addDynamicEventComponents(databaseConnection, sqlQueries, festivalPanel, checkboxList, eventTableList, rowCount, festival, dynamicEventList);
             }
         }
+        else {
+            addCountdownComponents(festivalPanel, rowCount, festival.getName(), festival.getStartDate(), utcDate, festival.getIsOngoing());
+        }
     }
 
     /**
@@ -135,13 +150,14 @@ public class FestivalComponents implements ComponentHandler, QueryHandler {
      * @param sqlQueries            a class for retrieving SQL query strings
      * @param festivalPanel         the panel to add the Category checkbox and DynamicEvent components
      * @param checkboxList          a list to add all created checkboxes
+     * @param eventTableList        a list to add all created DynamicEvent tables
      * @param rowCount              the current row within the layout
      * @param festival              a class for retrieving Festival information
      * @param dynamicEventList      a list of Festival DynamicEvents
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void addDynamicEventComponents(Connection databaseConnection, Queries sqlQueries, JFrame frame, JPanel festivalPanel, List<JCheckBox> checkboxList, Integer rowCount, Festival festival, List<DynamicEvent> dynamicEventList) throws SQLException {
+    private static void addDynamicEventComponents(Connection databaseConnection, Queries sqlQueries, JPanel festivalPanel, List<JCheckBox> checkboxList, List<EventTable> eventTableList, Integer rowCount, Festival festival, List<DynamicEvent> dynamicEventList) throws SQLException {
         GridBagConstraints layout = new GridBagConstraints();
         rowCount += 2;
         ComponentHandler.updateCategoryPanelLayout(layout);
@@ -150,14 +166,14 @@ public class FestivalComponents implements ComponentHandler, QueryHandler {
         String firstDynamicEventName = firstDynamicEvent.getName();
 
         if (dynamicEventList.size() == 1) {
-            addSingularDynamicEventComponents(frame, festivalPanel, checkboxList, layout, rowCount, firstDynamicEventName, firstDynamicEvent.getNotifyStateID(), firstDynamicEvent.getNotifyStateEnabled(), firstDynamicEvent.getMapName(), firstDynamicEvent.getWaypointLink(), "Copy nearest Waypoint");
+            addSingularDynamicEventComponents(festivalPanel, eventTableList, layout, rowCount, firstDynamicEventName, firstDynamicEvent.getNotifyStateID(), firstDynamicEvent.getNotifyStateEnabled(), firstDynamicEvent.getMapName(), firstDynamicEvent.getWaypointLink(), "Copy nearest Waypoint", getSearchText(festival.getName(), firstDynamicEvent));
         }
         else {
             String categoryName = getCategoryName(festival.getName(), dynamicEventList, dynamicEventList.getFirst().getName());
             addCategoryCheckbox(databaseConnection, sqlQueries, festivalPanel, checkboxList, layout, rowCount, festival.getCategoryID(), categoryName);
 
             rowCount += 1;
-            addMultiDynamicEventComponents(frame, festivalPanel, checkboxList, layout, rowCount, categoryName, dynamicEventList);
+            addMultiDynamicEventComponents(festivalPanel, eventTableList, layout, rowCount, categoryName, dynamicEventList);
         }
     }
 
@@ -188,29 +204,26 @@ public class FestivalComponents implements ComponentHandler, QueryHandler {
     }
 
     /**
-     * Determine the DynamicEvent name and create a DynamicEvent checkbox with the name,
-     * DynamicEvent NotifyState ID and NotifyState enabled boolean.
-     * Create a location label with the DynamicEvent waypoint name string.
+     * Determine the DynamicEvent name and create a DynamicEvent table row with the name,
+     * DynamicEvent NotifyState ID, NotifyState enabled boolean and waypoint name string.
+     * Create a DynamicEvent table with all the rows.
      *
-     * @param festivalPanel     the panel to add the DynamicEvent components
-     * @param checkboxList      a list to add all created checkboxes
+     * @param festivalPanel     the panel to add the DynamicEvent table
+     * @param eventTableList    a list to add all created DynamicEvent tables
      * @param layout            a class for setting visual constraints for GUI components
      * @param rowCount          the current row within the layout
      * @param categoryName      the Festival name string
      * @param dynamicEventList  a list of Festival DynamicEvents
      */
-    private static void addMultiDynamicEventComponents(JFrame frame, JPanel festivalPanel, List<JCheckBox> checkboxList, GridBagConstraints layout, Integer rowCount, String categoryName, List<DynamicEvent> dynamicEventList) {
+    private static void addMultiDynamicEventComponents(JPanel festivalPanel, List<EventTable> eventTableList, GridBagConstraints layout, Integer rowCount, String categoryName, List<DynamicEvent> dynamicEventList) {
         rowCount += 2;
-        int startRow = rowCount;
+        List<EventRow> eventRowList = new ArrayList<>();
 
         for (DynamicEvent dynamicEvent : dynamicEventList) {
             String dynamicEventName = getDynamicEventName(categoryName, dynamicEvent);
-
-            ComponentHandler.addDynamicEventCheckbox(festivalPanel, checkboxList, layout, rowCount, dynamicEventName, dynamicEvent.getNotifyStateID(), dynamicEvent.getNotifyStateEnabled());
-            rowCount += 1;
-            ComponentHandler.addLocationButton(frame, festivalPanel, layout, startRow, dynamicEvent.getWaypointName(), dynamicEvent.getWaypointLink(), "Copy Waypoint");
-            startRow += 1;
+            eventRowList.add(new EventRow(dynamicEventName, dynamicEvent.getNotifyStateID(), dynamicEvent.getNotifyStateEnabled(), dynamicEvent.getWaypointName(), dynamicEvent.getWaypointLink(), "Copy Waypoint", getSearchText(categoryName, dynamicEvent)));
         }
+        ComponentHandler.addEventTable(festivalPanel, eventTableList, layout, rowCount, eventRowList);
     }
 
     /**
@@ -238,13 +251,13 @@ public class FestivalComponents implements ComponentHandler, QueryHandler {
     }
 
     /**
-     * Get the zone ID of UTC and return the current date of the zone ID.
+     * Get the current date in UTC from the clock.
      *
-     * @return the current date in UTC
+     * @param utcClock  the clock giving the current instant in UTC
+     * @return          the current date in UTC
      */
-    private static LocalDateTime getUtcDate() {
-        ZoneId utcZoneID = ZoneId.of("UTC");
-        return LocalDateTime.now(utcZoneID).truncatedTo(ChronoUnit.SECONDS);
+    private static LocalDateTime getUtcDate(Clock utcClock) {
+        return LocalDateTime.now(utcClock).truncatedTo(ChronoUnit.SECONDS);
     }
 
     /**
@@ -275,24 +288,26 @@ public class FestivalComponents implements ComponentHandler, QueryHandler {
     }
 
     /**
-     * Create a DynamicEvent checkbox using the DynamicEvent name, NotifyState ID and NotifyState enabled boolean.
-     * Create a location label using the DynamicEvent map name.
+     * Create a DynamicEvent table with one row using the DynamicEvent name, NotifyState ID, NotifyState enabled boolean
+     * and map name.
      *
-     * @param festivalPanel                     the panel to add the DynamicEvent checkbox and location label
-     * @param checkboxList                      a list to add all created checkboxes
+     * @param festivalPanel                     the panel to add the DynamicEvent table
+     * @param eventTableList                    a list to add all created DynamicEvent tables
      * @param layout                            a class for setting visual constraints for GUI components
      * @param rowCount                          the current row within the layout
      * @param dynamicEventName                  the DynamicEvent name string
      * @param dynamicEventNotifyStateID         the NotifyState ID
      * @param dynamicEventNotifyStateEnabled    the NotifyState enabled boolean
      * @param dynamicEventMapName               the map name string
+     * @param waypointLink                      the Waypoint chat link string
+     * @param tooltipText                       the tooltip text string for the location cell
+     * @param searchText                        the names to find the DynamicEvent by in a search
      */
-    private static void addSingularDynamicEventComponents(JFrame frame, JPanel festivalPanel, List<JCheckBox> checkboxList, GridBagConstraints layout, Integer rowCount, String dynamicEventName, Integer dynamicEventNotifyStateID, Boolean dynamicEventNotifyStateEnabled, String dynamicEventMapName, String waypointLink, String tooltipText) {
+    private static void addSingularDynamicEventComponents(JPanel festivalPanel, List<EventTable> eventTableList, GridBagConstraints layout, Integer rowCount, String dynamicEventName, Integer dynamicEventNotifyStateID, Boolean dynamicEventNotifyStateEnabled, String dynamicEventMapName, String waypointLink, String tooltipText, String searchText) {
         rowCount += 1;
-        int startRow = rowCount;
 
-        ComponentHandler.addDynamicEventCheckbox(festivalPanel, checkboxList, layout, rowCount, dynamicEventName, dynamicEventNotifyStateID, dynamicEventNotifyStateEnabled);
-        ComponentHandler.addLocationButton(frame, festivalPanel, layout, startRow, dynamicEventMapName, waypointLink, tooltipText);
+        List<EventRow> eventRowList = List.of(new EventRow(dynamicEventName, dynamicEventNotifyStateID, dynamicEventNotifyStateEnabled, dynamicEventMapName, waypointLink, tooltipText, searchText));
+        ComponentHandler.addEventTable(festivalPanel, eventTableList, layout, rowCount, eventRowList);
     }
 
     /**
@@ -313,27 +328,14 @@ public class FestivalComponents implements ComponentHandler, QueryHandler {
     }
 
     /**
-     * Get a list of all Festival start dates and set the upcoming Festival date
-     * as the next nearest date before the current date.
+     * Join the DynamicEvent, Map, Waypoint and Category names to find the DynamicEvent by in a search.
      *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     * @param utcDate               the current date in UTC
+     * @param categoryName  the Category or Festival name string
+     * @param dynamicEvent  a class for retrieving DynamicEvent information
      *
-     * @return                      the start date of the next Festival
-     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     * @return              the search text string
      */
-    private static LocalDateTime getUpcomingFestivalDate(Connection databaseConnection, Queries sqlQueries, LocalDateTime utcDate) throws SQLException {
-        LocalDateTime upcomingFestivalDate = null;
-
-        List<LocalDateTime> festivalStartDateList = QueryHandler.getFestivalStartDateList(databaseConnection, sqlQueries);
-
-        for (LocalDateTime startDate : festivalStartDateList) {
-            if (utcDate.isBefore(startDate)) {
-                upcomingFestivalDate = startDate;
-                break;
-            }
-        }
-        return upcomingFestivalDate;
+    private static String getSearchText(String categoryName, DynamicEvent dynamicEvent) {
+        return String.join(" ", dynamicEvent.getName(), dynamicEvent.getMapName(), dynamicEvent.getWaypointName(), categoryName);
     }
 }
\ No newline at end of file
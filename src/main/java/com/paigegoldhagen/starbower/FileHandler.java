@@ -3,35 +3,81 @@ package com.paigegoldhagen.starbower;
 import java.io.*;
 import java.net.URL;
 import java.util.*;
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.util.List;
 
 /**
  * Finding and reading resource files.
+ * The startup resource files are read from the resource pack, which is loaded the first time a resource is opened
+ * and released once Starbower has started. A packed file opened after that is read from a fresh pass over the pack,
+ * and every other resource file is opened through the class loader.
  */
 public class FileHandler {
     private static final ClassLoader CLASS_LOADER = Thread.currentThread().getContextClassLoader();
 
+    private static ResourcePack StartupPack;
+    private static boolean IsStartupPackReleased;
+
     /**
      * Get the input stream of a file and return a BufferedReader class of the input stream.
      *
-     * @param filePath  the path of the resource file
-     * @return          a class to read from a character input stream
+     * @param filePath      the path of the resource file
+     *
+     * @return              a class to read from a character input stream
+     * @throws IOException  the resource pack could not be read
      */
-    public static BufferedReader getTextReader(String filePath) {
+    public static BufferedReader getTextReader(String filePath) throws IOException {
         InputStream stream = getInputStream(filePath);
         return new BufferedReader(new InputStreamReader(stream));
     }
 
     /**
-     * Get the input stream of a file using the current thread class loader.
+     * Get the input stream of a file from the resource pack, or using the current thread class loader if the file is not in the pack.
+     *
+     * @param filePath      the path of the resource file
+     *
+     * @return              an input stream of the file
+     * @throws IOException  the resource pack could not be read
+     */
+    public static InputStream getInputStream(String filePath) throws IOException {
+        ResourcePack startupPack = getStartupPack();
+        InputStream packStream = startupPack != null ? startupPack.getInputStream(filePath) : null;
+
+        if (packStream == null && startupPack == null && isPacked(filePath)) {
+            packStream = ResourcePack.readEntry(CLASS_LOADER.getResourceAsStream(ResourcePack.PACK_PATH), filePath);
+        }
+        return packStream != null ? packStream : CLASS_LOADER.getResourceAsStream(filePath);
+    }
+
+    /**
+     * Release the resource pack once the startup resource files have been read, so its entries do not stay in memory.
+     */
+    public static synchronized void releaseResourcePack() {
+        StartupPack = null;
+        IsStartupPackReleased = true;
+    }
+
+    /**
+     * Read the resource pack using the current thread class loader the first time it is needed,
+     * or use an empty pack if the jar was built without one.
+     *
+     * @return              the ResourcePack, or null if it has been released
+     * @throws IOException  the resource pack could not be read
+     */
+    private static synchronized ResourcePack getStartupPack() throws IOException {
+        if (StartupPack == null && !IsStartupPackReleased) {
+            StartupPack = ResourcePack.read(CLASS_LOADER.getResourceAsStream(ResourcePack.PACK_PATH));
+        }
+        return StartupPack;
+    }
+
+    /**
+     * Check whether a resource file is in one of the packed folders.
      *
      * @param filePath  the path of the resource file
-     * @return          an input stream of the file
+     * @return          true if the file is packed
      */
-    public static InputStream getInputStream(String filePath) {
-        return CLASS_LOADER.getResourceAsStream(filePath);
+    private static boolean isPacked(String filePath) {
+        int folderEnd = filePath.indexOf('/');
+        return folderEnd > 0 && ResourcePack.PACKED_FOLDER_LIST.contains(filePath.substring(0, folderEnd));
     }
 
     /**
@@ -45,24 +91,24 @@ public class FileHandler {
     }
 
     /**
-     * Read from the ImageFiles CSV to get the image file names and get the input stream for each file.
-     * Add the image input streams to a list.
+     * Read from the ImageFiles CSV to get the icon file names and the size of each icon file.
+     * The files themselves are not read, so each one can be decoded only when its size is needed.
      *
-     * @return              a list of populated Image classes
+     * @return              a map of icon sizes to icon file names, sorted by size
      * @throws IOException  a resource folder/file could not be found or read
      */
-    public static List<Image> loadImageList() throws IOException {
-        List<Image> imageList = new ArrayList<>();
+    public static NavigableMap<Integer, String> loadImageFileMap() throws IOException {
+        NavigableMap<Integer, String> imageFileMap = new TreeMap<>();
 
-        BufferedReader textReader = getTextReader("init/ImageFiles.csv");
-        String line = textReader.readLine();
+        try (BufferedReader textReader = getTextReader("init/ImageFiles.csv")) {
+            String line = textReader.readLine();
 
-        while (line != null) {
-            String fileName = line;
-            InputStream stream = getInputStream("images/" + fileName);
-            imageList.add(ImageIO.read(stream));
-            line = textReader.readLine();
+            while (line != null) {
+                String[] fileColumns = line.split(",");
+                imageFileMap.put(Integer.parseInt(fileColumns[1].trim()), fileColumns[0].trim());
+                line = textReader.readLine();
+            }
         }
-        return imageList;
+        return imageFileMap;
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.paigegoldhagen.starbower;
+
+import java.awt.*;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Registering the custom fonts in the background.
+ * The font files are parsed on another thread while the database is populated, and the GUI only waits for them when it is built.
+ * The fonts are registered once, and FlatLaf derives the theme fonts from the registered families through the Swing StyleContext font cache,
+ * so both themes share the same Font instances and switching themes never parses a font file again.
+ */
+public class FontHandler {
+    private static CompletableFuture<Void> FontRegistration;
+
+    /**
+     * Start registering the custom fonts on another thread, unless the registration has already started.
+     */
+    public static synchronized void startRegisteringCustomFonts() {
+        if (FontRegistration == null) {
+            FontRegistration = CompletableFuture.runAsync(() -> {
+                try {
+                    ResourceHandler.registerCustomFonts();
+                }
+                catch (IOException | FontFormatException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Wait for the custom fonts to be registered, starting the registration first if it has not started.
+     *
+     * @throws IOException          a resource folder/file could not be found or read
+     * @throws FontFormatException  the font format type is incompatible
+     */
+    public static void awaitCustomFonts() throws IOException, FontFormatException {
+        startRegisteringCustomFonts();
+
+        try {
+            FontRegistration.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof FontFormatException fontFormatException) {
+                throw fontFormatException;
+            }
+            throw e;
+        }
+    }
+}
\ No newline at end of file
@@ -1,8 +1,14 @@
 package com.paigegoldhagen.starbower;
 
+import com.formdev.flatlaf.FlatClientProperties;
+
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
+import java.awt.event.ItemEvent;
 import java.sql.*;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.prefs.Preferences;
@@ -11,29 +17,50 @@ import java.util.prefs.Preferences;
  * Displaying the main GUI window.
  */
 public class GUI implements ComponentHandler {
+    private static final int SEARCH_FIELD_WIDTH = 170;
+    private static final int SEARCH_FIELD_HEIGHT = 25;
+
     /**
-     * Initialise the frame, get the top panel containing dropdown panels, get the tabbed pane,
-     * and add the components to the frame.
-     * Set the frame to be visible and initialise the component focus.
+     * Initialise the frame, get the tabbed pane, get the top panel containing dropdown panels and the search field
+     * for the tabbed pane, and add the components to the frame.
+     * Set the frame to be visible, initialise the component focus and bring the frame to the front when a later launch asks for it.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
      * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared with the notification sender
+     * @param utcClock              the clock giving the current instant in UTC
      * @param appIconList           a list of Images for the frame
      * @param dropdownList          a list of Dropdown classes containing data for JLabels and dropdown selection boxes
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    public static void displayGUI(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, List<Image> appIconList, List<Dropdown> dropdownList) throws SQLException {
-        JFrame frame = initialiseFrame(databaseConnection, sqlQueries, windowsRegistry, appIconList);
+    public static void displayGUI(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, Settings settings, FestivalCalendar festivalCalendar, UpcomingEvents upcomingEvents, Clock utcClock, List<Image> appIconList, List<Dropdown> dropdownList) throws SQLException {
+        JFrame frame = initialiseFrame(databaseConnection, sqlQueries, windowsRegistry, settings, appIconList);
 
-        JPanel topPanel = getTopPanel(windowsRegistry, dropdownList, frame);
-        JTabbedPane tabbedPane = getTabbedPane(databaseConnection, sqlQueries, frame);
+        EventSearchIndex searchIndex = new EventSearchIndex();
+        JTabbedPane tabbedPane = getTabbedPane(databaseConnection, sqlQueries, settings, festivalCalendar, upcomingEvents, utcClock, searchIndex);
+        JPanel topPanel = getTopPanel(settings, dropdownList, frame, searchIndex, tabbedPane);
 
         ComponentHandler.addComponentsToFrame(frame, topPanel, tabbedPane);
 
         frame.setVisible(true);
         ComponentHandler.setFrameFocus(tabbedPane);
+        InstanceGuard.getWorkingFolderGuard().setShowWindowAction(() -> SwingUtilities.invokeLater(() -> showFrame(frame)));
+    }
+
+    /**
+     * Restore the frame if it is minimised and bring it to the front.
+     *
+     * @param frame the visual window for GUI components
+     */
+    private static void showFrame(JFrame frame) {
+        frame.setVisible(true);
+        frame.setExtendedState(frame.getExtendedState() & ~Frame.ICONIFIED);
+        frame.toFront();
+        frame.requestFocus();
     }
 
     /**
@@ -42,12 +69,13 @@ public class GUI implements ComponentHandler {
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
      * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
+     * @param settings              the typed snapshot of the user preferences
      * @param appIconList           a list of Images for the frame
      *
      * @return                      the customised frame
      */
-    private static JFrame initialiseFrame(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, List<Image> appIconList) {
-        ThemeHandler.initialiseLookAndFeel(windowsRegistry);
+    private static JFrame initialiseFrame(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, Settings settings, List<Image> appIconList) {
+        ThemeHandler.initialiseLookAndFeel(settings);
         return createFrame(databaseConnection, sqlQueries, windowsRegistry, appIconList);
     }
 
@@ -86,23 +114,26 @@ public class GUI implements ComponentHandler {
     }
 
     /**
-     * Create a dropdown panel for each Dropdown data set and add the panels to a top-level panel.
+     * Create a dropdown panel for each Dropdown data set and a search panel, and add the panels to a top-level panel.
      *
-     * @param windowsRegistry   the user preferences for Starbower in the Windows Registry
+     * @param settings          the typed snapshot of the user preferences
      * @param dropdownList      a list of Dropdown classes containing data for JLabels and dropdown selection boxes
      * @param frame             the visual window for GUI components
+     * @param searchIndex       the search index of all DynamicEvent tables
+     * @param tabbedPane        the tabbed pane holding the DynamicEvent tables
      *
-     * @return                  a panel containing the Dropdown panels
+     * @return                  a panel containing the Dropdown panels and the search panel
      */
-    private static JPanel getTopPanel(Preferences windowsRegistry, List<Dropdown> dropdownList, JFrame frame) {
+    private static JPanel getTopPanel(Settings settings, List<Dropdown> dropdownList, JFrame frame, EventSearchIndex searchIndex, JTabbedPane tabbedPane) {
         JPanel topPanel = new JPanel(new GridBagLayout());
 
         List<JPanel> dropdownPanelList = new ArrayList<>();
 
         for (Dropdown dropdown : dropdownList) {
-            JPanel dropdownPanel = createDropdownPanel(windowsRegistry, frame, dropdownList, dropdown);
+            JPanel dropdownPanel = createDropdownPanel(settings, frame, tabbedPane, dropdownList, dropdown);
             dropdownPanelList.add(dropdownPanel);
         }
+        dropdownPanelList.add(createSearchPanel(searchIndex, tabbedPane));
 
         ComponentHandler.addDropdownPanelsToTopPanel(topPanel, dropdownPanelList);
 
@@ -110,21 +141,25 @@ public class GUI implements ComponentHandler {
     }
 
     /**
-     * Get the data for the dropdown components from the Dropdown data set and create the dropdown selection box.
+     * Get the data for the dropdown components from the Dropdown data set and create the dropdown selection box,
+     * or the notification reminder time selection box for the first Dropdown data set.
      * Create a dropdown panel and add the dropdown components to the panel using the ComponentHandler.
      *
-     * @param windowsRegistry   the user preferences for Starbower in the Windows Registry
+     * @param settings          the typed snapshot of the user preferences
      * @param frame             the visual window for GUI components
+     * @param tabbedPane        the tabbed pane inside the frame
      * @param dropdownList      a list of Dropdown classes containing data for JLabels and dropdown selection boxes
      * @param dropdown          a single Dropdown data set
      *
      * @return                  a dropdown panel containing JLabels and a dropdown selection box
      */
-    private static JPanel createDropdownPanel(Preferences windowsRegistry, JFrame frame, List<Dropdown> dropdownList, Dropdown dropdown) {
+    private static JPanel createDropdownPanel(Settings settings, JFrame frame, JTabbedPane tabbedPane, List<Dropdown> dropdownList, Dropdown dropdown) {
         String firstLabelText = dropdown.getFirstLabelText();
         String secondLabelText = dropdown.getSecondLabelText();
 
-        JComboBox<String> dropdownSelectionBox = createDropdownSelectionBox(windowsRegistry, frame, dropdownList, dropdown);
+        JComponent dropdownSelectionBox = dropdown.equals(dropdownList.getFirst())
+                ? createNotifyMinutesSelectionBox(settings, dropdown)
+                : createDropdownSelectionBox(settings, frame, tabbedPane, dropdown);
 
         List<JComponent> dropdownComponentList = getDropdownComponentList(firstLabelText, secondLabelText, dropdownSelectionBox);
 
@@ -136,11 +171,11 @@ public class GUI implements ComponentHandler {
      *
      * @param firstLabelText        a string for setting the first JLabel text
      * @param secondLabelText       a string for setting the second JLabel text
-     * @param dropdownSelectionBox  a JComboBox of selectable items
+     * @param dropdownSelectionBox  a component of selectable items
      *
      * @return                      a list of dropdown components
      */
-    private static List<JComponent> getDropdownComponentList(String firstLabelText, String secondLabelText, JComboBox<String> dropdownSelectionBox) {
+    private static List<JComponent> getDropdownComponentList(String firstLabelText, String secondLabelText, JComponent dropdownSelectionBox) {
         List<JComponent> dropdownComponentList = new ArrayList<>();
 
         dropdownComponentList.add(new JLabel(firstLabelText));
@@ -152,70 +187,247 @@ public class GUI implements ComponentHandler {
         return dropdownComponentList;
     }
 
+    /**
+     * Create a search field with placeholder text and a clear button, add a listener to the search field,
+     * and create a panel with a search label and the search field using the ComponentHandler.
+     *
+     * @param searchIndex   the search index of all DynamicEvent tables
+     * @param tabbedPane    the tabbed pane holding the DynamicEvent tables
+     *
+     * @return              a search panel containing a JLabel and the search field
+     */
+    private static JPanel createSearchPanel(EventSearchIndex searchIndex, JTabbedPane tabbedPane) {
+        JTextField searchField = new JTextField();
+
+        searchField.setPreferredSize(new Dimension(SEARCH_FIELD_WIDTH, SEARCH_FIELD_HEIGHT));
+        searchField.putClientProperty(FlatClientProperties.PLACEHOLDER_TEXT, "Event, map or waypoint");
+        searchField.putClientProperty(FlatClientProperties.TEXT_FIELD_SHOW_CLEAR_BUTTON, true);
+
+        addSearchFieldListener(searchIndex, tabbedPane, searchField);
+
+        return ComponentHandler.getDropdownPanel(getDropdownComponentList("Search:", null, searchField));
+    }
+
+    /**
+     * Add a listener to search the DynamicEvent tables with the search field text whenever it changes,
+     * and select the first tab with a match if the selected tab has none.
+     *
+     * @param searchIndex   the search index of all DynamicEvent tables
+     * @param tabbedPane    the tabbed pane holding the DynamicEvent tables
+     * @param searchField   the text field to listen to
+     */
+    private static void addSearchFieldListener(EventSearchIndex searchIndex, JTabbedPane tabbedPane, JTextField searchField) {
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent documentEvent) {search();}
+
+            @Override
+            public void removeUpdate(DocumentEvent documentEvent) {search();}
+
+            @Override
+            public void changedUpdate(DocumentEvent documentEvent) {search();}
+
+            private void search() {
+                searchIndex.search(searchField.getText());
+
+                if (!searchField.getText().isBlank()) {
+                    selectMatchingTab(searchIndex, tabbedPane);
+                }
+            }
+        });
+    }
+
+    /**
+     * Select the first tab showing a DynamicEvent table row if the selected tab shows none.
+     *
+     * @param searchIndex   the search index of all DynamicEvent tables
+     * @param tabbedPane    the tabbed pane holding the DynamicEvent tables
+     */
+    private static void selectMatchingTab(EventSearchIndex searchIndex, JTabbedPane tabbedPane) {
+        if (hasMatchingRows(searchIndex, tabbedPane.getSelectedComponent())) {
+            return;
+        }
+
+        for (int tab = 0; tab < tabbedPane.getTabCount(); tab++) {
+            if (hasMatchingRows(searchIndex, tabbedPane.getComponentAt(tab))) {
+                tabbedPane.setSelectedIndex(tab);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Check if a tab holds a DynamicEvent table with a row matching the search,
+     * as the search index hides the panel of every DynamicEvent table without one.
+     *
+     * @param searchIndex   the search index of all DynamicEvent tables
+     * @param tabComponent  the scroll pane of the tab
+     *
+     * @return              true if a matching row is shown in the tab
+     */
+    private static Boolean hasMatchingRows(EventSearchIndex searchIndex, Component tabComponent) {
+        for (EventTable eventTable : searchIndex.getEventTableSet()) {
+            if (eventTable.getParent() != null && eventTable.getParent().isVisible() && SwingUtilities.isDescendingFrom(eventTable, tabComponent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Add the selection data from the Dropdown data set to a new dropdown selection box.
-     * Set the selected item based on the default or saved user preference
+     * Set the selected item based on the default or saved theme in the settings
      * and set the preferred size of the dropdown selection box.
      * Add a listener to the dropdown selection box.
      *
-     * @param windowsRegistry   the user preferences for Starbower in the Windows Registry
+     * @param settings          the typed snapshot of the user preferences
      * @param frame             the visual window for GUI components
-     * @param dropdownList      a list of Dropdown classes containing data for JLabels and dropdown selection boxes
+     * @param tabbedPane        the tabbed pane inside the frame
      * @param dropdown          a single Dropdown data set
      *
      * @return                  a customised dropdown selection box
      */
-    private static JComboBox<String> createDropdownSelectionBox(Preferences windowsRegistry, JFrame frame, List<Dropdown> dropdownList, Dropdown dropdown) {
+    private static JComboBox<String> createDropdownSelectionBox(Settings settings, JFrame frame, JTabbedPane tabbedPane, Dropdown dropdown) {
         JComboBox<String> dropdownSelectionBox = new JComboBox<>(dropdown.getSelectionData());
 
-        dropdownSelectionBox.setSelectedItem(windowsRegistry.get(dropdown.getPreferenceKey(), dropdown.getPreferenceValue()));
+        dropdownSelectionBox.setSelectedItem(settings.getTheme());
         dropdownSelectionBox.setPreferredSize(new Dimension(dropdown.getSizeWidth(), dropdown.getSizeHeight()));
 
-        addDropdownSelectionBoxListener(windowsRegistry, frame, dropdownList, dropdown, dropdownSelectionBox);
+        addDropdownSelectionBoxListener(settings, frame, tabbedPane, dropdownSelectionBox);
 
         return dropdownSelectionBox;
     }
 
     /**
-     * Add a listener to save the selected item in the Windows Registry.
-     * Determine the dropdown data set and set the GUI theme using the ThemeHandler
-     * and update the frame so the new theme can be displayed.
+     * Add a listener to save the newly selected theme in the settings
+     * and switch the GUI theme using the ThemeHandler, restyling the frame and the selected tab.
      *
-     * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
+     * @param settings              the typed snapshot of the user preferences
      * @param frame                 the visual window for GUI components
-     * @param dropdownList          a list of Dropdown classes containing data for JLabels and dropdown selection boxes
-     * @param dropdown              a single Dropdown data set
+     * @param tabbedPane            the tabbed pane inside the frame
      * @param dropdownSelectionBox  a JComboBox of selectable items
      */
-    private static void addDropdownSelectionBoxListener(Preferences windowsRegistry, JFrame frame, List<Dropdown> dropdownList, Dropdown dropdown, JComboBox<String> dropdownSelectionBox) {
+    private static void addDropdownSelectionBoxListener(Settings settings, JFrame frame, JTabbedPane tabbedPane, JComboBox<String> dropdownSelectionBox) {
         dropdownSelectionBox.addItemListener(itemEventReceiver -> {
+            if (itemEventReceiver.getStateChange() != ItemEvent.SELECTED) {
+                return;
+            }
             String selectedItem = String.valueOf(dropdownSelectionBox.getSelectedItem());
 
-            if (dropdown.equals(dropdownList.getFirst())) {
-                windowsRegistry.put("Notify Minutes", selectedItem);
-            }
-            else {
-                windowsRegistry.put("Theme", selectedItem);
-                ThemeHandler.setTheme(selectedItem);
-                SwingUtilities.updateComponentTreeUI(frame);
-            }
+            settings.setTheme(selectedItem);
+            ThemeHandler.switchTheme(selectedItem, frame, tabbedPane);
         });
     }
 
     /**
-     * Create a new tabbed pane, set the tabbed pane visuals, and populate the tabbed pane.
+     * Create a button that shows a popup menu with a checkable item for each notification reminder time
+     * in the Dropdown data set, so more than one reminder time can be selected.
+     * Select the items saved in the settings and set the preferred size of the button.
+     *
+     * @param settings  the typed snapshot of the user preferences
+     * @param dropdown  a single Dropdown data set
+     *
+     * @return          a customised notification reminder time selection box
+     */
+    private static JButton createNotifyMinutesSelectionBox(Settings settings, Dropdown dropdown) {
+        JButton selectionButton = new JButton();
+        JPopupMenu selectionMenu = new JPopupMenu();
+        List<JCheckBoxMenuItem> selectionItemList = new ArrayList<>();
+
+        for (String selection : dropdown.getSelectionData()) {
+            JCheckBoxMenuItem selectionItem = new JCheckBoxMenuItem(getNotifyMinutesText(Integer.parseInt(selection)));
+
+            selectionItem.setName(selection);
+            selectionItem.setSelected(settings.getNotifyMinutesList().contains(Integer.parseInt(selection)));
+            selectionItem.putClientProperty("CheckBoxMenuItem.doNotCloseOnMouseClick", true);
+
+            selectionItemList.add(selectionItem);
+            selectionMenu.add(selectionItem);
+        }
+
+        selectionButton.setText(getNotifyMinutesListText(settings.getNotifyMinutesList()));
+        selectionButton.setPreferredSize(new Dimension(dropdown.getSizeWidth(), dropdown.getSizeHeight()));
+        selectionButton.addActionListener(actionEventReceiver -> selectionMenu.show(selectionButton, 0, selectionButton.getHeight()));
+
+        addNotifyMinutesSelectionListeners(settings, selectionButton, selectionItemList);
+
+        return selectionButton;
+    }
+
+    /**
+     * Add a listener to each notification reminder time item to save the selected reminder times in the settings
+     * and update the button text. The last selected item cannot be deselected.
+     *
+     * @param settings          the typed snapshot of the user preferences
+     * @param selectionButton   the button showing the selected reminder times
+     * @param selectionItemList a list of checkable notification reminder time items
+     */
+    private static void addNotifyMinutesSelectionListeners(Settings settings, JButton selectionButton, List<JCheckBoxMenuItem> selectionItemList) {
+        for (JCheckBoxMenuItem selectionItem : selectionItemList) {
+            selectionItem.addItemListener(itemEventReceiver -> {
+                List<Integer> notifyMinutesList = new ArrayList<>();
+
+                for (JCheckBoxMenuItem item : selectionItemList) {
+                    if (item.isSelected()) {
+                        notifyMinutesList.add(Integer.parseInt(item.getName()));
+                    }
+                }
+
+                if (notifyMinutesList.isEmpty()) {
+                    selectionItem.setSelected(true);
+                    return;
+                }
+
+                settings.setNotifyMinutesList(notifyMinutesList);
+                selectionButton.setText(getNotifyMinutesListText(settings.getNotifyMinutesList()));
+            });
+        }
+    }
+
+    /**
+     * Join the notification reminder times into the text shown on the selection button.
+     *
+     * @param notifyMinutesList a list of notification reminder times in minutes
+     * @return                  the reminder times text
+     */
+    private static String getNotifyMinutesListText(List<Integer> notifyMinutesList) {
+        List<String> notifyMinutesTextList = new ArrayList<>();
+
+        for (Integer notifyMinutes : notifyMinutesList) {
+            notifyMinutesTextList.add(getNotifyMinutesText(notifyMinutes));
+        }
+        return String.join(", ", notifyMinutesTextList);
+    }
+
+    /**
+     * Get the text for a notification reminder time, using "on start" for a reminder when the event starts.
+     *
+     * @param notifyMinutes the notification reminder time in minutes
+     * @return              the reminder time text
+     */
+    private static String getNotifyMinutesText(Integer notifyMinutes) {
+        return notifyMinutes == 0 ? "on start" : String.valueOf(notifyMinutes);
+    }
+
+    /**
+     * Create a new tabbed pane, set the tabbed pane visuals, add the theme listener, and populate the tabbed pane.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param frame                 the visual window for GUI components
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared with the notification sender
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param searchIndex           the search index to add all created DynamicEvent tables
      *
      * @return                      the populated tabbed pane
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static JTabbedPane getTabbedPane(Connection databaseConnection, Queries sqlQueries, JFrame frame) throws SQLException {
+    private static JTabbedPane getTabbedPane(Connection databaseConnection, Queries sqlQueries, Settings settings, FestivalCalendar festivalCalendar, UpcomingEvents upcomingEvents, Clock utcClock, EventSearchIndex searchIndex) throws SQLException {
         JTabbedPane tabbedPane = new JTabbedPane();
         setTabbedPaneVisuals(tabbedPane);
-        ComponentHandler.populateTabbedPane(databaseConnection, sqlQueries, frame, tabbedPane);
+        ThemeHandler.addTabbedPaneThemeListener(tabbedPane);
+        ComponentHandler.populateTabbedPane(databaseConnection, sqlQueries, settings, festivalCalendar, upcomingEvents, utcClock, searchIndex, tabbedPane);
 
         return tabbedPane;
     }
@@ -0,0 +1,286 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeping one running Starbower per working folder and handing later launches off to it.
+ * The running instance holds a lock on the lock file next to the database for as long as it runs,
+ * and listens for requests from later launches on a Unix domain socket next to it.
+ * A later launch that finds the lock held sends its request over the socket as one line and exits
+ * before it opens the database, builds the GUI or adds a second tray icon.
+ * Each request is read on its own thread and the connection is closed if the line does not arrive in time,
+ * so a launch that connects and stalls cannot hold up the requests after it.
+ * A failing accept backs off before it is retried, and the instance stops listening after repeated failures in a row,
+ * so a broken socket cannot keep the idle tray process busy.
+ * The operating system releases the lock if the running instance dies, and a stale socket file is replaced by the next running instance.
+ */
+public class InstanceGuard {
+    static final String SHOW_WINDOW_REQUEST = "show window";
+
+    private static final long HAND_OFF_TIMEOUT_MILLIS = 5000;
+    private static final long HAND_OFF_RETRY_MILLIS = 50;
+    private static final long REQUEST_TIMEOUT_MILLIS = 2000;
+    private static final long ACCEPT_RETRY_MILLIS = 100;
+    private static final long MAX_ACCEPT_RETRY_MILLIS = 30000;
+    private static final int MAX_ACCEPT_FAILURES = 10;
+    private static final int MAX_REQUEST_BYTES = 256;
+    private static final System.Logger LOGGER = System.getLogger(InstanceGuard.class.getName());
+    private static final InstanceGuard WORKING_FOLDER_GUARD = new InstanceGuard(Path.of(DatabaseHandler.DATABASE_NAME + ".lock"), Path.of(DatabaseHandler.DATABASE_NAME + ".socket"), HAND_OFF_TIMEOUT_MILLIS);
+
+    private final Path LockFile;
+    private final Path SocketFile;
+    private final long HandOffTimeoutMillis;
+
+    private FileChannel LockChannel;
+    private ServerSocketChannel ServerChannel;
+    private volatile Runnable ShowWindowAction;
+
+    /**
+     * Create a guard for a lock file and socket file. Nothing is locked or bound until the guard is acquired.
+     *
+     * @param lockFile              the lock file held by the running instance
+     * @param socketFile            the socket file the running instance listens on
+     * @param handOffTimeoutMillis  the time a later launch keeps trying to reach the running instance
+     */
+    InstanceGuard(Path lockFile, Path socketFile, long handOffTimeoutMillis) {
+        this.LockFile = lockFile;
+        this.SocketFile = socketFile;
+        this.HandOffTimeoutMillis = handOffTimeoutMillis;
+    }
+
+    /**
+     * Get the guard of the lock file and socket file next to the database in the working folder.
+     *
+     * @return  the InstanceGuard of the working folder
+     */
+    public static InstanceGuard getWorkingFolderGuard() {return WORKING_FOLDER_GUARD;}
+
+    /**
+     * Set the action run when a later launch asks the running instance to show its window.
+     * Requests received before the action is set are ignored, as the window is shown once the GUI is built.
+     *
+     * @param showWindowAction  the action bringing the main window to the front
+     */
+    public void setShowWindowAction(Runnable showWindowAction) {ShowWindowAction = showWindowAction;}
+
+    /**
+     * Lock the lock file and start listening for requests from later launches, unless this guard already holds the lock.
+     *
+     * @return              true if this guard holds the lock, or false if another process or another guard in this process holds it
+     * @throws IOException  the lock file could not be opened or locked
+     */
+    public synchronized boolean acquire() throws IOException {
+        if (LockChannel != null) {
+            return true;
+        }
+
+        FileChannel lockChannel = FileChannel.open(LockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        try {
+            if (lockChannel.tryLock() == null) {
+                lockChannel.close();
+                return false;
+            }
+        }
+        catch (OverlappingFileLockException e) {
+            lockChannel.close();
+            return false;
+        }
+
+        LockChannel = lockChannel;
+        startListening();
+        return true;
+    }
+
+    /**
+     * Stop listening, delete the socket file and release the lock.
+     *
+     * @throws IOException  the socket or lock file could not be closed or deleted
+     */
+    public synchronized void release() throws IOException {
+        if (LockChannel == null) {
+            return;
+        }
+
+        if (ServerChannel != null) {
+            ServerChannel.close();
+            Files.deleteIfExists(SocketFile);
+            ServerChannel = null;
+        }
+        LockChannel.close();
+        LockChannel = null;
+    }
+
+    /**
+     * Send a request to the running instance as one line, retrying while the running instance has the lock but is not yet listening.
+     *
+     * @param request   the request for the running instance
+     *
+     * @return          true if the request was sent, or false if the running instance could not be reached before the timeout
+     */
+    public boolean handOff(String request) {
+        long deadlineNanos = System.nanoTime() + HandOffTimeoutMillis * 1_000_000;
+        ByteBuffer requestBuffer = ByteBuffer.wrap((request + "\n").getBytes(StandardCharsets.UTF_8));
+
+        while (true) {
+            try (SocketChannel requestChannel = SocketChannel.open(UnixDomainSocketAddress.of(SocketFile))) {
+                while (requestBuffer.hasRemaining()) {
+                    requestChannel.write(requestBuffer);
+                }
+                return true;
+            }
+            catch (IOException | UnsupportedOperationException e) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    return false;
+                }
+            }
+
+            try {
+                Thread.sleep(HAND_OFF_RETRY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Replace any stale socket file, bind the socket and accept requests on a daemon thread.
+     * If the socket cannot be bound the lock is still held, so later launches report a failed hand-off instead of starting.
+     */
+    private void startListening() {
+        ServerSocketChannel serverChannel;
+
+        try {
+            Files.deleteIfExists(SocketFile);
+            serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            serverChannel.bind(UnixDomainSocketAddress.of(SocketFile));
+        }
+        catch (IOException | UnsupportedOperationException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Not listening for later launches", e);
+            return;
+        }
+
+        ServerChannel = serverChannel;
+        Thread listenerThread = new Thread(() -> acceptRequests(serverChannel), "InstanceGuard");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    /**
+     * Accept each connection from a later launch and read its request on a daemon thread of its own.
+     * After a failed accept, wait before accepting again, doubling the wait for each failure in a row up to a limit,
+     * and close the socket after too many failures in a row.
+     *
+     * @param serverChannel the bound socket of the running instance
+     */
+    private void acceptRequests(ServerSocketChannel serverChannel) {
+        int consecutiveFailures = 0;
+
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel requestChannel = serverChannel.accept();
+                consecutiveFailures = 0;
+
+                Thread requestThread = new Thread(() -> handleRequest(requestChannel), "InstanceGuard request");
+                requestThread.setDaemon(true);
+                requestThread.start();
+            }
+            catch (IOException e) {
+                if (!serverChannel.isOpen()) {
+                    return;
+                }
+                consecutiveFailures += 1;
+
+                if (consecutiveFailures >= MAX_ACCEPT_FAILURES) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Not listening for later launches after " + consecutiveFailures + " failed connections in a row", e);
+                    closeQuietly(serverChannel);
+                    return;
+                }
+
+                long retryMillis = Math.min(ACCEPT_RETRY_MILLIS << (consecutiveFailures - 1), MAX_ACCEPT_RETRY_MILLIS);
+                LOGGER.log(System.Logger.Level.WARNING, "A connection from a later launch could not be accepted, retrying in " + retryMillis + " ms", e);
+
+                try {
+                    Thread.sleep(retryMillis);
+                }
+                catch (InterruptedException interrupted) {
+                    closeQuietly(serverChannel);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the request line of a later launch and run the action it asks for,
+     * closing the connection instead if the line has not arrived before the request timeout.
+     *
+     * @param requestChannel    the connection from the later launch
+     */
+    private void handleRequest(SocketChannel requestChannel) {
+        CompletableFuture.delayedExecutor(REQUEST_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).execute(() -> closeQuietly(requestChannel));
+
+        try (requestChannel; InputStream requestStream = Channels.newInputStream(requestChannel)) {
+            String request = readRequestLine(requestStream);
+            Runnable showWindowAction = ShowWindowAction;
+
+            if (request.equals(SHOW_WINDOW_REQUEST) && showWindowAction != null) {
+                showWindowAction.run();
+            }
+        }
+        catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "A request from a later launch could not be read", e);
+        }
+    }
+
+    /**
+     * Read a request up to the end of its line, the end of the stream or the request size limit, whichever comes first.
+     *
+     * @param requestStream the input stream of the connection
+     *
+     * @return              the request without surrounding whitespace
+     * @throws IOException  the connection could not be read or was closed at the request timeout
+     */
+    private static String readRequestLine(InputStream requestStream) throws IOException {
+        ByteArrayOutputStream requestBytes = new ByteArrayOutputStream();
+        int nextByte = requestStream.read();
+
+        while (nextByte != -1 && nextByte != '\n' && requestBytes.size() < MAX_REQUEST_BYTES) {
+            requestBytes.write(nextByte);
+            nextByte = requestStream.read();
+        }
+        return requestBytes.toString(StandardCharsets.UTF_8).strip();
+    }
+
+    /**
+     * Close a connection or socket, ignoring a failure to close it.
+     *
+     * @param channel   the connection or socket to close
+     */
+    private static void closeQuietly(Channel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException ignored) {
+        }
+    }
+}
\ No newline at end of file
@@ -8,6 +8,11 @@ import java.util.List;
  * Interface handling the layout for GUI components.
  */
 public interface LayoutHandler {
+    /**
+     * The spacing above each DynamicEvent row, matching the top inset of the Category panel layout.
+     */
+    int EVENT_ROW_SPACING = 20;
+
     /**
      * Set the frame anchor, fill, insets and Y padding.
      *
@@ -169,6 +174,22 @@ public interface LayoutHandler {
         layout.weighty = 0.0;
     }
 
+    /**
+     * Set the DynamicEvent table fill, grid width, insets, X/Y grid position and Y weight.
+     * The DynamicEvent rows are spaced inside the table, so the table has no top inset.
+     *
+     * @param layout    a class for setting visual constraints for GUI components
+     * @param rowCount  the current row within the layout
+     */
+    static void setEventTableLayout(GridBagConstraints layout, Integer rowCount) {
+        layout.fill = GridBagConstraints.HORIZONTAL;
+        layout.gridwidth = GridBagConstraints.REMAINDER;
+        layout.insets = new Insets(0, 25, 0, 15);
+        layout.gridx = 0;
+        layout.gridy = rowCount;
+        layout.weighty = 0.0;
+    }
+
     /**
      * Set the location button anchor, X/Y grid positions and Y weight position.
      *
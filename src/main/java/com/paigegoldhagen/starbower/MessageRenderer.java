@@ -0,0 +1,94 @@
+package com.paigegoldhagen.starbower;
+
+import java.util.List;
+
+/**
+ * Rendering notification Message classes from the compiled Kind message templates.
+ * A renderer reuses one string builder, so each renderer must only be used by one thread.
+ */
+public class MessageRenderer {
+    private static final int EVENT_DISPLAY_LIMIT = 2;
+
+    private final EventCatalogue EventCatalogue;
+    private final StringBuilder MessageBuilder = new StringBuilder();
+
+    public MessageRenderer(EventCatalogue eventCatalogue) {
+        this.EventCatalogue = eventCatalogue;
+    }
+
+    /**
+     * Format the caption string and text string based on the amount of upcoming DynamicEvents.
+     * Create a new Message class with the formatted caption and text strings.
+     *
+     * @param upcomingDynamicEventList  a list of upcoming DynamicEvents
+     * @param notifyMinutes             the notification reminder time in minutes
+     *
+     * @return                          a populated Message class
+     */
+    public Message getNotificationMessage(List<DynamicEvent> upcomingDynamicEventList, Integer notifyMinutes) {
+        if (upcomingDynamicEventList.size() == 1) {
+            MessageBuilder.setLength(0);
+            appendSingleLine(upcomingDynamicEventList.getFirst());
+            appendNotifyMinutes(notifyMinutes);
+
+            return new Message(null, String.valueOf(MessageBuilder));
+        }
+
+        MessageBuilder.setLength(0);
+        MessageBuilder.append("Multiple events starting");
+        appendNotifyMinutes(notifyMinutes);
+        String messageCaption = String.valueOf(MessageBuilder);
+
+        MessageBuilder.setLength(0);
+        appendMultiLine(upcomingDynamicEventList);
+
+        return new Message(messageCaption, String.valueOf(MessageBuilder));
+    }
+
+    /**
+     * Append the reminder time to the message, or "now" if the reminder is for the start of the event.
+     *
+     * @param notifyMinutes the notification reminder time in minutes
+     */
+    private void appendNotifyMinutes(Integer notifyMinutes) {
+        if (notifyMinutes == 0) {
+            MessageBuilder.append(" now!");
+            return;
+        }
+        MessageBuilder.append(" in ").append(notifyMinutes).append(" minutes!");
+    }
+
+    /**
+     * Render the compiled template of the upcoming DynamicEvent Kind with the DynamicEvent display name.
+     *
+     * @param upcomingDynamicEvent  a class for retrieving DynamicEvent information
+     */
+    private void appendSingleLine(DynamicEvent upcomingDynamicEvent) {
+        MessageTemplate messageTemplate = EventCatalogue.getMessageTemplate(upcomingDynamicEvent.getKindID());
+        messageTemplate.render(MessageBuilder, upcomingDynamicEvent.getDisplayName());
+    }
+
+    /**
+     * Append one line per upcoming DynamicEvent up to the event display limit in a single pass.
+     * Append the last line based on the number of remaining events.
+     *
+     * @param upcomingDynamicEventList  a list of upcoming DynamicEvents
+     */
+    private void appendMultiLine(List<DynamicEvent> upcomingDynamicEventList) {
+        int eventCount = upcomingDynamicEventList.size();
+        int linesToShow = Math.min(eventCount, EVENT_DISPLAY_LIMIT + 1);
+
+        for (int eventPosition = 0; eventPosition < linesToShow; eventPosition++) {
+            MessageBuilder.append(upcomingDynamicEventList.get(eventPosition).getDisplayName()).append("\n");
+        }
+
+        int remainingEvents = eventCount - linesToShow;
+
+        if (remainingEvents == 1) {
+            MessageBuilder.append(upcomingDynamicEventList.getLast().getDisplayName());
+        }
+        else if (remainingEvents != 0) {
+            MessageBuilder.append("...and ").append(remainingEvents).append(" more events");
+        }
+    }
+}
\ No newline at end of file
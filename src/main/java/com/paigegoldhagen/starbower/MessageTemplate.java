@@ -0,0 +1,76 @@
+package com.paigegoldhagen.starbower;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiling a Kind message into a list of segments that can be rendered without re-parsing the message.
+ */
+public class MessageTemplate {
+    private final String[] SegmentList;
+
+    private MessageTemplate(String[] segmentList) {
+        this.SegmentList = segmentList;
+    }
+
+    /**
+     * Split a Kind message into literal text segments and DynamicEvent name placeholders.
+     * A placeholder (%s) is stored as a null segment and an escaped percent sign (%%) as a literal percent sign.
+     *
+     * @param kindMessage   the Kind message string, e.g. "%s will spawn"
+     * @return              the compiled MessageTemplate class
+     */
+    public static MessageTemplate compile(String kindMessage) {
+        List<String> segmentList = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        for (int position = 0; position < kindMessage.length(); position++) {
+            char character = kindMessage.charAt(position);
+
+            if (character == '%' && position + 1 < kindMessage.length()) {
+                char nextCharacter = kindMessage.charAt(position + 1);
+
+                if (nextCharacter == 's') {
+                    addLiteralSegment(segmentList, literal);
+                    segmentList.add(null);
+                    position += 1;
+                    continue;
+                }
+                else if (nextCharacter == '%') {
+                    literal.append('%');
+                    position += 1;
+                    continue;
+                }
+            }
+            literal.append(character);
+        }
+        addLiteralSegment(segmentList, literal);
+
+        return new MessageTemplate(segmentList.toArray(new String[0]));
+    }
+
+    /**
+     * Add the literal text collected so far as a segment and clear the literal text.
+     *
+     * @param segmentList   the list of segments being compiled
+     * @param literal       the literal text collected so far
+     */
+    private static void addLiteralSegment(List<String> segmentList, StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            segmentList.add(String.valueOf(literal));
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * Append the segments to a string builder, substituting the DynamicEvent name for each placeholder.
+     *
+     * @param messageBuilder    the string builder to append
+     * @param dynamicEventName  the DynamicEvent name string
+     */
+    public void render(StringBuilder messageBuilder, String dynamicEventName) {
+        for (String segment : SegmentList) {
+            messageBuilder.append(segment != null ? segment : dynamicEventName);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.paigegoldhagen.starbower;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Holding the sorted daily start times of each enabled DynamicEvent and finding the next start times
+ * from any date by lazily merging the DynamicEvent time lists with a binary heap.
+ * Only the requested number of start times is ever visited, so no whole day of times is built.
+ * The heap is reused between lookups, so an index must only be used by one thread at a time.
+ */
+public class NextEventIndex {
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private final int[] DynamicEventIDList;
+    private final int[][] SecondOfDayList;
+
+    private final long[] HeapDueSecondList;
+    private final int[] HeapEventPositionList;
+    private final int[] HeapTimePositionList;
+    private int HeapSize;
+
+    private NextEventIndex(int[] dynamicEventIDList, int[][] secondOfDayList) {
+        this.DynamicEventIDList = dynamicEventIDList;
+        this.SecondOfDayList = secondOfDayList;
+        this.HeapDueSecondList = new long[dynamicEventIDList.length];
+        this.HeapEventPositionList = new int[dynamicEventIDList.length];
+        this.HeapTimePositionList = new int[dynamicEventIDList.length];
+    }
+
+    /**
+     * Sort the distinct times of each Timetable by second of the day, skipping any Timetable without times.
+     *
+     * @param timetableList a list of Timetable classes for the enabled DynamicEvents
+     * @return              the built NextEventIndex class
+     */
+    public static NextEventIndex build(List<Timetable> timetableList) {
+        List<Integer> dynamicEventIDList = new ArrayList<>();
+        List<int[]> secondOfDayList = new ArrayList<>();
+
+        for (Timetable timetable : timetableList) {
+            int[] timetableSecondList = timetable.getTimeList().stream()
+                    .mapToInt(LocalTime::toSecondOfDay)
+                    .distinct()
+                    .sorted()
+                    .toArray();
+
+            if (timetableSecondList.length > 0) {
+                dynamicEventIDList.add(timetable.getDynamicEventID());
+                secondOfDayList.add(timetableSecondList);
+            }
+        }
+
+        int[] dynamicEventIDs = dynamicEventIDList.stream().mapToInt(Integer::intValue).toArray();
+        return new NextEventIndex(dynamicEventIDs, secondOfDayList.toArray(new int[0][]));
+    }
+
+    /**
+     * Get the next start times at or after a date, in order, across all DynamicEvents.
+     * Start the heap at the next start time of each DynamicEvent, then repeatedly take the earliest start time
+     * and move that DynamicEvent on to its following start time, wrapping to the next day.
+     * A DynamicEvent is dropped from the heap if the lookup returns null for it.
+     *
+     * @param fromDate              the date to search from in UTC
+     * @param count                 the maximum number of start times to get
+     * @param dynamicEventLookup    a function getting the DynamicEvent class for a DynamicEvent ID, or null to skip it
+     *
+     * @return                      a list of up to the given number of Occurrence classes
+     */
+    public List<Occurrence> getNextOccurrenceList(LocalDateTime fromDate, int count, IntFunction<DynamicEvent> dynamicEventLookup) {
+        List<Occurrence> occurrenceList = new ArrayList<>(count);
+
+        LocalDateTime fromMidnight = fromDate.toLocalDate().atStartOfDay();
+        initialiseHeap(fromDate.toLocalTime().toSecondOfDay());
+
+        while (occurrenceList.size() < count && HeapSize > 0) {
+            DynamicEvent dynamicEvent = dynamicEventLookup.apply(DynamicEventIDList[HeapEventPositionList[0]]);
+
+            if (dynamicEvent == null) {
+                removeFirst();
+                continue;
+            }
+
+            occurrenceList.add(new Occurrence(dynamicEvent, fromMidnight.plusSeconds(HeapDueSecondList[0])));
+            advanceFirst();
+        }
+        return occurrenceList;
+    }
+
+    /**
+     * Add every DynamicEvent to the heap at its first start time at or after the second of the day,
+     * or its first start time on the next day, and order the heap.
+     *
+     * @param fromSecond    the second of the day to search from
+     */
+    private void initialiseHeap(int fromSecond) {
+        HeapSize = 0;
+
+        for (int eventPosition = 0; eventPosition < SecondOfDayList.length; eventPosition++) {
+            int[] timetableSecondList = SecondOfDayList[eventPosition];
+            int timePosition = Arrays.binarySearch(timetableSecondList, fromSecond);
+
+            if (timePosition < 0) {
+                timePosition = -timePosition - 1;
+            }
+
+            long dueSecond;
+
+            if (timePosition < timetableSecondList.length) {
+                dueSecond = timetableSecondList[timePosition];
+            }
+            else {
+                timePosition = 0;
+                dueSecond = SECONDS_PER_DAY + timetableSecondList[0];
+            }
+
+            HeapDueSecondList[HeapSize] = dueSecond;
+            HeapEventPositionList[HeapSize] = eventPosition;
+            HeapTimePositionList[HeapSize] = timePosition;
+            HeapSize++;
+        }
+
+        for (int heapPosition = HeapSize / 2 - 1; heapPosition >= 0; heapPosition--) {
+            siftDown(heapPosition);
+        }
+    }
+
+    /**
+     * Move the DynamicEvent at the top of the heap on to its following start time and restore the heap order.
+     */
+    private void advanceFirst() {
+        int[] timetableSecondList = SecondOfDayList[HeapEventPositionList[0]];
+        int timePosition = HeapTimePositionList[0];
+        long dayStart = HeapDueSecondList[0] - timetableSecondList[timePosition];
+
+        if (timePosition + 1 < timetableSecondList.length) {
+            HeapTimePositionList[0] = timePosition + 1;
+            HeapDueSecondList[0] = dayStart + timetableSecondList[timePosition + 1];
+        }
+        else {
+            HeapTimePositionList[0] = 0;
+            HeapDueSecondList[0] = dayStart + SECONDS_PER_DAY + timetableSecondList[0];
+        }
+        siftDown(0);
+    }
+
+    /**
+     * Remove the DynamicEvent at the top of the heap and restore the heap order.
+     */
+    private void removeFirst() {
+        HeapSize--;
+        swap(0, HeapSize);
+        siftDown(0);
+    }
+
+    /**
+     * Move a heap entry down until neither child starts earlier.
+     *
+     * @param heapPosition  the position of the heap entry
+     */
+    private void siftDown(int heapPosition) {
+        while (true) {
+            int earliestPosition = heapPosition;
+            int leftPosition = 2 * heapPosition + 1;
+            int rightPosition = leftPosition + 1;
+
+            if (leftPosition < HeapSize && isEarlier(leftPosition, earliestPosition)) {
+                earliestPosition = leftPosition;
+            }
+            if (rightPosition < HeapSize && isEarlier(rightPosition, earliestPosition)) {
+                earliestPosition = rightPosition;
+            }
+            if (earliestPosition == heapPosition) {
+                return;
+            }
+            swap(heapPosition, earliestPosition);
+            heapPosition = earliestPosition;
+        }
+    }
+
+    /**
+     * Compare two heap entries by start time, then by DynamicEvent order.
+     *
+     * @param firstPosition     the position of the first heap entry
+     * @param secondPosition    the position of the second heap entry
+     *
+     * @return                  true if the first heap entry comes before the second heap entry
+     */
+    private boolean isEarlier(int firstPosition, int secondPosition) {
+        if (HeapDueSecondList[firstPosition] != HeapDueSecondList[secondPosition]) {
+            return HeapDueSecondList[firstPosition] < HeapDueSecondList[secondPosition];
+        }
+        return HeapEventPositionList[firstPosition] < HeapEventPositionList[secondPosition];
+    }
+
+    /**
+     * Swap two heap entries.
+     *
+     * @param firstPosition     the position of the first heap entry
+     * @param secondPosition    the position of the second heap entry
+     */
+    private void swap(int firstPosition, int secondPosition) {
+        long dueSecond = HeapDueSecondList[firstPosition];
+        HeapDueSecondList[firstPosition] = HeapDueSecondList[secondPosition];
+        HeapDueSecondList[secondPosition] = dueSecond;
+
+        int eventPosition = HeapEventPositionList[firstPosition];
+        HeapEventPositionList[firstPosition] = HeapEventPositionList[secondPosition];
+        HeapEventPositionList[secondPosition] = eventPosition;
+
+        int timePosition = HeapTimePositionList[firstPosition];
+        HeapTimePositionList[firstPosition] = HeapTimePositionList[secondPosition];
+        HeapTimePositionList[secondPosition] = timePosition;
+    }
+}
\ No newline at end of file
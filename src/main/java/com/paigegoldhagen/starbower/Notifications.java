@@ -1,79 +1,84 @@
 package com.paigegoldhagen.starbower;
 
 import java.awt.*;
-import java.sql.Connection;
 import java.sql.SQLException;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
+import java.time.Clock;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.prefs.Preferences;
+import java.util.function.Consumer;
 
 /**
  * Updating the Schedule table, getting upcoming DynamicEvents
- * and sending notifications using a repeating Runnable interface.
+ * and sending notifications using a repeating supervised task.
  */
 public class Notifications {
     /**
-     * Schedule a Runnable to retrieve an upcoming DynamicEvents list every second
+     * Schedule a supervised task to retrieve an upcoming DynamicEvents list every second
      * and send a notification if the list is not empty.
+     * Re-arm the schedule whenever the notification reminder times change.
      *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
+     * @param eventCatalogue        the DynamicEvent information loaded at startup
+     * @param settings              the typed snapshot of the user preferences
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared with the GUI
+     * @param utcClock              the clock giving the current instant in UTC
      * @param trayIcon              the tray icon in the system tray
-     * @param dropdownList          a list of Dropdown classes containing data for JLabels and dropdown selection boxes
+     *
+     * @return                      the supervised notification sender
      */
-    public static void scheduleNotificationSender(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, TrayIcon trayIcon, List<Dropdown> dropdownList) {
-        Runnable sendNotification = sendNotification(databaseConnection, sqlQueries, windowsRegistry, trayIcon, dropdownList);
-        ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
-        executorService.scheduleAtFixedRate(sendNotification, 0, 1, TimeUnit.SECONDS);
+    public static SupervisedTask scheduleNotificationSender(EventCatalogue eventCatalogue, Settings settings, UpcomingEvents upcomingEvents, Clock utcClock, TrayIcon trayIcon) {
+        SupervisedTask.Task sendNotification = sendNotification(eventCatalogue, upcomingEvents, utcClock, trayIcon);
+        SupervisedTask notificationSender = SupervisedTask.scheduleAtFixedRate("Notification sender", sendNotification, 0, 1, TimeUnit.SECONDS);
+
+        settings.addNotifyMinutesListener(notificationSender::rearm);
+        return notificationSender;
     }
 
     /**
-     * Get the current date in UTC, update the Schedule table, and get the notification reminder time.
-     * Get a list of upcoming DynamicEvents using the current date and notification reminder time.
-     * If the list is not empty, get the notification message and display a notification using the tray icon.
+     * Get the current epoch second in UTC from the clock and send the notifications due at that second,
+     * displaying each notification using the tray icon.
      *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
+     * @param eventCatalogue        the DynamicEvent information loaded at startup
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared with the GUI
+     * @param utcClock              the clock giving the current instant in UTC
      * @param trayIcon              the tray icon in the system tray
-     * @param dropdownList          a list of Dropdown classes containing data for JLabels and dropdown selection boxes
      *
      * @return                      the methods to run
      */
-    private static Runnable sendNotification(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, TrayIcon trayIcon, List<Dropdown> dropdownList) {
-        return () -> {
-            try {
-                LocalDateTime utcDate = getUtcDate();
+    private static SupervisedTask.Task sendNotification(EventCatalogue eventCatalogue, UpcomingEvents upcomingEvents, Clock utcClock, TrayIcon trayIcon) {
+        MessageRenderer messageRenderer = new MessageRenderer(eventCatalogue);
+        Consumer<Message> notificationSink = notificationMessage -> trayIcon.displayMessage(notificationMessage.getCaption(), notificationMessage.getText(), TrayIcon.MessageType.NONE);
 
-                ScheduleHandler.updateScheduleTable(databaseConnection, sqlQueries, utcDate);
-                int notifyMinutes = Integer.parseInt(windowsRegistry.get(dropdownList.getFirst().getPreferenceKey(), dropdownList.getFirst().getPreferenceValue()));
+        return () -> sendDueNotifications(upcomingEvents, messageRenderer, getUtcSecond(utcClock), notificationSink);
+    }
 
-                List<DynamicEvent> upcomingDynamicEventList = UpcomingEvents.getUpcomingDynamicEventList(databaseConnection, sqlQueries, utcDate, notifyMinutes);
+    /**
+     * Get the lists of upcoming DynamicEvents for each notification reminder time at an epoch second.
+     * For each list, render the notification message and pass it to the notification sink.
+     * Nothing is allocated when no notification is due.
+     *
+     * @param upcomingEvents        the upcoming DynamicEvent indexes
+     * @param messageRenderer       a class for rendering notification messages
+     * @param utcSecond             the epoch second in UTC
+     * @param notificationSink      the receiver of each rendered notification message
+     *
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    static void sendDueNotifications(UpcomingEvents upcomingEvents, MessageRenderer messageRenderer, long utcSecond, Consumer<Message> notificationSink) throws SQLException {
+        Map<Integer, List<DynamicEvent>> upcomingDynamicEventMap = upcomingEvents.getUpcomingDynamicEventMap(utcSecond);
 
-                if (!upcomingDynamicEventList.isEmpty()) {
-                    Message notificationMessage = MessageHandler.getNotificationMessage(upcomingDynamicEventList, notifyMinutes);
-                    trayIcon.displayMessage(notificationMessage.getCaption(), notificationMessage.getText(), TrayIcon.MessageType.NONE);
-                }
-            }
-            catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
-        };
+        for (Map.Entry<Integer, List<DynamicEvent>> upcomingDynamicEvents : upcomingDynamicEventMap.entrySet()) {
+            notificationSink.accept(messageRenderer.getNotificationMessage(upcomingDynamicEvents.getValue(), upcomingDynamicEvents.getKey()));
+        }
     }
 
     /**
-     * Get the zone ID of UTC and return the current date of the zone ID.
+     * Get the current epoch second in UTC from the clock without creating a date.
      *
-     * @return  the current date in UTC
+     * @param utcClock  the clock giving the current instant in UTC
+     * @return          the current epoch second in UTC
      */
-    private static LocalDateTime getUtcDate() {
-        ZoneId utcZoneID = ZoneId.of("UTC");
-        return LocalDateTime.now(utcZoneID).truncatedTo(ChronoUnit.SECONDS);
+    private static long getUtcSecond(Clock utcClock) {
+        return Math.floorDiv(utcClock.millis(), 1000);
     }
 }
\ No newline at end of file
@@ -6,12 +6,15 @@ package com.paigegoldhagen.starbower;
 public class NotifyState {
     public Integer ID;
     public Boolean IsEnabled;
+    public Integer NotifyMinutes;
 
-    public NotifyState(Integer id, Boolean isEnabled) {
+    public NotifyState(Integer id, Boolean isEnabled, Integer notifyMinutes) {
         this.ID = id;
         this.IsEnabled = isEnabled;
+        this.NotifyMinutes = notifyMinutes;
     }
 
     public Integer getID() {return ID;}
     public Boolean getIsEnabled() {return IsEnabled;}
+    public Integer getNotifyMinutes() {return NotifyMinutes;}
 }
\ No newline at end of file
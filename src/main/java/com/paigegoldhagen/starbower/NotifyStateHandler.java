@@ -0,0 +1,78 @@
+package com.paigegoldhagen.starbower;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Updating NotifyStates and counting the NotifyState table changes,
+ * so a change can be detected without querying the NotifyState table.
+ */
+public class NotifyStateHandler {
+    private static final AtomicLong NOTIFY_STATE_VERSION = new AtomicLong();
+
+    /**
+     * Get the NotifyState change count, which changes whenever a NotifyState is updated or the tables are created.
+     *
+     * @return  the NotifyState change count
+     */
+    public static long getNotifyStateVersion() {return NOTIFY_STATE_VERSION.get();}
+
+    /**
+     * Count the NotifyState rows imported when the tables are created, which replace every NotifyState.
+     */
+    static void recordTablesCreated() {NOTIFY_STATE_VERSION.incrementAndGet();}
+
+    /**
+     * Get the UpdateNotifyStateEnabled query string, prepare a SQL statement using
+     * the NotifyState ID and NotifyState enabled boolean, and execute the prepared statement update.
+     * Count the change so the upcoming DynamicEvent indexes are rebuilt.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param notifyStateID         the NotifyState ID to retrieve the correct row
+     * @param notifyStateEnabled    the NotifyState enabled boolean to update
+     *
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static void updateNotifyState(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID, Boolean notifyStateEnabled) throws SQLException {
+        String queryString = sqlQueries.getQueryString(SqlQuery.UpdateNotifyStateEnabled);
+        PreparedStatement preparedStatement = databaseConnection.prepareStatement(queryString);
+        preparedStatement.setBoolean(1, notifyStateEnabled);
+        preparedStatement.setInt(2, notifyStateID);
+        preparedStatement.executeUpdate();
+
+        NOTIFY_STATE_VERSION.incrementAndGet();
+    }
+
+    /**
+     * Get the UpdateNotifyStateMinutes query string, prepare a SQL statement using
+     * the NotifyState ID and notification reminder time, and execute the prepared statement update.
+     * A null reminder time clears the override so the NotifyState uses the default reminder times.
+     * Count the change so the upcoming DynamicEvent indexes are rebuilt.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param notifyStateID         the NotifyState ID to retrieve the correct row
+     * @param notifyMinutes         the notification reminder time in minutes to update, or null
+     *
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    public static void updateNotifyStateMinutes(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID, Integer notifyMinutes) throws SQLException {
+        String queryString = sqlQueries.getQueryString(SqlQuery.UpdateNotifyStateMinutes);
+        PreparedStatement preparedStatement = databaseConnection.prepareStatement(queryString);
+
+        if (notifyMinutes != null) {
+            preparedStatement.setInt(1, notifyMinutes);
+        }
+        else {
+            preparedStatement.setNull(1, Types.INTEGER);
+        }
+        preparedStatement.setInt(2, notifyStateID);
+        preparedStatement.executeUpdate();
+
+        NOTIFY_STATE_VERSION.incrementAndGet();
+    }
+}
\ No newline at end of file
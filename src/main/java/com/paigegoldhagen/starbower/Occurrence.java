@@ -0,0 +1,19 @@
+package com.paigegoldhagen.starbower;
+
+import java.time.LocalDateTime;
+
+/**
+ * Setting and getting the start date of a single upcoming DynamicEvent.
+ */
+public class Occurrence {
+    public DynamicEvent DynamicEvent;
+    public LocalDateTime StartDate;
+
+    public Occurrence(DynamicEvent dynamicEvent, LocalDateTime startDate) {
+        this.DynamicEvent = dynamicEvent;
+        this.StartDate = startDate;
+    }
+
+    public DynamicEvent getDynamicEvent() {return DynamicEvent;}
+    public LocalDateTime getStartDate() {return StartDate;}
+}
\ No newline at end of file
@@ -1,28 +1,12 @@
 package com.paigegoldhagen.starbower;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import java.util.List;
 
 /**
- * Setting and getting SQL query strings.
+ * Getting SQL query strings from the queries generated from the query files.
  */
 public class Queries {
-    private final List<Pair<String, String>> QueryList;
-
-    public Queries(List<Pair<String, String>> queryList) {
-        this.QueryList = queryList;
-    }
-
-    public String getQueryString(String queryName) {
-        String queryString = null;
+    public List<SqlQuery> getQueryList() {return List.of(SqlQuery.values());}
 
-        for (Pair<String, String> queryPair : QueryList) {
-            if (queryPair.getKey().equals(queryName)) {
-                queryString = queryPair.getValue();
-                break;
-            }
-        }
-        return queryString;
-    }
+    public String getQueryString(SqlQuery query) {return query.getQueryString();}
 }
\ No newline at end of file
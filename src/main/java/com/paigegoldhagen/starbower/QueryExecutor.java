@@ -1,5 +1,6 @@
 package com.paigegoldhagen.starbower;
 
+import java.io.IOException;
 import java.sql.*;
 import java.time.LocalTime;
 
@@ -8,78 +9,79 @@ import java.time.LocalTime;
  */
 public interface QueryExecutor {
     static void dropTable(Connection databaseConnection, Queries sqlQueries, String tableName) throws SQLException {
-        String queryString = sqlQueries.getQueryString("DropTable");
+        String queryString = sqlQueries.getQueryString(SqlQuery.DropTable);
         queryString = queryString.replace("?", tableName);
         Statement sqlStatement = databaseConnection.createStatement();
         sqlStatement.execute(queryString);
     }
 
     /**
-     * Get the CreateTables query string and execute the SQL statement.
+     * Get the CreateTables query string, execute the SQL statement and import the table data CSVs.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
+     * @param dataFileOpener        a class to open the table data CSVs
      *
+     * @throws IOException          a resource folder/file could not be found or read
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static void createTables(Connection databaseConnection, Queries sqlQueries) throws SQLException {
-        String queryString = sqlQueries.getQueryString("CreateTables");
+    static void createTables(Connection databaseConnection, Queries sqlQueries, DataImporter.DataFileOpener dataFileOpener) throws IOException, SQLException {
+        String queryString = sqlQueries.getQueryString(SqlQuery.CreateTables);
         Statement sqlStatement = databaseConnection.createStatement();
         sqlStatement.execute(queryString);
+
+        DataImporter.importData(databaseConnection, dataFileOpener);
+
+        NotifyStateHandler.recordTablesCreated();
     }
 
     /**
-     * Get the query string from the query name and execute the SQL statement.
+     * Get the CompactDatabase query string and execute the SQL statement, closing the database.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param queryName             the query name string
      *
-     * @return                      a ResultSet of table columns and rows
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static ResultSet getBasicResultSet(Connection databaseConnection, Queries sqlQueries, String queryName) throws SQLException {
-        String queryString = sqlQueries.getQueryString(queryName);
+    static void compactDatabase(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        String queryString = sqlQueries.getQueryString(SqlQuery.CompactDatabase);
         Statement sqlStatement = databaseConnection.createStatement();
-        return sqlStatement.executeQuery(queryString);
+        sqlStatement.execute(queryString);
     }
 
     /**
-     * Get the query string from the query name, prepare a SQL statement using the column ID
-     * and execute the prepared SQL statement.
+     * Get the query string of the query and execute the SQL statement.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param queryName             the query name string
-     * @param columnID              the column ID to retrieve specific data
+     * @param query                 the query of a query file
      *
      * @return                      a ResultSet of table columns and rows
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static ResultSet getSpecificResultSet(Connection databaseConnection, Queries sqlQueries, String queryName, Integer columnID) throws SQLException {
-        String queryString = sqlQueries.getQueryString(queryName);
-        PreparedStatement preparedSQLStatement = databaseConnection.prepareStatement(queryString);
-        preparedSQLStatement.setInt(1, columnID);
-        return preparedSQLStatement.executeQuery();
+    static ResultSet getBasicResultSet(Connection databaseConnection, Queries sqlQueries, SqlQuery query) throws SQLException {
+        String queryString = sqlQueries.getQueryString(query);
+        Statement sqlStatement = databaseConnection.createStatement();
+        return sqlStatement.executeQuery(queryString);
     }
 
     /**
-     * Get the UpdateNotifyStateEnabled query string, prepare a SQL statement using
-     * the NotifyState ID and NotifyState enabled boolean, and execute the prepared statement update.
+     * Get the query string of the query, prepare a SQL statement using the column ID
+     * and execute the prepared SQL statement.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param notifyStateID         the NotifyState ID to retrieve the correct row
-     * @param notifyStateEnabled    the NotifyState enabled boolean to update
+     * @param query                 the query of a query file
+     * @param columnID              the column ID to retrieve specific data
      *
+     * @return                      a ResultSet of table columns and rows
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static void updateNotifyState(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID, Boolean notifyStateEnabled) throws SQLException {
-        String queryString = sqlQueries.getQueryString("UpdateNotifyStateEnabled");
-        PreparedStatement preparedStatement = databaseConnection.prepareStatement(queryString);
-        preparedStatement.setBoolean(1, notifyStateEnabled);
-        preparedStatement.setInt(2, notifyStateID);
-        preparedStatement.executeUpdate();
+    static ResultSet getSpecificResultSet(Connection databaseConnection, Queries sqlQueries, SqlQuery query, Integer columnID) throws SQLException {
+        String queryString = sqlQueries.getQueryString(query);
+        PreparedStatement preparedSQLStatement = databaseConnection.prepareStatement(queryString);
+        preparedSQLStatement.setInt(1, columnID);
+        return preparedSQLStatement.executeQuery();
     }
 
     /**
@@ -94,7 +96,7 @@ public interface QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static void updateScheduleTime(Connection databaseConnection, Queries sqlQueries, Integer scheduleID, LocalTime scheduleTime) throws SQLException {
-        String queryString = sqlQueries.getQueryString("UpdateScheduleTime");
+        String queryString = sqlQueries.getQueryString(SqlQuery.UpdateScheduleTime);
         PreparedStatement preparedStatement = databaseConnection.prepareStatement(queryString);
         preparedStatement.setTime(1, Time.valueOf(scheduleTime));
         preparedStatement.setInt(2, scheduleID);
@@ -1,13 +1,18 @@
 package com.paigegoldhagen.starbower;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.prefs.Preferences;
 
 /**
@@ -27,10 +32,10 @@ public interface QueryHandler extends QueryExecutor {
     static List<String> getTableNames(Connection databaseConnection, Queries sqlQueries) throws SQLException {
         List<String> tableNameList = new ArrayList<>();
 
-        ResultSet tableNames = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "TableNames");
+        ResultSet tableNames = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.TableNames);
 
         while (tableNames.next()) {
-            tableNameList.add(tableNames.getString("TABLE_NAME"));
+            tableNameList.add(SqlQuery.TableNamesRow.getTableName(tableNames));
         }
         return tableNameList;
     }
@@ -45,9 +50,9 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static String getVersionName(Connection databaseConnection, Queries sqlQueries) throws SQLException {
-        ResultSet versionName = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "Version");
+        ResultSet versionName = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.Version);
         versionName.next();
-        return versionName.getString("VersionName");
+        return SqlQuery.VersionRow.getVersionName(versionName);
     }
 
     /**
@@ -66,15 +71,42 @@ public interface QueryHandler extends QueryExecutor {
     }
 
     /**
-     * Create the database tables.
+     * Create the database tables and populate them from the bundled table data CSVs.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
      *
+     * @throws IOException          a resource folder/file could not be found or read
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static void createTables(Connection databaseConnection, Queries sqlQueries) throws SQLException {
-        QueryExecutor.createTables(databaseConnection, sqlQueries);
+    static void createTables(Connection databaseConnection, Queries sqlQueries) throws IOException, SQLException {
+        QueryExecutor.createTables(databaseConnection, sqlQueries, DataImporter.BUNDLED_DATA);
+    }
+
+    /**
+     * Create the database tables and populate them from the table data CSVs of the data file opener.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param dataFileOpener        a class to open the table data CSVs
+     *
+     * @throws IOException          a resource folder/file could not be found or read
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    static void createTables(Connection databaseConnection, Queries sqlQueries, DataImporter.DataFileOpener dataFileOpener) throws IOException, SQLException {
+        QueryExecutor.createTables(databaseConnection, sqlQueries, dataFileOpener);
+    }
+
+    /**
+     * Compact the database file and close the database.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     *
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    static void compactDatabase(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        QueryExecutor.compactDatabase(databaseConnection, sqlQueries);
     }
 
     /**
@@ -89,13 +121,14 @@ public interface QueryHandler extends QueryExecutor {
     static List<NotifyState> getNotifyStateList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
         List<NotifyState> notifyStateList = new ArrayList<>();
 
-        ResultSet notifyStates = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "NotifyStates");
+        ResultSet notifyStates = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStates);
 
         while (notifyStates.next()) {
-            int notifyStateID = notifyStates.getInt("PK_NotifyStateID");
-            boolean notifyStateEnabled = notifyStates.getBoolean("NotifyStateEnabled");
+            int notifyStateID = SqlQuery.NotifyStatesRow.getNotifyStateID(notifyStates);
+            Boolean notifyStateEnabled = SqlQuery.NotifyStatesRow.getNotifyStateEnabled(notifyStates);
+            Integer notifyMinutes = SqlQuery.NotifyStatesRow.getNotifyStateMinutes(notifyStates);
 
-            notifyStateList.add(new NotifyState(notifyStateID, notifyStateEnabled));
+            notifyStateList.add(new NotifyState(notifyStateID, notifyStateEnabled, notifyMinutes));
         }
         return notifyStateList;
     }
@@ -111,11 +144,26 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static void updateNotifyState(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID, Boolean notifyStateEnabled) throws SQLException {
-        QueryExecutor.updateNotifyState(databaseConnection, sqlQueries, notifyStateID, notifyStateEnabled);
+        NotifyStateHandler.updateNotifyState(databaseConnection, sqlQueries, notifyStateID, notifyStateEnabled);
+    }
+
+    /**
+     * Update the notification reminder time override of a NotifyState using a NotifyState ID.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param notifyStateID         the NotifyState ID to retrieve the correct row
+     * @param notifyMinutes         the notification reminder time in minutes, or null to use the default reminder times
+     *
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    static void updateNotifyStateMinutes(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID, Integer notifyMinutes) throws SQLException {
+        NotifyStateHandler.updateNotifyStateMinutes(databaseConnection, sqlQueries, notifyStateID, notifyMinutes);
     }
 
     /**
-     * Get all NotifyStates and save them to the Windows Registry.
+     * Get all NotifyStates and save the enabled booleans and notification reminder time overrides to the Windows Registry.
+     * Remove the saved override of any NotifyState without an override.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
@@ -124,13 +172,33 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static void backupNotifyStates(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry) throws SQLException {
-        ResultSet notifyStates = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "NotifyStates");
+        ResultSet notifyStates = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStates);
 
         while (notifyStates.next()) {
-            windowsRegistry.putBoolean(notifyStates.getString("PK_NotifyStateID"), notifyStates.getBoolean("NotifyStateEnabled"));
+            String notifyStateID = String.valueOf(SqlQuery.NotifyStatesRow.getNotifyStateID(notifyStates));
+            Integer notifyMinutes = SqlQuery.NotifyStatesRow.getNotifyStateMinutes(notifyStates);
+
+            windowsRegistry.putBoolean(notifyStateID, Boolean.TRUE.equals(SqlQuery.NotifyStatesRow.getNotifyStateEnabled(notifyStates)));
+
+            if (notifyMinutes != null) {
+                windowsRegistry.putInt(getNotifyMinutesKey(notifyStateID), notifyMinutes);
+            }
+            else {
+                windowsRegistry.remove(getNotifyMinutesKey(notifyStateID));
+            }
         }
     }
 
+    /**
+     * Get the Windows Registry key for the notification reminder time override of a NotifyState.
+     *
+     * @param notifyStateID the NotifyState ID string
+     * @return              the preference key string
+     */
+    static String getNotifyMinutesKey(String notifyStateID) {
+        return notifyStateID + " " + Settings.NOTIFY_MINUTES_KEY;
+    }
+
     /**
      * Get the NotifyState ID of a Category.
      *
@@ -142,9 +210,9 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static Integer getNotifyStateID(Connection databaseConnection, Queries sqlQueries, Integer categoryID) throws SQLException {
-        ResultSet notifyStateID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "NotifyStateID", categoryID);
+        ResultSet notifyStateID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStateID, categoryID);
         notifyStateID.next();
-        return notifyStateID.getInt("FK_Category_NotifyState");
+        return SqlQuery.NotifyStateIDRow.getNotifyStateID(notifyStateID);
     }
 
     /**
@@ -158,9 +226,46 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static Boolean getNotifyStateEnabled(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID) throws SQLException {
-        ResultSet notifyStateEnabled = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "NotifyStateEnabled", notifyStateID);
+        ResultSet notifyStateEnabled = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStateEnabled, notifyStateID);
         notifyStateEnabled.next();
-        return notifyStateEnabled.getBoolean("NotifyStateEnabled");
+        return SqlQuery.NotifyStateEnabledRow.getNotifyStateEnabled(notifyStateEnabled);
+    }
+
+    /**
+     * Get the notification reminder time override of a NotifyState ID.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param notifyStateID         the NotifyState ID to retrieve the correct row
+     *
+     * @return                      the notification reminder time in minutes, or null if the NotifyState has no override
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    static Integer getNotifyStateMinutes(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID) throws SQLException {
+        ResultSet notifyStateMinutes = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStateMinutes, notifyStateID);
+        notifyStateMinutes.next();
+        return SqlQuery.NotifyStateMinutesRow.getNotifyStateMinutes(notifyStateMinutes);
+    }
+
+    /**
+     * Get the notification reminder time override of every DynamicEvent with an override on its own NotifyState
+     * or on its Category NotifyState, preferring the DynamicEvent override.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     *
+     * @return                      a map of DynamicEvent IDs to notification reminder times in minutes
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    static Map<Integer, Integer> getNotifyMinutesOverrideMap(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        Map<Integer, Integer> notifyMinutesOverrideMap = new HashMap<>();
+
+        ResultSet notifyMinutesOverrides = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyMinutesOverrides);
+
+        while (notifyMinutesOverrides.next()) {
+            notifyMinutesOverrideMap.put(SqlQuery.NotifyMinutesOverridesRow.getDynamicEventID(notifyMinutesOverrides), SqlQuery.NotifyMinutesOverridesRow.getNotifyMinutes(notifyMinutesOverrides));
+        }
+        return notifyMinutesOverrideMap;
     }
 
     /**
@@ -175,10 +280,10 @@ public interface QueryHandler extends QueryExecutor {
     static List<Integer> getEnabledNotifyStateIDList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
         List<Integer> enabledNotifyStateIDList = new ArrayList<>();
 
-        ResultSet enabledNotifyStates = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "EnabledNotifyStates");
+        ResultSet enabledNotifyStates = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.EnabledNotifyStates);
 
         while (enabledNotifyStates.next()) {
-            enabledNotifyStateIDList.add(enabledNotifyStates.getInt("PK_NotifyStateID"));
+            enabledNotifyStateIDList.add(SqlQuery.EnabledNotifyStatesRow.getNotifyStateID(enabledNotifyStates));
         }
 
         return enabledNotifyStateIDList;
@@ -196,12 +301,12 @@ public interface QueryHandler extends QueryExecutor {
     static List<Integer> getCategoryNotifyStateIDList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
         List<Integer> categoryNotifyStateIDList = new ArrayList<>();
 
-        ResultSet categoryNotifyStateIDs = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "CategoryNotifyStateIDs");
+        ResultSet categoryNotifyStateIDs = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.CategoryNotifyStateIDs);
 
         while (categoryNotifyStateIDs.next()) {
-            int notifyStateID = categoryNotifyStateIDs.getInt("FK_Category_NotifyState");
+            Integer notifyStateID = SqlQuery.CategoryNotifyStateIDsRow.getNotifyStateID(categoryNotifyStateIDs);
 
-            if (notifyStateID != 0) {
+            if (notifyStateID != null) {
                 categoryNotifyStateIDList.add(notifyStateID);
             }
         }
@@ -219,15 +324,16 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static Integer getNotifyStateCategoryID(Connection databaseConnection, Queries sqlQueries, Integer notifyStateID) throws SQLException {
-        ResultSet notifyStateCategoryID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "NotifyStateCategoryID", notifyStateID);
+        ResultSet notifyStateCategoryID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStateCategoryID, notifyStateID);
         notifyStateCategoryID.next();
-        return notifyStateCategoryID.getInt("PK_CategoryID");
+        return SqlQuery.NotifyStateCategoryIDRow.getCategoryID(notifyStateCategoryID);
     }
 
     /**
      * Get all enabled NotifyState IDs for Categories and DynamicEvents.
      * Get the DynamicEvent ID from each NotifyState ID and add it to a list
-     * depending on if the NotifyState ID is associated with a Category or DynamicEvent.
+     * depending on if the NotifyState ID is associated with a Category or DynamicEvent,
+     * checking the Category NotifyState IDs with a set so the check does not grow with the number of Categories.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
@@ -239,13 +345,13 @@ public interface QueryHandler extends QueryExecutor {
         List<Integer> enabledDynamicEventIDList = new ArrayList<>();
 
         List<Integer> enabledNotifyStateIDList = getEnabledNotifyStateIDList(databaseConnection, sqlQueries);
-        List<Integer> categoryNotifyStateIDList = getCategoryNotifyStateIDList(databaseConnection, sqlQueries);
+        Set<Integer> categoryNotifyStateIDSet = new HashSet<>(getCategoryNotifyStateIDList(databaseConnection, sqlQueries));
 
         for (Integer notifyStateID : enabledNotifyStateIDList) {
-            if (!categoryNotifyStateIDList.contains(notifyStateID)) {
-                ResultSet dynamicEventID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "DynamicEventID", notifyStateID);
+            if (!categoryNotifyStateIDSet.contains(notifyStateID)) {
+                ResultSet dynamicEventID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.DynamicEventID, notifyStateID);
                 dynamicEventID.next();
-                enabledDynamicEventIDList.add(dynamicEventID.getInt("PK_DynamicEventID"));
+                enabledDynamicEventIDList.add(SqlQuery.DynamicEventIDRow.getDynamicEventID(dynamicEventID));
             }
         }
         return enabledDynamicEventIDList;
@@ -263,30 +369,14 @@ public interface QueryHandler extends QueryExecutor {
     static List<Expansion> getExpansionList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
         List<Expansion> expansionList = new ArrayList<>();
 
-        ResultSet expansions = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "Expansions");
+        ResultSet expansions = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.Expansions);
 
         while (expansions.next()) {
-            expansionList.add(new Expansion(expansions.getInt("PK_ExpansionID"), expansions.getString("ExpansionName")));
+            expansionList.add(new Expansion(SqlQuery.ExpansionsRow.getExpansionID(expansions), SqlQuery.ExpansionsRow.getExpansionName(expansions)));
         }
         return expansionList;
     }
 
-    /**
-     * Get the Expansion ID of a Category.
-     *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     * @param categoryID            the Category ID to retrieve the correct row
-     *
-     * @return                      an Expansion ID
-     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
-     */
-    static Integer getExpansionID(Connection databaseConnection, Queries sqlQueries, Integer categoryID) throws SQLException {
-        ResultSet expansionID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "ExpansionID", categoryID);
-        expansionID.next();
-        return expansionID.getInt("FK_Category_Expansion");
-    }
-
     /**
      * Get the last (maximum) Expansion ID in the Expansion table.
      *
@@ -297,9 +387,9 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static Integer getLastExpansionID(Connection databaseConnection, Queries sqlQueries) throws SQLException {
-        ResultSet lastExpansion = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "LastExpansion");
+        ResultSet lastExpansion = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.LastExpansion);
         lastExpansion.next();
-        return lastExpansion.getInt("LastExpansion");
+        return SqlQuery.LastExpansionRow.getLastExpansion(lastExpansion);
     }
 
     /**
@@ -315,10 +405,10 @@ public interface QueryHandler extends QueryExecutor {
     static List<Category> getCategoryList(Connection databaseConnection, Queries sqlQueries, Integer expansionID) throws SQLException {
         List<Category> categoryList = new ArrayList<>();
 
-        ResultSet categories = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "Categories", expansionID);
+        ResultSet categories = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.Categories, expansionID);
 
         while (categories.next()) {
-            Category category = new Category(categories.getInt("PK_CategoryID"), categories.getString("CategoryName"));
+            Category category = new Category(SqlQuery.CategoriesRow.getCategoryID(categories), SqlQuery.CategoriesRow.getCategoryName(categories));
             categoryList.add(category);
         }
         return categoryList;
@@ -335,9 +425,9 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static Integer getCategoryID(Connection databaseConnection, Queries sqlQueries, Integer dynamicEventID) throws SQLException {
-        ResultSet category = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "CategoryID", dynamicEventID);
+        ResultSet category = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.CategoryID, dynamicEventID);
         category.next();
-        return category.getInt("FK_DynamicEvent_Category");
+        return SqlQuery.CategoryIDRow.getCategoryID(category);
     }
 
     /**
@@ -350,9 +440,9 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static Integer getRotationalCategoryID(Connection databaseConnection, Queries sqlQueries) throws SQLException {
-        ResultSet rotationalCategoryID = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "RotationalCategoryID");
+        ResultSet rotationalCategoryID = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.RotationalCategoryID);
         rotationalCategoryID.next();
-        return rotationalCategoryID.getInt("PK_CategoryID");
+        return SqlQuery.RotationalCategoryIDRow.getCategoryID(rotationalCategoryID);
     }
 
     /**
@@ -367,9 +457,9 @@ public interface QueryHandler extends QueryExecutor {
      */
     static String getMapName(Connection databaseConnection, Queries sqlQueries, Integer waypointID) throws SQLException {
         int mapID = getMapID(databaseConnection, sqlQueries, waypointID);
-        ResultSet mapName = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "MapName", mapID);
+        ResultSet mapName = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.MapName, mapID);
         mapName.next();
-        return mapName.getString("MapName");
+        return SqlQuery.MapNameRow.getMapName(mapName);
     }
 
     /**
@@ -383,60 +473,36 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     private static Integer getMapID(Connection databaseConnection, Queries sqlQueries, Integer waypointID) throws SQLException {
-        ResultSet mapID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "MapID", waypointID);
+        ResultSet mapID = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.MapID, waypointID);
         mapID.next();
-        return mapID.getInt("FK_Waypoint_Map");
+        return SqlQuery.MapIDRow.getMapID(mapID);
     }
 
     /**
-     * Get all information from the Festival table, get the Festival name from the Category ID,
-     * determine if the Festival is ongoing, and get a list of Festival DynamicEvents.
-     * Add new Festival classes to a list.
+     * Get every Festival from the Festival table with its Category name in one query.
+     * Add new Festival classes to a list in order of start date.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param utcDate               the current date in UTC
      *
-     * @return                      a list of Festival classes
+     * @return                      a list of Festival classes with the dates from the Festival table
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static List<Festival> getFestivalList(Connection databaseConnection, Queries sqlQueries, LocalDateTime utcDate) throws SQLException {
+    static List<Festival> getFestivalList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
         List<Festival> festivalList = new ArrayList<>();
 
-        ResultSet festivals = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "Festivals");
+        ResultSet festivals = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.Festivals);
 
         while (festivals.next()) {
-            int categoryID = festivals.getInt("FK_Festival_Category");
-
-            ResultSet festivalCategory = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "FestivalCategory", categoryID);
-            festivalCategory.next();
-
-            LocalDateTime startDate = festivals.getTimestamp("FestivalStart").toLocalDateTime();
-            LocalDateTime endDate = festivals.getTimestamp("FestivalEnd").toLocalDateTime();
-
-            boolean festivalOngoing = isFestivalOngoing(startDate, endDate, utcDate);
-
-            List<DynamicEvent> dynamicEventList = getDynamicEventList(databaseConnection, sqlQueries, categoryID);
+            LocalDateTime startDate = SqlQuery.FestivalsRow.getFestivalStart(festivals);
+            LocalDateTime endDate = SqlQuery.FestivalsRow.getFestivalEnd(festivals);
 
-            Festival festival = new Festival(categoryID, festivalCategory.getString("CategoryName"), startDate, endDate, festivalOngoing, dynamicEventList);
+            Festival festival = new Festival(SqlQuery.FestivalsRow.getCategoryID(festivals), SqlQuery.FestivalsRow.getCategoryName(festivals), startDate, endDate, false);
             festivalList.add(festival);
         }
         return festivalList;
     }
 
-    /**
-     * Determine if a Festival is ongoing based on the start date, end date and current date.
-     *
-     * @param startDate the start date of a Festival
-     * @param endDate   the end date of a Festival
-     * @param utcDate   the current date in UTC
-     *
-     * @return          a boolean based on the date comparisons
-     */
-    private static Boolean isFestivalOngoing(LocalDateTime startDate, LocalDateTime endDate, LocalDateTime utcDate) {
-        return utcDate.isAfter(startDate) && utcDate.isBefore(endDate) || utcDate.equals(startDate) || utcDate.equals(endDate);
-    }
-
     /**
      * Get a Category name and NotifyState ID from a Festival Category ID.
      * Get the NotifyState enabled boolean from the NotifyState ID.
@@ -450,39 +516,16 @@ public interface QueryHandler extends QueryExecutor {
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
     static Category getFestivalCategory(Connection databaseConnection, Queries sqlQueries, Integer festivalCategoryID) throws SQLException {
-        ResultSet category = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "FestivalCategory", festivalCategoryID);
+        ResultSet category = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.FestivalCategory, festivalCategoryID);
         category.next();
 
-        String categoryName = category.getString("CategoryName");
-        int notifyStateID = category.getInt("FK_Category_NotifyState");
+        String categoryName = SqlQuery.FestivalCategoryRow.getCategoryName(category);
+        Integer notifyStateID = SqlQuery.FestivalCategoryRow.getNotifyStateID(category);
 
-        ResultSet notifyStateEnabled = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "NotifyStateEnabled", notifyStateID);
+        ResultSet notifyStateEnabled = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStateEnabled, notifyStateID);
         notifyStateEnabled.next();
 
-        return new Category(festivalCategoryID, categoryName, notifyStateID, notifyStateEnabled.getBoolean("NotifyStateEnabled"));
-    }
-
-    /**
-     * Get all Festival start dates and add them to a list.
-     * Sort the list in chronological order.
-     *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     *
-     * @return                      a list of Festival start dates in chronological order
-     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
-     */
-    static List<LocalDateTime> getFestivalStartDateList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
-        List<LocalDateTime> festivalStartDateList = new ArrayList<>();
-
-        ResultSet festivalStartDates = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "FestivalStartDates");
-
-        while (festivalStartDates.next()) {
-            LocalDateTime startDate = festivalStartDates.getTimestamp("FestivalStart").toLocalDateTime();
-            festivalStartDateList.add(startDate);
-        }
-        Collections.sort(festivalStartDateList);
-        return festivalStartDateList;
+        return new Category(festivalCategoryID, categoryName, notifyStateID, SqlQuery.NotifyStateEnabledRow.getNotifyStateEnabled(notifyStateEnabled));
     }
 
     /**
@@ -501,22 +544,22 @@ public interface QueryHandler extends QueryExecutor {
     static List<DynamicEvent> getDynamicEventList(Connection databaseConnection, Queries sqlQueries, Integer categoryID) throws SQLException {
         List<DynamicEvent> dynamicEventList = new ArrayList<>();
 
-        ResultSet dynamicEvents = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "DynamicEvents", categoryID);
+        ResultSet dynamicEvents = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.DynamicEvents, categoryID);
 
         while (dynamicEvents.next()) {
-            String dynamicEventName = dynamicEvents.getString("DynamicEventName");
-            int notifyStateID = dynamicEvents.getInt("FK_DynamicEvent_NotifyState");
-            int waypointID = dynamicEvents.getInt("FK_DynamicEvent_Waypoint");
+            String dynamicEventName = SqlQuery.DynamicEventsRow.getDynamicEventName(dynamicEvents);
+            int notifyStateID = SqlQuery.DynamicEventsRow.getNotifyStateID(dynamicEvents);
+            int waypointID = SqlQuery.DynamicEventsRow.getWaypointID(dynamicEvents);
 
-            ResultSet notifyStateEnabled = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "NotifyStateEnabled", notifyStateID);
+            ResultSet notifyStateEnabled = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.NotifyStateEnabled, notifyStateID);
             notifyStateEnabled.next();
 
             String mapName = getMapName(databaseConnection, sqlQueries, waypointID);
 
-            ResultSet waypoint = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "Waypoint", waypointID);
+            ResultSet waypoint = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.Waypoint, waypointID);
             waypoint.next();
 
-            DynamicEvent dynamicEvent = new DynamicEvent(dynamicEventName, notifyStateID, notifyStateEnabled.getBoolean("NotifyStateEnabled"), mapName, waypoint.getString("WaypointName"), waypoint.getString("WaypointLink"));
+            DynamicEvent dynamicEvent = new DynamicEvent(dynamicEventName, notifyStateID, SqlQuery.NotifyStateEnabledRow.getNotifyStateEnabled(notifyStateEnabled), mapName, SqlQuery.WaypointRow.getWaypointName(waypoint), SqlQuery.WaypointRow.getWaypointLink(waypoint));
             dynamicEventList.add(dynamicEvent);
         }
         return dynamicEventList;
@@ -534,10 +577,10 @@ public interface QueryHandler extends QueryExecutor {
     static List<Integer> getRotationalScheduleIDList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
         List<Integer> rotationalScheduleIDList = new ArrayList<>();
 
-        ResultSet rotationalScheduleIDs = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, "RotationalScheduleIDs");
+        ResultSet rotationalScheduleIDs = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.RotationalScheduleIDs);
 
         while (rotationalScheduleIDs.next()) {
-            rotationalScheduleIDList.add(rotationalScheduleIDs.getInt("PK_ScheduleID"));
+            rotationalScheduleIDList.add(SqlQuery.RotationalScheduleIDsRow.getScheduleID(rotationalScheduleIDs));
         }
         return rotationalScheduleIDList;
     }
@@ -569,60 +612,98 @@ public interface QueryHandler extends QueryExecutor {
     static List<Schedule> getScheduleList(Connection databaseConnection, Queries sqlQueries, Integer dynamicEventID) throws SQLException {
         List<Schedule> scheduleList = new ArrayList<>();
 
-        ResultSet schedules = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "Schedule", dynamicEventID);
+        ResultSet schedules = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, SqlQuery.Schedule, dynamicEventID);
 
         while (schedules.next()) {
-            LocalTime time = schedules.getTime("ScheduleTime").toLocalTime();
-            int frequency = schedules.getInt("ScheduleFrequency");
+            LocalTime time = SqlQuery.ScheduleRow.getScheduleTime(schedules);
+            int frequency = Objects.requireNonNullElse(SqlQuery.ScheduleRow.getScheduleFrequency(schedules), 0);
             scheduleList.add(new Schedule(time, frequency));
         }
         return scheduleList;
     }
 
     /**
-     * Get the Category ID from an upcoming DynamicEvent ID.
-     * Get the Expansion ID from the Category ID.
-     * Create a new Category class.
+     * Get the Category ID of every DynamicEvent in the last Expansion, which holds the Festival Categories.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param dynamicEventID        the DynamicEvent ID to retrieve the correct row
      *
-     * @return                      a Category class with Category ID and Expansion ID
+     * @return                      a map of Festival DynamicEvent IDs to Festival Category IDs
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static Category getUpcomingCategory(Connection databaseConnection, Queries sqlQueries, Integer dynamicEventID) throws SQLException {
-        int categoryID = getCategoryID(databaseConnection, sqlQueries, dynamicEventID);
-        int expansionID = getExpansionID(databaseConnection, sqlQueries, categoryID);
-        return new Category(categoryID, expansionID);
+    static Map<Integer, Integer> getFestivalCategoryIDMap(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        Map<Integer, Integer> festivalCategoryIDMap = new HashMap<>();
+
+        ResultSet festivalEvents = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.FestivalEvents);
+
+        while (festivalEvents.next()) {
+            festivalCategoryIDMap.put(SqlQuery.FestivalEventsRow.getDynamicEventID(festivalEvents), SqlQuery.FestivalEventsRow.getCategoryID(festivalEvents));
+        }
+        return festivalCategoryIDMap;
     }
 
     /**
-     * Get all information from the DynamicEvent table for an upcoming DynamicEvent ID.
-     * Get the Map name from the Waypoint ID.
-     * Create a new DynamicEvent class.
+     * Get every DynamicEvent with its Kind ID and Map name in a single query.
+     * Determine the display name of each DynamicEvent and add new DynamicEvent classes to a list.
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
-     * @param dynamicEventID        the DynamicEvent ID to retrieve the correct row
      *
-     * @return                      a DynamicEvent class with DynamicEvent name, DynamicEvent kind and Map name
+     * @return                      a list of DynamicEvent classes with DynamicEvent ID, name, Kind ID, Map name and display name
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    static DynamicEvent getUpcomingDynamicEvent(Connection databaseConnection, Queries sqlQueries, Integer dynamicEventID) throws SQLException {
-        ResultSet dynamicEvent = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "DynamicEvent", dynamicEventID);
-        dynamicEvent.next();
+    static List<DynamicEvent> getNotificationEventList(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        List<DynamicEvent> notificationEventList = new ArrayList<>();
 
-        String dynamicEventName = dynamicEvent.getString("DynamicEventName");
-        int dynamicEventKindID = dynamicEvent.getInt("FK_DynamicEvent_Kind");
+        ResultSet notificationEvents = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.NotificationEvents);
 
-        ResultSet kindMessage = QueryExecutor.getSpecificResultSet(databaseConnection, sqlQueries, "KindMessage", dynamicEventKindID);
-        kindMessage.next();
-        String dynamicEventKindMessage = kindMessage.getString("KindMessage");
+        while (notificationEvents.next()) {
+            int dynamicEventID = SqlQuery.NotificationEventsRow.getDynamicEventID(notificationEvents);
+            String dynamicEventName = SqlQuery.NotificationEventsRow.getDynamicEventName(notificationEvents);
+            int dynamicEventKindID = SqlQuery.NotificationEventsRow.getKindID(notificationEvents);
+            boolean kindShowsMapName = SqlQuery.NotificationEventsRow.getKindShowsMapName(notificationEvents);
+            String mapName = SqlQuery.NotificationEventsRow.getMapName(notificationEvents);
 
-        int waypointID = dynamicEvent.getInt("FK_DynamicEvent_Waypoint");
-        String mapName = getMapName(databaseConnection, sqlQueries, waypointID);
+            String displayName = getDisplayName(dynamicEventName, kindShowsMapName, mapName);
+            notificationEventList.add(new DynamicEvent(dynamicEventID, dynamicEventName, dynamicEventKindID, mapName, displayName));
+        }
+        return notificationEventList;
+    }
 
-        return new DynamicEvent(dynamicEventName, dynamicEventKindID, dynamicEventKindMessage, mapName);
+    /**
+     * Determine the DynamicEvent display name for notifications.
+     * Kinds such as Map Specific share DynamicEvent names between maps, so the Kind table marks them to add the Map name to the display name.
+     *
+     * @param dynamicEventName      the DynamicEvent name string
+     * @param kindShowsMapName      true if the Kind of the DynamicEvent adds the Map name to the display name
+     * @param mapName               the Map name string
+     *
+     * @return                      the DynamicEvent display name string
+     */
+    private static String getDisplayName(String dynamicEventName, boolean kindShowsMapName, String mapName) {
+        if (kindShowsMapName) {
+            return dynamicEventName + " (" + mapName + ")";
+        }
+        return dynamicEventName;
+    }
+
+    /**
+     * Get the message of every Kind and add the Kind ID/message pairs to a map.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     *
+     * @return                      a map of Kind IDs to Kind message strings
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    static Map<Integer, String> getKindMessageMap(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        Map<Integer, String> kindMessageMap = new HashMap<>();
+
+        ResultSet kinds = QueryExecutor.getBasicResultSet(databaseConnection, sqlQueries, SqlQuery.Kinds);
+
+        while (kinds.next()) {
+            kindMessageMap.put(SqlQuery.KindsRow.getKindID(kinds), SqlQuery.KindsRow.getKindMessage(kinds));
+        }
+        return kindMessageMap;
     }
 }
\ No newline at end of file
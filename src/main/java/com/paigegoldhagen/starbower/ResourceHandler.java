@@ -1,46 +1,25 @@
 package com.paigegoldhagen.starbower;
 
-import com.opencsv.bean.CsvToBeanBuilder;
-import com.opencsv.enums.CSVReaderNullFieldIndicator;
-import org.apache.commons.lang3.tuple.MutablePair;
-import org.apache.commons.lang3.tuple.Pair;
-
 import java.awt.*;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Loading resource files, creating loaded file classes and registering custom resources.
  */
 public class ResourceHandler {
     /**
-     * Read from the QueryFiles CSV to get the query file names
-     * and get the query string using the file name.
-     * Add query name/string pairs to a list.
+     * Create a Queries class for the query strings generated from the query files at build time.
      *
-     * @return              a Queries class with a list of query name/string pairs
-     * @throws IOException  a resource folder/file could not be found or read
+     * @return  a Queries class with the generated query strings
      */
-    public static Queries getDatabaseQueries() throws IOException {
-        List<Pair<String, String>> queryList = new ArrayList<>();
-
-        BufferedReader textReader = FileHandler.getTextReader("init/QueryFiles.csv");
-        String line = textReader.readLine();
-
-        while (line != null) {
-            String fileName = line;
-            String queryName = fileName.substring(0, fileName.lastIndexOf("."));
-            String queryString = getQueryString(fileName);
-
-            queryList.add(new MutablePair<>(queryName, queryString));
-
-            line = textReader.readLine();
-        }
-        return new Queries(queryList);
+    public static Queries getDatabaseQueries() {
+        return new Queries();
     }
 
     /**
@@ -51,15 +30,15 @@ public class ResourceHandler {
      */
     public static String getCurrentVersionName() throws IOException {
         String currentVersionName = null;
-        
-        BufferedReader textReader = FileHandler.getTextReader("init/VersionData.csv");
-        String line = textReader.readLine();
-        
-        while (line != null) {
-            currentVersionName = line;
-            line = textReader.readLine();
+
+        try (BufferedReader textReader = FileHandler.getTextReader("init/VersionData.csv")) {
+            String line = textReader.readLine();
+
+            while (line != null) {
+                currentVersionName = line;
+                line = textReader.readLine();
+            }
         }
-        
         return currentVersionName;
     }
 
@@ -72,49 +51,46 @@ public class ResourceHandler {
     public static List<String> getExistingTableNames() throws IOException {
         List<String> existingTableNameList = new ArrayList<>();
 
-        BufferedReader textReader = FileHandler.getTextReader("init/TableNames.csv");
-        String line = textReader.readLine();
+        try (BufferedReader textReader = FileHandler.getTextReader("init/TableNames.csv")) {
+            String line = textReader.readLine();
 
-        while (line != null) {
-            existingTableNameList.add(line);
-            line = textReader.readLine();
+            while (line != null) {
+                existingTableNameList.add(line);
+                line = textReader.readLine();
+            }
         }
-
         return existingTableNameList;
     }
 
     /**
-     * Get the URL of the data folder as a string and build a query string
-     * using the URL and a text reader of the query file.
+     * Get a list of table data file names from the DataFiles CSV, in the order the tables are populated.
      *
-     * @param fileName  a query file name
-     *
-     * @return              a formatted query string
+     * @return              a list of data file name strings
      * @throws IOException  a resource folder/file could not be found or read
      */
-    private static String getQueryString(String fileName) throws IOException {
-        BufferedReader textReader = FileHandler.getTextReader("queries/" + fileName);
-        String dataFolderPath = String.valueOf(FileHandler.getResourceFolderURL("data"));
-        return QueryFormatter.buildQueryString(dataFolderPath, textReader);
+    public static List<String> getDataFileNames() throws IOException {
+        List<String> dataFileNameList = new ArrayList<>();
+
+        try (BufferedReader textReader = FileHandler.getTextReader("init/DataFiles.csv")) {
+            String line = textReader.readLine();
+
+            while (line != null) {
+                dataFileNameList.add(line);
+                line = textReader.readLine();
+            }
+        }
+        return dataFileNameList;
     }
 
     /**
-     * Load the Images from the FileHandler class and set the trayImage Image.
-     * Create a new AppImages class.
+     * Load the icon file names and sizes from the FileHandler class.
+     * Create a new AppIcon class without decoding any icon file.
      *
-     * @return              an AppImages class with a tray Image and an Image list
+     * @return              an AppIcon class for the frame and the system tray
      * @throws IOException  a resource folder/file could not be found or read
      */
-    public static AppImages getAppImages() throws IOException {
-        List<Image> imageList = FileHandler.loadImageList();
-        Image trayImage = null;
-
-        for (Image image : imageList) {
-            if (image.getWidth(null) == 24) {
-                trayImage = image;
-            }
-        }
-        return new AppImages(trayImage, imageList);
+    public static AppIcon getAppIcon() throws IOException {
+        return new AppIcon(FileHandler.loadImageFileMap());
     }
 
     /**
@@ -125,31 +101,94 @@ public class ResourceHandler {
      * @throws FontFormatException  the font format type is incompatible
      */
     public static void registerCustomFonts() throws IOException, FontFormatException {
-        BufferedReader textReader = FileHandler.getTextReader("init/FontFiles.csv");
-        String line = textReader.readLine();
+        try (BufferedReader textReader = FileHandler.getTextReader("init/FontFiles.csv")) {
+            String line = textReader.readLine();
+
+            while (line != null) {
+                try (InputStream stream = FileHandler.getInputStream("fonts/" + line)) {
+                    Font customFont = Font.createFont(Font.TRUETYPE_FONT, stream);
+                    GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(customFont);
+                }
+                line = textReader.readLine();
+            }
+        }
+    }
 
-        while (line != null) {
-            InputStream stream = FileHandler.getInputStream("fonts/" + line);
+    /**
+     * Read the DropdownData CSV into Dropdown classes, finding each column by its header name.
+     * An empty field is read as null, and the quoted selection values are split on commas with their single quotes removed.
+     *
+     * @return              a list of Dropdown classes
+     * @throws IOException  a resource folder/file could not be found or read
+     */
+    public static List<Dropdown> getDropdownList() throws IOException {
+        List<Dropdown> dropdownList = new ArrayList<>();
+
+        try (CsvRowReader rowReader = new CsvRowReader(FileHandler.getInputStream("init/DropdownData.csv"))) {
+            Map<String, Integer> columnMap = new HashMap<>();
 
-            Font customFont = Font.createFont(Font.TRUETYPE_FONT, stream);
-            GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(customFont);
+            if (rowReader.next()) {
+                for (int field = 0; field < rowReader.getFieldCount(); field++) {
+                    columnMap.put(rowReader.getString(field).strip(), field);
+                }
+            }
 
-            line = textReader.readLine();
+            while (rowReader.next()) {
+                dropdownList.add(new Dropdown(
+                        getNullableString(rowReader, columnMap.get("FirstLabelText")),
+                        getNullableString(rowReader, columnMap.get("SecondLabelText")),
+                        getSelectionData(getNullableString(rowReader, columnMap.get("SelectionData"))),
+                        getNullableString(rowReader, columnMap.get("PreferenceKey")),
+                        getNullableString(rowReader, columnMap.get("PreferenceValue")),
+                        getNullableInteger(rowReader, columnMap.get("SizeWidth")),
+                        getNullableInteger(rowReader, columnMap.get("SizeHeight"))));
+            }
         }
+        return dropdownList;
     }
 
     /**
-     * Get the input stream from the DropdownData CSV and map the data to the Dropdown class.
+     * Get a field of the current row as a string.
+     *
+     * @param rowReader the CSV row reader on the current row
+     * @param field     the position of the field in the row, or null if the column is missing
      *
-     * @return  a list of Dropdown classes
+     * @return          the field string, or null if the field is empty or the column is missing
      */
-    public static List<Dropdown> getDropdownList() {
-        InputStream dropdownData = FileHandler.getInputStream("init/DropdownData.csv");
-
-        return new CsvToBeanBuilder<Dropdown>(new InputStreamReader(dropdownData))
-                .withType(Dropdown.class)
-                .withFieldAsNull(CSVReaderNullFieldIndicator.BOTH)
-                .build()
-                .parse();
+    private static String getNullableString(CsvRowReader rowReader, Integer field) {
+        return field == null || field >= rowReader.getFieldCount() || rowReader.isEmpty(field) ? null : rowReader.getString(field);
+    }
+
+    /**
+     * Get a field of the current row as an integer.
+     *
+     * @param rowReader the CSV row reader on the current row
+     * @param field     the position of the field in the row, or null if the column is missing
+     *
+     * @return          the field integer, or null if the field is empty or the column is missing
+     */
+    private static Integer getNullableInteger(CsvRowReader rowReader, Integer field) {
+        return field == null || field >= rowReader.getFieldCount() || rowReader.isEmpty(field) ? null : rowReader.getInt(field);
+    }
+
+    /**
+     * Split the selection values of a Dropdown on commas and remove the single quotes around each value.
+     *
+     * @param selectionText the selection values, e.g. 'Light','Dark'
+     * @return              an array of selection value strings, or null if there are no selection values
+     */
+    private static String[] getSelectionData(String selectionText) {
+        if (selectionText == null) {
+            return null;
+        }
+        String[] selectionData = selectionText.split(",");
+
+        for (int selection = 0; selection < selectionData.length; selection++) {
+            String selectionValue = selectionData[selection].strip();
+            boolean isQuoted = selectionValue.length() >= 2 && selectionValue.startsWith("'") && selectionValue.endsWith("'");
+
+            selectionData[selection] = isQuoted ? selectionValue.substring(1, selectionValue.length() - 1) : selectionValue;
+        }
+        return selectionData;
     }
 }
\ No newline at end of file
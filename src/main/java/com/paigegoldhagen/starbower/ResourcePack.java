@@ -0,0 +1,215 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Reading and writing the indexed resource pack of the files Starbower reads on startup.
+ * The pack is a header with the number of entries, an index of the entry names and lengths,
+ * and the contents of every entry one after another in index order.
+ * Each index name is an unsigned short length followed by the UTF-8 bytes of the resource path.
+ * The whole pack is read in one sequential pass into one byte array per entry, instead of each resource being looked up
+ * and opened through the class loader, and a single entry can be read from a fresh pass once the pack has been released.
+ */
+public class ResourcePack {
+    static final String PACK_PATH = "pack/Starbower.pack";
+    static final List<String> PACKED_FOLDER_LIST = List.of("init", "data", "fonts", "images");
+
+    private static final int MAGIC = 0x53425250;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<String, byte[]> EntryMap;
+
+    private ResourcePack(Map<String, byte[]> entryMap) {
+        this.EntryMap = entryMap;
+    }
+
+    public Set<String> getEntryNameSet() {return EntryMap.keySet();}
+
+    /**
+     * Open a resource from the pack.
+     *
+     * @param filePath  the path of the resource file
+     * @return          an input stream of the resource, or null if the resource is not in the pack
+     */
+    public InputStream getInputStream(String filePath) {
+        byte[] entryBytes = EntryMap.get(filePath);
+
+        if (entryBytes == null) {
+            return null;
+        }
+        return new ByteArrayInputStream(entryBytes);
+    }
+
+    /**
+     * Read a resource pack from a stream in one pass, reading each entry into its own byte array.
+     *
+     * @param packStream    the input stream of the resource pack, or null if there is no pack
+     *
+     * @return              the ResourcePack, or an empty ResourcePack if there is no pack
+     * @throws IOException  the stream could not be read, or it is not a resource pack of this format version
+     */
+    public static ResourcePack read(InputStream packStream) throws IOException {
+        if (packStream == null) {
+            return new ResourcePack(Map.of());
+        }
+
+        try (DataInputStream packInput = new DataInputStream(new BufferedInputStream(packStream))) {
+            Map<String, Integer> entryLengthMap = readIndex(packInput);
+            Map<String, byte[]> entryMap = new HashMap<>(entryLengthMap.size() * 2);
+
+            for (Map.Entry<String, Integer> entry : entryLengthMap.entrySet()) {
+                entryMap.put(entry.getKey(), readEntryBytes(packInput, entry.getValue()));
+            }
+
+            if (packInput.read() != -1) {
+                throw new IOException("The resource pack is longer than its index describes");
+            }
+            return new ResourcePack(entryMap);
+        }
+    }
+
+    /**
+     * Read a single resource from a stream of a resource pack, skipping the entries before it without keeping them.
+     *
+     * @param packStream    the input stream of the resource pack, or null if there is no pack
+     * @param filePath      the path of the resource file
+     *
+     * @return              an input stream of the resource, or null if there is no pack or the resource is not in it
+     * @throws IOException  the stream could not be read, or it is not a resource pack of this format version
+     */
+    public static InputStream readEntry(InputStream packStream, String filePath) throws IOException {
+        if (packStream == null) {
+            return null;
+        }
+
+        try (DataInputStream packInput = new DataInputStream(new BufferedInputStream(packStream))) {
+            long entryOffset = 0;
+
+            for (Map.Entry<String, Integer> entry : readIndex(packInput).entrySet()) {
+                if (entry.getKey().equals(filePath)) {
+                    packInput.skipNBytes(entryOffset);
+                    return new ByteArrayInputStream(readEntryBytes(packInput, entry.getValue()));
+                }
+                entryOffset += entry.getValue();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Read the header and index of a resource pack.
+     *
+     * @param packInput     the input stream of the resource pack, positioned at the start
+     *
+     * @return              a map of resource paths to entry lengths, in index order
+     * @throws IOException  the stream could not be read, or it is not a resource pack of this format version
+     */
+    private static Map<String, Integer> readIndex(DataInputStream packInput) throws IOException {
+        try {
+            if (packInput.readInt() != MAGIC || packInput.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a resource pack of format version " + FORMAT_VERSION);
+            }
+
+            int entryCount = packInput.readInt();
+            Map<String, Integer> entryLengthMap = new LinkedHashMap<>(entryCount * 2);
+
+            for (int entry = 0; entry < entryCount; entry++) {
+                byte[] nameBytes = new byte[packInput.readUnsignedShort()];
+                packInput.readFully(nameBytes);
+                entryLengthMap.put(new String(nameBytes, StandardCharsets.UTF_8), packInput.readInt());
+            }
+            return entryLengthMap;
+        }
+        catch (EOFException e) {
+            throw new IOException("The resource pack ends inside its index", e);
+        }
+    }
+
+    /**
+     * Read the contents of one entry.
+     *
+     * @param packInput     the input stream of the resource pack, positioned at the start of the entry
+     * @param entryLength   the length of the entry
+     *
+     * @return              the contents of the entry
+     * @throws IOException  the stream could not be read, or it ends inside the entry
+     */
+    private static byte[] readEntryBytes(DataInputStream packInput, int entryLength) throws IOException {
+        byte[] entryBytes = packInput.readNBytes(entryLength);
+
+        if (entryBytes.length != entryLength) {
+            throw new IOException("The resource pack is shorter than its index describes");
+        }
+        return entryBytes;
+    }
+
+    /**
+     * Write every file in the packed folders of a resource folder into a new resource pack file, sorted by resource path.
+     *
+     * @param resourceFolder    the folder holding the packed folders, e.g. src/main/resources
+     * @param packFile          the resource pack file to write
+     *
+     * @return                  the number of entries written
+     * @throws IOException      a resource file could not be read, or the pack file could not be written
+     */
+    public static int write(Path resourceFolder, Path packFile) throws IOException {
+        Map<String, byte[]> entryMap = new TreeMap<>();
+
+        for (String folderName : PACKED_FOLDER_LIST) {
+            Path folder = resourceFolder.resolve(folderName);
+
+            if (!Files.isDirectory(folder)) {
+                continue;
+            }
+
+            try (Stream<Path> fileStream = Files.list(folder)) {
+                for (Path file : fileStream.filter(Files::isRegularFile).toList()) {
+                    entryMap.put(folderName + "/" + file.getFileName(), Files.readAllBytes(file));
+                }
+            }
+        }
+
+        int packSize = 12;
+
+        for (Map.Entry<String, byte[]> entry : entryMap.entrySet()) {
+            packSize += 2 + entry.getKey().getBytes(StandardCharsets.UTF_8).length + 4 + entry.getValue().length;
+        }
+
+        ByteBuffer packBuffer = ByteBuffer.allocate(packSize);
+        packBuffer.putInt(MAGIC);
+        packBuffer.putInt(FORMAT_VERSION);
+        packBuffer.putInt(entryMap.size());
+
+        for (Map.Entry<String, byte[]> entry : entryMap.entrySet()) {
+            byte[] nameBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+
+            packBuffer.putShort((short) nameBytes.length);
+            packBuffer.put(nameBytes);
+            packBuffer.putInt(entry.getValue().length);
+        }
+
+        for (byte[] entryBytes : entryMap.values()) {
+            packBuffer.put(entryBytes);
+        }
+
+        Files.createDirectories(packFile.toAbsolutePath().getParent());
+        Files.write(packFile, packBuffer.array());
+        return entryMap.size();
+    }
+}
\ No newline at end of file
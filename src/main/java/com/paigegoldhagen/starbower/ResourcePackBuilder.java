@@ -0,0 +1,28 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Building the indexed resource pack at build time.
+ * Every file in the init, data, fonts and images folders of the source resources is written into one pack,
+ * which is shipped in the jar in place of the files and read in one pass on startup instead of opening each file through the class loader.
+ *
+ * <p>Arguments: [resource folder, e.g. src/main/resources] [pack file, e.g. target/classes/pack/Starbower.pack]
+ */
+public class ResourcePackBuilder {
+    /**
+     * Build the resource pack and print the number of entries and the size of the pack.
+     *
+     * @param args          the optional resource folder and pack file
+     * @throws IOException  a resource file could not be read, or the pack file could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path resourceFolder = Path.of(args.length > 0 ? args[0] : "src/main/resources");
+        Path packFile = Path.of(args.length > 1 ? args[1] : "target/classes/" + ResourcePack.PACK_PATH);
+
+        int entryCount = ResourcePack.write(resourceFolder, packFile);
+        System.out.println("Built " + packFile.toAbsolutePath() + " (" + entryCount + " entries, " + Files.size(packFile) + " bytes)");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,223 @@
+package com.paigegoldhagen.starbower;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.prefs.PreferenceChangeEvent;
+import java.util.prefs.PreferenceChangeListener;
+import java.util.prefs.Preferences;
+
+/**
+ * Holding a typed snapshot of the Starbower user preferences.
+ * The preferences are read from the Windows Registry once and kept up to date through the GUI
+ * and a preference change listener, so repeating tasks never read the Windows Registry themselves.
+ */
+public class Settings implements PreferenceChangeListener {
+    public static final String NOTIFY_MINUTES_KEY = "Notify Minutes";
+    public static final String THEME_KEY = "Theme";
+    public static final String NOTIFY_MINUTES_SEPARATOR = ",";
+
+    private final Preferences WindowsRegistry;
+    private final String DefaultNotifyMinutes, DefaultTheme;
+    private final List<Integer> NotifyMinutesChoiceList;
+    private final List<Runnable> NotifyMinutesListenerList = new CopyOnWriteArrayList<>();
+
+    private volatile List<Integer> NotifyMinutesList;
+    private volatile String Theme;
+
+    private Settings(Preferences windowsRegistry, String defaultNotifyMinutes, String defaultTheme, List<Integer> notifyMinutesChoiceList) {
+        this.WindowsRegistry = windowsRegistry;
+        this.DefaultNotifyMinutes = defaultNotifyMinutes;
+        this.DefaultTheme = defaultTheme;
+        this.NotifyMinutesChoiceList = notifyMinutesChoiceList;
+    }
+
+    public List<Integer> getNotifyMinutesList() {return NotifyMinutesList;}
+    public String getTheme() {return Theme;}
+    public List<Integer> getNotifyMinutesChoiceList() {return NotifyMinutesChoiceList;}
+
+    /**
+     * Get the default preference values and the selectable notification reminder times from the Dropdown data sets,
+     * read the saved preferences once and listen for any later changes to the preferences.
+     *
+     * @param windowsRegistry   the user preferences for Starbower in the Windows Registry
+     * @param dropdownList      a list of Dropdown classes containing data for JLabels and dropdown selection boxes
+     *
+     * @return                  a populated Settings class
+     */
+    public static Settings load(Preferences windowsRegistry, List<Dropdown> dropdownList) {
+        String defaultNotifyMinutes = getDefaultPreferenceValue(dropdownList, NOTIFY_MINUTES_KEY, "10");
+        String defaultTheme = getDefaultPreferenceValue(dropdownList, THEME_KEY, "Light");
+
+        List<Integer> notifyMinutesChoiceList = getNotifyMinutesChoiceList(dropdownList, defaultNotifyMinutes);
+
+        Settings settings = new Settings(windowsRegistry, defaultNotifyMinutes, defaultTheme, notifyMinutesChoiceList);
+        settings.NotifyMinutesList = parseNotifyMinutesList(windowsRegistry.get(NOTIFY_MINUTES_KEY, defaultNotifyMinutes), defaultNotifyMinutes);
+        settings.Theme = windowsRegistry.get(THEME_KEY, defaultTheme);
+
+        windowsRegistry.addPreferenceChangeListener(settings);
+        return settings;
+    }
+
+    /**
+     * Find the Dropdown data set with the preference key and get its default preference value.
+     *
+     * @param dropdownList  a list of Dropdown classes containing data for JLabels and dropdown selection boxes
+     * @param preferenceKey the preference key string
+     * @param fallbackValue the value to use if no Dropdown data set has the preference key
+     *
+     * @return              the default preference value string
+     */
+    private static String getDefaultPreferenceValue(List<Dropdown> dropdownList, String preferenceKey, String fallbackValue) {
+        for (Dropdown dropdown : dropdownList) {
+            if (preferenceKey.equals(dropdown.getPreferenceKey())) {
+                return dropdown.getPreferenceValue();
+            }
+        }
+        return fallbackValue;
+    }
+
+    /**
+     * Find the Dropdown data set with the notification reminder time key and parse its selection data.
+     *
+     * @param dropdownList          a list of Dropdown classes containing data for JLabels and dropdown selection boxes
+     * @param defaultNotifyMinutes  the default notification reminder times string to use if there is no selection data
+     *
+     * @return                      an unmodifiable list of selectable notification reminder times in minutes
+     */
+    private static List<Integer> getNotifyMinutesChoiceList(List<Dropdown> dropdownList, String defaultNotifyMinutes) {
+        for (Dropdown dropdown : dropdownList) {
+            if (NOTIFY_MINUTES_KEY.equals(dropdown.getPreferenceKey())) {
+                List<Integer> notifyMinutesChoiceList = new ArrayList<>();
+
+                for (String selection : dropdown.getSelectionData()) {
+                    notifyMinutesChoiceList.add(Integer.parseInt(selection));
+                }
+                return List.copyOf(notifyMinutesChoiceList);
+            }
+        }
+        return parseNotifyMinutesList(defaultNotifyMinutes, defaultNotifyMinutes);
+    }
+
+    /**
+     * Parse the separated notification reminder times, using the default value if the saved value is missing or invalid.
+     * A single saved reminder time from an older version of Starbower is parsed as a list with one reminder time.
+     *
+     * @param notifyMinutes         the saved notification reminder times string, e.g. "15,5,0"
+     * @param defaultNotifyMinutes  the default notification reminder times string
+     *
+     * @return                      a list of distinct notification reminder times in minutes, longest first
+     */
+    private static List<Integer> parseNotifyMinutesList(String notifyMinutes, String defaultNotifyMinutes) {
+        List<Integer> notifyMinutesList = new ArrayList<>();
+
+        try {
+            for (String minutes : notifyMinutes.split(NOTIFY_MINUTES_SEPARATOR)) {
+                notifyMinutesList.add(Integer.parseInt(minutes.strip()));
+            }
+        }
+        catch (NumberFormatException | NullPointerException e) {
+            notifyMinutesList.clear();
+        }
+
+        List<Integer> sortedNotifyMinutesList = sortNotifyMinutesList(notifyMinutesList);
+
+        if (sortedNotifyMinutesList.isEmpty() && !defaultNotifyMinutes.equals(notifyMinutes)) {
+            return parseNotifyMinutesList(defaultNotifyMinutes, defaultNotifyMinutes);
+        }
+        return sortedNotifyMinutesList;
+    }
+
+    /**
+     * Remove any repeated or negative reminder times and sort the reminder times from longest to shortest.
+     *
+     * @param notifyMinutesList a list of notification reminder times in minutes
+     * @return                  an unmodifiable sorted list of notification reminder times
+     */
+    private static List<Integer> sortNotifyMinutesList(List<Integer> notifyMinutesList) {
+        return notifyMinutesList.stream()
+                .filter(minutes -> minutes >= 0)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+    }
+
+    /**
+     * Join the notification reminder times into the string saved in the Windows Registry.
+     *
+     * @param notifyMinutesList a list of notification reminder times in minutes
+     * @return                  the separated notification reminder times string
+     */
+    public static String formatNotifyMinutesList(List<Integer> notifyMinutesList) {
+        List<String> minutesList = new ArrayList<>();
+
+        for (Integer minutes : notifyMinutesList) {
+            minutesList.add(String.valueOf(minutes));
+        }
+        return String.join(NOTIFY_MINUTES_SEPARATOR, minutesList);
+    }
+
+    /**
+     * Add a listener that runs whenever the notification reminder times change.
+     *
+     * @param listener  the methods to run
+     */
+    public void addNotifyMinutesListener(Runnable listener) {
+        NotifyMinutesListenerList.add(listener);
+    }
+
+    /**
+     * Update the notification reminder times, save them to the Windows Registry and notify the listeners.
+     *
+     * @param notifyMinutesList a list of the new notification reminder times in minutes
+     */
+    public void setNotifyMinutesList(List<Integer> notifyMinutesList) {
+        List<Integer> sortedNotifyMinutesList = sortNotifyMinutesList(notifyMinutesList);
+
+        WindowsRegistry.put(NOTIFY_MINUTES_KEY, formatNotifyMinutesList(sortedNotifyMinutesList));
+        updateNotifyMinutesList(sortedNotifyMinutesList);
+    }
+
+    /**
+     * Update the theme preference and save it to the Windows Registry.
+     *
+     * @param theme the new theme name string
+     */
+    public void setTheme(String theme) {
+        Theme = theme;
+        WindowsRegistry.put(THEME_KEY, theme);
+    }
+
+    /**
+     * Keep the snapshot in step with changes made to the Windows Registry outside the GUI.
+     *
+     * @param preferenceChangeEvent the changed preference key and new value
+     */
+    @Override
+    public void preferenceChange(PreferenceChangeEvent preferenceChangeEvent) {
+        String newValue = preferenceChangeEvent.getNewValue();
+
+        switch (preferenceChangeEvent.getKey()) {
+            case NOTIFY_MINUTES_KEY -> updateNotifyMinutesList(parseNotifyMinutesList(newValue, DefaultNotifyMinutes));
+            case THEME_KEY -> Theme = newValue != null ? newValue : DefaultTheme;
+            default -> {}
+        }
+    }
+
+    /**
+     * Set the notification reminder times and run the listeners if the values have changed.
+     *
+     * @param notifyMinutesList a sorted list of notification reminder times in minutes
+     */
+    private synchronized void updateNotifyMinutesList(List<Integer> notifyMinutesList) {
+        if (notifyMinutesList.isEmpty() || notifyMinutesList.equals(NotifyMinutesList)) {
+            return;
+        }
+        NotifyMinutesList = notifyMinutesList;
+
+        for (Runnable listener : NotifyMinutesListenerList) {
+            listener.run();
+        }
+    }
+}
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.awt.*;
 import java.io.*;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Clock;
 import java.util.prefs.Preferences;
 
 /**
@@ -12,28 +13,55 @@ import java.util.prefs.Preferences;
  */
 public class Starbower {
     /**
-     * Get the database queries, database connection, and Windows Registry user preferences.
-     * Populate the database.
-     * Get the app images and dropdown list from the ResourceHandler.
-     * Initialise the GUI and prepare notifications.
+     * Hand the launch off to the running Starbower and return if one is already running in the working folder,
+     * failing instead of starting a second instance on the same database if the running Starbower does not answer.
+     * Start registering the custom fonts in the background while the database is prepared.
+     * Get the database queries and current version name, and install the prebuilt database image if the database needs it.
+     * Get the database connection provider and its write connection, and Windows Registry user preferences.
+     * Populate the database, map the binary catalogue and load the EventCatalogue and FestivalCalendar from it.
+     * Get the app icon and dropdown list from the ResourceHandler, load the user settings
+     * and create the UTC clock and upcoming DynamicEvent indexes shared by the GUI and notifications.
+     * Initialise the GUI on the event dispatch thread, which owns the write connection from then on, and prepare notifications.
+     * Release the resource pack now the startup resource files have been read.
      *
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
-     * @throws IOException          a resource folder/file could not be found or read
+     * @throws IOException          a resource folder/file could not be found or read, or the running Starbower could not be reached
      * @throws AWTException         the TrayIcon could not be added to the system tray
      * @throws FontFormatException  the font format type is incompatible
      */
     public static void main(String[] args) throws SQLException, IOException, AWTException, FontFormatException {
+        InstanceGuard instanceGuard = InstanceGuard.getWorkingFolderGuard();
+
+        if (!instanceGuard.acquire()) {
+            if (!instanceGuard.handOff(InstanceGuard.SHOW_WINDOW_REQUEST)) {
+                throw new IOException("Starbower is already running in this folder but did not answer the request to show its window");
+            }
+            return;
+        }
+
+        FontHandler.startRegisteringCustomFonts();
         Queries sqlQueries = ResourceHandler.getDatabaseQueries();
-        Connection databaseConnection = DatabaseHandler.getDatabaseConnection();
+        String currentVersionName = ResourceHandler.getCurrentVersionName();
+        boolean isImageInstalled = DatabaseHandler.installDatabaseImage(sqlQueries, currentVersionName);
+
+        ConnectionProvider connectionProvider = DatabaseHandler.getConnectionProvider();
+        Connection databaseConnection = connectionProvider.getWriteConnection();
         Preferences windowsRegistry = Preferences.userNodeForPackage(Starbower.class);
 
-        populateDatabase(databaseConnection, sqlQueries, windowsRegistry);
+        populateDatabase(databaseConnection, sqlQueries, currentVersionName, isImageInstalled, windowsRegistry);
+        CatalogueFile catalogue = DatabaseHandler.getCatalogue(databaseConnection, sqlQueries, currentVersionName);
+        EventCatalogue eventCatalogue = EventCatalogue.load(catalogue);
+        FestivalCalendar festivalCalendar = FestivalCalendar.load(catalogue);
 
-        AppImages appImages = ResourceHandler.getAppImages();
+        AppIcon appIcon = ResourceHandler.getAppIcon();
         List<Dropdown> dropdownList = ResourceHandler.getDropdownList();
+        Settings settings = Settings.load(windowsRegistry, dropdownList);
+        Clock utcClock = Clock.systemUTC();
+        UpcomingEvents upcomingEvents = new UpcomingEvents(connectionProvider, sqlQueries, eventCatalogue, festivalCalendar, settings);
 
-        initialiseGUI(databaseConnection, sqlQueries, windowsRegistry, appImages.getAppIconList(), dropdownList);
-        prepareNotifications(databaseConnection, sqlQueries, windowsRegistry, appImages.getTrayImage(), dropdownList);
+        initialiseGUI(connectionProvider, sqlQueries, windowsRegistry, settings, festivalCalendar, upcomingEvents, utcClock, appIcon.getFrameIconList(), dropdownList);
+        prepareNotifications(eventCatalogue, settings, upcomingEvents, utcClock, appIcon);
+        FileHandler.releaseResourcePack();
     }
 
     /**
@@ -41,23 +69,29 @@ public class Starbower {
      *
      * @param databaseConnection    the connection to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
+     * @param currentVersionName    the current version name of Starbower
+     * @param isImageInstalled      true if the prebuilt database image was just installed
      * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
      *
      * @throws IOException          a resource folder/file could not be found or read
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void populateDatabase(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry) throws IOException, SQLException {
-        String currentVersionName = ResourceHandler.getCurrentVersionName();
+    private static void populateDatabase(Connection databaseConnection, Queries sqlQueries, String currentVersionName, boolean isImageInstalled, Preferences windowsRegistry) throws IOException, SQLException {
         List<String> existingTableNameList = ResourceHandler.getExistingTableNames();
-        DatabaseHandler.populateDatabase(databaseConnection, sqlQueries, currentVersionName, existingTableNameList, windowsRegistry);
+        DatabaseHandler.populateDatabase(databaseConnection, sqlQueries, currentVersionName, existingTableNameList, isImageInstalled, windowsRegistry);
     }
 
     /**
-     * Register the FlatLaf custom fonts using the ResourceHandler and display the GUI.
+     * Wait for the FlatLaf custom fonts registered in the background and display the GUI,
+     * building it on the event dispatch thread with the write connection.
      *
-     * @param databaseConnection    the connection to the Starbower relational database
+     * @param connectionProvider    the connections to the Starbower relational database
      * @param sqlQueries            a class for retrieving SQL query strings
      * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
+     * @param settings              the typed snapshot of the user preferences
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared with the notification sender
+     * @param utcClock              the clock giving the current instant in UTC
      * @param appIconList           a list of Images for the GUI
      * @param dropdownList          a list of Dropdown classes containing data for JLabels and dropdown selection boxes
      *
@@ -65,24 +99,24 @@ public class Starbower {
      * @throws FontFormatException  the font format type is incompatible
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    private static void initialiseGUI(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, List<Image> appIconList, List<Dropdown> dropdownList) throws IOException, FontFormatException, SQLException {
-        ResourceHandler.registerCustomFonts();
-        GUI.displayGUI(databaseConnection, sqlQueries, windowsRegistry, appIconList, dropdownList);
+    private static void initialiseGUI(ConnectionProvider connectionProvider, Queries sqlQueries, Preferences windowsRegistry, Settings settings, FestivalCalendar festivalCalendar, UpcomingEvents upcomingEvents, Clock utcClock, List<Image> appIconList, List<Dropdown> dropdownList) throws IOException, FontFormatException, SQLException {
+        FontHandler.awaitCustomFonts();
+        connectionProvider.write(databaseConnection -> GUI.displayGUI(databaseConnection, sqlQueries, windowsRegistry, settings, festivalCalendar, upcomingEvents, utcClock, appIconList, dropdownList));
     }
 
     /**
      * Get the tray icon added to the system tray and schedule the notification sender.
      *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     * @param windowsRegistry       the user preferences for Starbower in the Windows Registry
-     * @param trayImage             the Image for creating the TrayImage
-     * @param dropdownList          a list of Dropdown classes containing data for JLabels and dropdown selection boxes
+     * @param eventCatalogue        the DynamicEvent information loaded at startup
+     * @param settings              the typed snapshot of the user preferences
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared with the GUI
+     * @param utcClock              the clock giving the current instant in UTC
+     * @param appIcon               the AppIcon for creating the TrayIcon
      *
      * @throws AWTException         the TrayIcon could not be added to the system tray
      */
-    private static void prepareNotifications(Connection databaseConnection, Queries sqlQueries, Preferences windowsRegistry, Image trayImage, List<Dropdown> dropdownList) throws AWTException {
-        TrayIcon trayIcon = TrayHandler.getTrayIcon(trayImage);
-        Notifications.scheduleNotificationSender(databaseConnection, sqlQueries, windowsRegistry, trayIcon, dropdownList);
+    private static void prepareNotifications(EventCatalogue eventCatalogue, Settings settings, UpcomingEvents upcomingEvents, Clock utcClock, AppIcon appIcon) throws AWTException {
+        TrayIcon trayIcon = TrayHandler.getTrayIcon(appIcon);
+        Notifications.scheduleNotificationSender(eventCatalogue, settings, upcomingEvents, utcClock, trayIcon);
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.paigegoldhagen.starbower;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running a repeating task that survives exceptions and errors.
+ * Failures are recorded, counted and logged, and the task backs off exponentially (up to a limit)
+ * before it is attempted again, so the schedule is never cancelled by a single failure.
+ * The backoff state is only changed while holding the lock of the supervised task, and the task itself runs outside the lock,
+ * so a task waiting on the event dispatch thread never blocks a re-arm made from the event dispatch thread.
+ * Each re-arm starts a new generation, and the outcome of an execution started before the re-arm does not change the backoff,
+ * so an execution still running when the task is re-armed cannot delay the immediate execution the re-arm scheduled.
+ */
+public class SupervisedTask implements Runnable {
+    private static final System.Logger LOGGER = System.getLogger(SupervisedTask.class.getName());
+    private static final int MAX_BACKOFF_RUNS = 32;
+
+    private final String TaskName;
+    private final Task Task;
+    private final AtomicLong FailureCount = new AtomicLong();
+
+    private ScheduledExecutorService ExecutorService;
+    private ScheduledFuture<?> ScheduledExecution;
+    private long Period;
+    private TimeUnit PeriodUnit;
+
+    private volatile Throwable LastFailure;
+    private int ConsecutiveFailures;
+    private int RunsToSkip;
+    private long Generation;
+
+    /**
+     * A unit of work that is allowed to throw checked exceptions.
+     */
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    public SupervisedTask(String taskName, Task task) {
+        this.TaskName = taskName;
+        this.Task = task;
+    }
+
+    public String getTaskName() {return TaskName;}
+    public long getFailureCount() {return FailureCount.get();}
+    public Throwable getLastFailure() {return LastFailure;}
+
+    /**
+     * Create a supervised task and schedule it on a new single-threaded executor service at a fixed rate.
+     *
+     * @param taskName      the task name string used when reporting failures
+     * @param task          the work to run on each execution
+     * @param initialDelay  the delay before the first execution
+     * @param period        the period between executions
+     * @param timeUnit      the time unit of the initial delay and period
+     *
+     * @return              the scheduled supervised task
+     */
+    public static SupervisedTask scheduleAtFixedRate(String taskName, Task task, long initialDelay, long period, TimeUnit timeUnit) {
+        SupervisedTask supervisedTask = new SupervisedTask(taskName, task);
+
+        supervisedTask.ExecutorService = Executors.newScheduledThreadPool(1);
+        supervisedTask.Period = period;
+        supervisedTask.PeriodUnit = timeUnit;
+        supervisedTask.ScheduledExecution = supervisedTask.ExecutorService.scheduleAtFixedRate(supervisedTask, initialDelay, period, timeUnit);
+
+        return supervisedTask;
+    }
+
+    /**
+     * Cancel the pending executions, clear any backoff and restart the schedule with an immediate execution.
+     * An execution that is already running is allowed to finish first, but it belongs to the previous generation,
+     * so its outcome does not change the cleared backoff.
+     */
+    public synchronized void rearm() {
+        if (ScheduledExecution == null) {
+            return;
+        }
+        ScheduledExecution.cancel(false);
+
+        RunsToSkip = 0;
+        ConsecutiveFailures = 0;
+        Generation++;
+
+        ScheduledExecution = ExecutorService.scheduleAtFixedRate(this, 0, Period, PeriodUnit);
+    }
+
+    /**
+     * Cancel the pending executions and stop the thread of the schedule.
+     * An execution that is already running is allowed to finish.
+     */
+    public synchronized void cancel() {
+        if (ScheduledExecution == null) {
+            return;
+        }
+        ScheduledExecution.cancel(false);
+        ExecutorService.shutdown();
+        ScheduledExecution = null;
+    }
+
+    /**
+     * Skip the execution if the task is backing off from a previous failure, otherwise run the task.
+     * Reset the backoff when the task succeeds and record the failure when the task throws an exception or error,
+     * as anything escaping an execution would cancel every later execution.
+     */
+    @Override
+    public void run() {
+        long generation = startRun();
+
+        if (generation < 0) {
+            return;
+        }
+
+        try {
+            Task.run();
+            recordSuccess(generation);
+        }
+        catch (Throwable failure) {
+            recordFailure(generation, failure);
+        }
+    }
+
+    /**
+     * Count down the executions left to skip while backing off, or get the generation the execution belongs to.
+     *
+     * @return  the generation of the execution, or -1 if the execution should be skipped
+     */
+    private synchronized long startRun() {
+        if (RunsToSkip > 0) {
+            RunsToSkip--;
+            return -1;
+        }
+        return Generation;
+    }
+
+    /**
+     * Reset the backoff after a successful execution of the current generation.
+     *
+     * @param generation    the generation the execution started in
+     */
+    private synchronized void recordSuccess(long generation) {
+        if (generation == Generation) {
+            ConsecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * Count the failure and keep it, then set the number of executions to skip
+     * by doubling the backoff for each consecutive failure up to the backoff limit,
+     * unless the task was re-armed while the failing execution ran. Log the failure either way.
+     *
+     * @param generation    the generation the execution started in
+     * @param failure       the exception or error thrown by the task
+     */
+    private synchronized void recordFailure(long generation, Throwable failure) {
+        FailureCount.incrementAndGet();
+        LastFailure = failure;
+
+        if (generation != Generation) {
+            LOGGER.log(System.Logger.Level.WARNING, TaskName + " failed in an execution started before it was re-armed", failure);
+            return;
+        }
+
+        ConsecutiveFailures += 1;
+        RunsToSkip = Math.min(1 << Math.min(ConsecutiveFailures - 1, 30), MAX_BACKOFF_RUNS);
+
+        LOGGER.log(System.Logger.Level.WARNING, TaskName + " failed (" + ConsecutiveFailures + " in a row), retrying after " + RunsToSkip + " skipped runs", failure);
+    }
+}
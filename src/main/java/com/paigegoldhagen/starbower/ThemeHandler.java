@@ -4,23 +4,31 @@ import com.formdev.flatlaf.FlatLaf;
 import com.paigegoldhagen.starbower.themes.StarbowerDarkLAF;
 import com.paigegoldhagen.starbower.themes.StarbowerLightLAF;
 
-import java.util.prefs.Preferences;
+import javax.swing.*;
+import java.awt.*;
 
 /**
  * Managing the custom GUI themes.
+ * Both themes are created once and reused for every switch.
+ * Switching themes restyles every component except the hidden tabs of the tabbed pane,
+ * which are marked out of date and restyled when they are selected.
  */
 public class ThemeHandler {
+    private static final String OUT_OF_DATE_PROPERTY = "Starbower.themeOutOfDate";
+
+    private static final FlatLaf LIGHT_THEME = new StarbowerLightLAF();
+    private static final FlatLaf DARK_THEME = new StarbowerDarkLAF();
+
     /**
      * Register the custom theme resource folder location.
-     * Get the default or saved theme preference from the Windows Registry
+     * Get the default or saved theme preference from the settings
      * and set the GUI theme based on the preference.
      *
-     * @param windowsRegistry   the user preferences for Starbower in the Windows Registry
+     * @param settings  the typed snapshot of the user preferences
      */
-    public static void initialiseLookAndFeel(Preferences windowsRegistry) {
+    public static void initialiseLookAndFeel(Settings settings) {
         FlatLaf.registerCustomDefaultsSource("themes");
-        String themePreference = windowsRegistry.get("Theme", "Light");
-        setTheme(themePreference);
+        setTheme(settings.getTheme());
     }
 
     /**
@@ -29,21 +37,80 @@ public class ThemeHandler {
      * @param themePreference   the default or saved theme preference
      */
     public static void setTheme(String themePreference) {
-        if (getLightThemeName().contains(themePreference)) {
-            StarbowerLightLAF.setup();
+        FlatLaf.setup(LIGHT_THEME.getName().contains(themePreference) ? LIGHT_THEME : DARK_THEME);
+    }
+
+    /**
+     * Set the GUI theme, restyle the root component and the selected tab,
+     * and mark every other tab as out of date so it is restyled when selected.
+     *
+     * @param themePreference   the selected theme preference
+     * @param rootComponent     the component holding every displayed component, usually the frame
+     * @param tabbedPane        the tabbed pane inside the root component
+     */
+    public static void switchTheme(String themePreference, Component rootComponent, JTabbedPane tabbedPane) {
+        setTheme(themePreference);
+
+        for (int tab = 0; tab < tabbedPane.getTabCount(); tab++) {
+            if (tab != tabbedPane.getSelectedIndex() && tabbedPane.getComponentAt(tab) instanceof JComponent tabComponent) {
+                tabComponent.putClientProperty(OUT_OF_DATE_PROPERTY, true);
+            }
+        }
+
+        updateComponentTreeUI(rootComponent);
+        rootComponent.revalidate();
+        rootComponent.repaint();
+    }
+
+    /**
+     * Add a listener to the tabbed pane to restyle a tab marked as out of date when it is selected.
+     *
+     * @param tabbedPane    the collection of scroll pane components separated by tabs
+     */
+    public static void addTabbedPaneThemeListener(JTabbedPane tabbedPane) {
+        tabbedPane.addChangeListener(changeEventReceiver -> {
+            if (tabbedPane.getSelectedComponent() instanceof JComponent tabComponent && isOutOfDate(tabComponent)) {
+                tabComponent.putClientProperty(OUT_OF_DATE_PROPERTY, null);
+                SwingUtilities.updateComponentTreeUI(tabComponent);
+            }
+        });
+    }
+
+    /**
+     * Update the look and feel of a component and everything inside it, skipping tabs marked as out of date.
+     *
+     * @param component the component to restyle
+     */
+    private static void updateComponentTreeUI(Component component) {
+        if (component instanceof JComponent jComponent) {
+            if (isOutOfDate(jComponent)) {
+                return;
+            }
+            jComponent.updateUI();
+
+            if (jComponent.getComponentPopupMenu() != null) {
+                updateComponentTreeUI(jComponent.getComponentPopupMenu());
+            }
         }
-        else {
-            StarbowerDarkLAF.setup();
+
+        if (component instanceof JMenu menu) {
+            updateComponentTreeUI(menu.getPopupMenu());
+        }
+
+        if (component instanceof Container container) {
+            for (Component childComponent : container.getComponents()) {
+                updateComponentTreeUI(childComponent);
+            }
         }
     }
 
     /**
-     * Create a new instance of the light look and feel class and get the theme name.
+     * Check if a tab is marked as out of date.
      *
-     * @return  the theme name as a string
+     * @param component the component to check
+     * @return          true if the component is a tab waiting to be restyled
      */
-    private static String getLightThemeName() {
-        StarbowerLightLAF lightTheme = new StarbowerLightLAF();
-        return lightTheme.getName();
+    private static Boolean isOutOfDate(JComponent component) {
+        return Boolean.TRUE.equals(component.getClientProperty(OUT_OF_DATE_PROPERTY));
     }
 }
\ No newline at end of file
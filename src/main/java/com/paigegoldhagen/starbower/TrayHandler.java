@@ -7,22 +7,21 @@ import java.awt.*;
  */
 public class TrayHandler {
     /**
-     * Create a TrayIcon using the tray Image and set the image autosize state and tooltip.
+     * Create a TrayIcon using the app icon at the system tray icon size and set the image autosize state and tooltip.
      * Add the TrayIcon to the system tray.
      *
-     * @param trayImage     the Image to display in the system tray
+     * @param appIcon       the AppIcon to display in the system tray
      *
      * @return              the customised TrayIcon
      * @throws AWTException the TrayIcon could not be added to the system tray
      */
-    public static TrayIcon getTrayIcon(Image trayImage) throws AWTException {
+    public static TrayIcon getTrayIcon(AppIcon appIcon) throws AWTException {
         String appName = "Starbower";
+        SystemTray systemTray = SystemTray.getSystemTray();
 
-        TrayIcon trayIcon = new TrayIcon(trayImage, appName);
+        TrayIcon trayIcon = new TrayIcon(appIcon.withBaseSize(systemTray.getTrayIconSize().width), appName);
         trayIcon.setImageAutoSize(true);
         trayIcon.setToolTip(appName);
-
-        SystemTray systemTray = SystemTray.getSystemTray();
         systemTray.add(trayIcon);
 
         return trayIcon;
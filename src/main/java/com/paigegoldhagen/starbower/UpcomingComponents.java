@@ -0,0 +1,129 @@
+package com.paigegoldhagen.starbower;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating and updating the Upcoming panel components using a repeating supervised task.
+ */
+public class UpcomingComponents implements ComponentHandler {
+    private static final int UPCOMING_EVENT_LIMIT = 10;
+    private static final DateTimeFormatter START_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    /**
+     * Schedule a supervised task to update the Upcoming components every minute.
+     *
+     * @param upcomingEvents    the upcoming DynamicEvent indexes shared with the notification sender
+     * @param utcClock          the clock giving the current instant in UTC
+     * @param upcomingPanel     the panel to add Upcoming components
+     *
+     * @return                  the supervised Upcoming component updater
+     */
+    public static SupervisedTask scheduleUpcomingComponentUpdater(UpcomingEvents upcomingEvents, Clock utcClock, JPanel upcomingPanel) {
+        SupervisedTask.Task updateUpcomingComponents = updateUpcomingComponents(upcomingEvents, utcClock, upcomingPanel);
+        return SupervisedTask.scheduleAtFixedRate("Upcoming component updater", updateUpcomingComponents, 0, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Remove the out of date Upcoming components from the Upcoming panel,
+     * populate the Upcoming panel with the next start times and repaint the Upcoming panel.
+     * The start times are found on the scheduled thread and the panel is updated on the event dispatch thread.
+     *
+     * @param upcomingEvents    the upcoming DynamicEvent indexes shared with the notification sender
+     * @param utcClock          the clock giving the current instant in UTC
+     * @param upcomingPanel     the panel to add Upcoming components
+     *
+     * @return                  the methods to run
+     */
+    private static SupervisedTask.Task updateUpcomingComponents(UpcomingEvents upcomingEvents, Clock utcClock, JPanel upcomingPanel) {
+        return () -> {
+            LocalDateTime utcDate = getUtcDate(utcClock);
+            List<Occurrence> occurrenceList = upcomingEvents.getNextOccurrenceList(utcDate, UPCOMING_EVENT_LIMIT);
+
+            SwingUtilities.invokeLater(() -> {
+                upcomingPanel.removeAll();
+
+                try {
+                    populateUpcomingPanel(upcomingPanel, occurrenceList, utcDate);
+                }
+                finally {
+                    upcomingPanel.validate();
+                    upcomingPanel.repaint();
+                }
+            });
+        };
+    }
+
+    /**
+     * Add a Category label and a separator to the Upcoming panel,
+     * then add a row of labels for each upcoming start time.
+     *
+     * @param upcomingPanel     the panel to add Upcoming components
+     * @param occurrenceList    a list of the next Occurrence classes in chronological order
+     * @param utcDate           the current date in UTC
+     */
+    private static void populateUpcomingPanel(JPanel upcomingPanel, List<Occurrence> occurrenceList, LocalDateTime utcDate) {
+        GridBagConstraints layout = new GridBagConstraints();
+        ComponentHandler.setCategoryPanelLayout(layout);
+
+        int rowCount = 0;
+
+        ComponentHandler.addCategoryLabel(upcomingPanel, layout, rowCount, "Next " + UPCOMING_EVENT_LIMIT + " events");
+        rowCount += 1;
+
+        ComponentHandler.addSeparator(upcomingPanel, layout, rowCount);
+        rowCount += 1;
+
+        ComponentHandler.updateCategoryPanelLayout(layout);
+
+        for (Occurrence occurrence : occurrenceList) {
+            String eventText = getLocalStartTime(occurrence.getStartDate()) + "   " + occurrence.getDynamicEvent().getDisplayName();
+            ComponentHandler.addUpcomingEventLabels(upcomingPanel, layout, rowCount, eventText, getStartingInText(occurrence.getStartDate(), utcDate));
+            rowCount += 1;
+        }
+    }
+
+    /**
+     * Convert a start date in UTC to the system time zone and format the start time.
+     *
+     * @param startDate the start date in UTC
+     * @return          the local start time string
+     */
+    private static String getLocalStartTime(LocalDateTime startDate) {
+        return startDate.atZone(ZoneId.of("UTC")).withZoneSameInstant(ZoneId.systemDefault()).format(START_TIME_FORMAT);
+    }
+
+    /**
+     * Build a string with the amount of minutes until a start date.
+     *
+     * @param startDate the start date in UTC
+     * @param utcDate   the current date in UTC
+     *
+     * @return          the starting in string
+     */
+    private static String getStartingInText(LocalDateTime startDate, LocalDateTime utcDate) {
+        long minutesUntilStart = ChronoUnit.MINUTES.between(utcDate, startDate);
+
+        if (minutesUntilStart == 0) {
+            return "Starting now";
+        }
+        return "In " + minutesUntilStart + (minutesUntilStart == 1 ? " minute" : " minutes");
+    }
+
+    /**
+     * Get the current date in UTC from the clock.
+     *
+     * @param utcClock  the clock giving the current instant in UTC
+     * @return          the current date in UTC
+     */
+    private static LocalDateTime getUtcDate(Clock utcClock) {
+        return LocalDateTime.now(utcClock).truncatedTo(ChronoUnit.SECONDS);
+    }
+}
\ No newline at end of file
@@ -3,120 +3,163 @@ package com.paigegoldhagen.starbower;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Getting upcoming DynamicEvent classes.
+ * Getting upcoming DynamicEvent classes from a DueTimeIndex and a NextEventIndex of the enabled DynamicEvent Timetables.
+ * The indexes are only rebuilt when the date, the notification reminder times or the NotifyStates change,
+ * and the changes are detected without a query, so a tick with nothing due allocates nothing and runs no queries.
+ * The notification sender and the Upcoming panel updater share one instance, so the public methods are synchronised.
+ * The index queries use the read connection of the calling thread, and the Schedule table update is handed to
+ * the event dispatch thread, which owns the write connection.
+ * The event dispatch thread never calls this class, so waiting for it while holding the lock cannot deadlock.
  */
 public class UpcomingEvents implements QueryHandler {
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private final ConnectionProvider ConnectionProvider;
+    private final Queries SqlQueries;
+    private final EventCatalogue EventCatalogue;
+    private final FestivalCalendar FestivalCalendar;
+    private final Settings Settings;
+
+    private DueTimeIndex DueTimes;
+    private NextEventIndex NextEvents;
+    private long IndexedEpochDay = Long.MIN_VALUE;
+    private List<Integer> IndexedNotifyMinutesList;
+    private long IndexedNotifyStateVersion = -1;
+    private long LastNotifiedSecond = Long.MIN_VALUE;
+
+    public UpcomingEvents(ConnectionProvider connectionProvider, Queries sqlQueries, EventCatalogue eventCatalogue, FestivalCalendar festivalCalendar, Settings settings) {
+        this.ConnectionProvider = connectionProvider;
+        this.SqlQueries = sqlQueries;
+        this.EventCatalogue = eventCatalogue;
+        this.FestivalCalendar = festivalCalendar;
+        this.Settings = settings;
+    }
+
     /**
-     * Get a list of enabled DynamicEvent IDs and get a list of Timetables using the enabled DynamicEvent IDs.
-     * Calculate the notification time for each Timetable time using the notification minutes.
-     * Add an upcoming DynamicEvent to a list if the notification time matches the current time in UTC.
+     * Update the indexes and find the due times matching the current second of the day in UTC.
+     * Each epoch second is only handled once, so a re-armed notification sender running again within the same second,
+     * or a clock set back, does not send the same notifications twice.
+     * Return the shared empty map without creating any objects if nothing is due or the second was already handled,
+     * otherwise add each upcoming DynamicEvent to a list for its notification reminder time.
      *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     * @param utcDate               the current date in UTC
-     * @param notifyMinutes         the notification reminder time in minutes
+     * @param utcSecond             the current epoch second in UTC
      *
-     * @return                      a list of upcoming DynamicEvent classes
+     * @return                      the lists of upcoming DynamicEvent classes for each reminder time, longest reminder time first
      * @throws SQLException         the database could not be accessed or the table/column/row could not be found
      */
-    public static List<DynamicEvent> getUpcomingDynamicEventList(Connection databaseConnection, Queries sqlQueries, LocalDateTime utcDate, Integer notifyMinutes) throws SQLException {
-        List<DynamicEvent> upcomingDynamicEventList = new ArrayList<>();
+    public synchronized Map<Integer, List<DynamicEvent>> getUpcomingDynamicEventMap(long utcSecond) throws SQLException {
+        if (utcSecond <= LastNotifiedSecond) {
+            return Collections.emptyMap();
+        }
+
+        updateIndexes(utcSecond);
+        LastNotifiedSecond = utcSecond;
+
+        int secondOfDay = Math.floorMod(utcSecond, SECONDS_PER_DAY);
+        int position = DueTimes.getFirstPosition(secondOfDay);
 
-        List<Integer> enabledDynamicEventIDList = QueryHandler.getEnabledDynamicEventIDList(databaseConnection, sqlQueries);
-        List<Timetable> timetableList = TimetableHandler.getTimetableList(databaseConnection, sqlQueries, enabledDynamicEventIDList);
+        if (position == DueTimes.size() || DueTimes.getDueSecond(position) != secondOfDay) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, List<DynamicEvent>> upcomingDynamicEventMap = new LinkedHashMap<>();
+        LocalDateTime utcDate = LocalDateTime.ofEpochSecond(utcSecond, 0, ZoneOffset.UTC);
 
-        for (Timetable timetable : timetableList) {
-            for (LocalTime time : timetable.getTimeList()) {
-                LocalTime notifyTime = time.minusMinutes(notifyMinutes);
+        for (; position < DueTimes.size() && DueTimes.getDueSecond(position) == secondOfDay; position++) {
+            DynamicEvent upcomingDynamicEvent = getNotifiableDynamicEvent(EventCatalogue, FestivalCalendar, utcDate, DueTimes.getDynamicEventID(position));
 
-                if (notifyTime.equals(getUtcTime())) {
-                    addUpcomingDynamicEvent(databaseConnection, sqlQueries, utcDate, upcomingDynamicEventList, timetable.getDynamicEventID());
-                    break;
-                }
+            if (upcomingDynamicEvent != null) {
+                upcomingDynamicEventMap.computeIfAbsent(DueTimes.getNotifyMinutes(position), notifyMinutes -> new ArrayList<>()).add(upcomingDynamicEvent);
             }
         }
-        return upcomingDynamicEventList;
+        return upcomingDynamicEventMap;
     }
 
     /**
-     * Get an upcoming Category class using the DynamicEvent ID and get the last Expansion ID.
-     * Get the current or next nearest Festival using the current date.
-     * Get a new DynamicEvent class based on the Expansion ID, Category ID, and Festival ongoing boolean.
-     * Add the DynamicEvent class to a list.
+     * Update the indexes and get the next start times of the enabled DynamicEvents at or after the current time in UTC,
+     * skipping any DynamicEvent that would not send a notification.
      *
-     * @param databaseConnection        the connection to the Starbower relational database
-     * @param sqlQueries                a class for retrieving SQL query strings
-     * @param utcDate                   the current date in UTC
-     * @param upcomingDynamicEventList  a list of upcoming DynamicEvents
-     * @param dynamicEventID            the DynamicEvent ID from a Timetable
+     * @param utcDate           the current date in UTC
+     * @param count             the maximum number of start times to get
      *
-     * @throws SQLException             the database could not be accessed or the table/column/row could not be found
+     * @return                  a list of up to the given number of Occurrence classes in chronological order
+     * @throws SQLException     the database could not be accessed or the table/column/row could not be found
      */
-    private static void addUpcomingDynamicEvent(Connection databaseConnection, Queries sqlQueries, LocalDateTime utcDate, List<DynamicEvent> upcomingDynamicEventList, Integer dynamicEventID) throws SQLException {
-        Category upcomingCategory = QueryHandler.getUpcomingCategory(databaseConnection, sqlQueries, dynamicEventID);
-        int lastExpansionID = QueryHandler.getLastExpansionID(databaseConnection, sqlQueries);
-
-        Festival festival = getFestivalInformation(databaseConnection, sqlQueries, utcDate);
-
-        if (upcomingCategory.getExpansionID() == lastExpansionID) {
-            if (upcomingCategory.getID().equals(festival.getCategoryID()) && festival.getIsOngoing()) {
-                DynamicEvent upcomingDynamicEvent = QueryHandler.getUpcomingDynamicEvent(databaseConnection, sqlQueries, dynamicEventID);
-                upcomingDynamicEventList.add(upcomingDynamicEvent);
-            }
-        }
-        else {
-            DynamicEvent upcomingDynamicEvent = QueryHandler.getUpcomingDynamicEvent(databaseConnection, sqlQueries, dynamicEventID);
-            upcomingDynamicEventList.add(upcomingDynamicEvent);
-        }
+    public synchronized List<Occurrence> getNextOccurrenceList(LocalDateTime utcDate, int count) throws SQLException {
+        updateIndexes(utcDate.toEpochSecond(ZoneOffset.UTC));
+        return NextEvents.getNextOccurrenceList(utcDate, count, dynamicEventID -> getNotifiableDynamicEvent(EventCatalogue, FestivalCalendar, utcDate, dynamicEventID));
     }
 
     /**
-     * Get a list of Festival classes and create a new Festival class based on the ongoing boolean and current date.
-     *
-     * @param databaseConnection    the connection to the Starbower relational database
-     * @param sqlQueries            a class for retrieving SQL query strings
-     * @param utcDate               the current date in UTC
+     * Update the Schedule table on the event dispatch thread when the date in UTC changes.
+     * Rebuild the DueTimeIndex and NextEventIndex from the enabled DynamicEvent Timetables
+     * and the notification reminder time overrides if the date, the notification reminder times
+     * or the NotifyState change count have changed.
+     * The reminder times are compared by reference, as the Settings replace the list whenever it changes.
      *
-     * @return                      a Festival class with Festival Category ID and Festival ongoing boolean
-     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     * @param utcSecond         the current epoch second in UTC
+     * @throws SQLException     the database could not be accessed or the table/column/row could not be found
      */
-    private static Festival getFestivalInformation(Connection databaseConnection, Queries sqlQueries, LocalDateTime utcDate) throws SQLException {
-        int festivalCategoryID = 0;
-        boolean festivalOngoing = false;
+    private void updateIndexes(long utcSecond) throws SQLException {
+        long epochDay = Math.floorDiv(utcSecond, SECONDS_PER_DAY);
+        boolean dateChanged = epochDay != IndexedEpochDay;
+
+        if (dateChanged) {
+            LocalDateTime utcDate = LocalDateTime.ofEpochSecond(utcSecond, 0, ZoneOffset.UTC);
+            ConnectionProvider.write(writeConnection -> ScheduleHandler.updateScheduleTable(writeConnection, SqlQueries, utcDate));
+        }
 
-        List<Festival> festivalList = QueryHandler.getFestivalList(databaseConnection, sqlQueries, utcDate);
+        List<Integer> notifyMinutesList = Settings.getNotifyMinutesList();
+        long notifyStateVersion = NotifyStateHandler.getNotifyStateVersion();
 
-        for (Festival festival : festivalList) {
-            int categoryID = festival.getCategoryID();
-            boolean isOngoing = festival.getIsOngoing();
+        if (dateChanged || notifyMinutesList != IndexedNotifyMinutesList || notifyStateVersion != IndexedNotifyStateVersion) {
+            Connection readConnection = ConnectionProvider.getReadConnection();
 
-            if (isOngoing) {
-                festivalCategoryID = categoryID;
-                festivalOngoing = true;
-                break;
-            }
-            else if (utcDate.isBefore(festival.getStartDate())) {
-                festivalCategoryID = categoryID;
-                break;
-            }
+            List<Integer> enabledDynamicEventIDList = QueryHandler.getEnabledDynamicEventIDList(readConnection, SqlQueries);
+            List<Timetable> timetableList = TimetableHandler.getTimetableList(readConnection, SqlQueries, enabledDynamicEventIDList);
+            Map<Integer, Integer> notifyMinutesOverrideMap = QueryHandler.getNotifyMinutesOverrideMap(readConnection, SqlQueries);
+
+            DueTimes = DueTimeIndex.build(timetableList, notifyMinutesList, notifyMinutesOverrideMap);
+            NextEvents = NextEventIndex.build(timetableList);
+            IndexedEpochDay = epochDay;
+            IndexedNotifyMinutesList = notifyMinutesList;
+            IndexedNotifyStateVersion = notifyStateVersion;
         }
-        return new Festival(festivalCategoryID, festivalOngoing);
     }
 
     /**
-     * Get the zone ID of UTC and return the current time of the zone ID.
+     * Get the Festival Category of the DynamicEvent from the EventCatalogue.
+     * Get the current or next nearest Festival from the FestivalCalendar using the current date.
+     * Get the DynamicEvent class from the EventCatalogue if the DynamicEvent is not a Festival DynamicEvent
+     * or its Festival is ongoing.
      *
-     * @return  the current time in UTC
+     * @param eventCatalogue            the DynamicEvent information loaded at startup
+     * @param festivalCalendar          the Festival intervals loaded at startup
+     * @param utcDate                   the current date in UTC
+     * @param dynamicEventID            the DynamicEvent ID from a Timetable
+     *
+     * @return                          the DynamicEvent class, or null if the DynamicEvent is for a Festival that is not ongoing
      */
-    private static LocalTime getUtcTime() {
-        ZoneId utcZoneID = ZoneId.of("UTC");
-        return LocalTime.now(utcZoneID).truncatedTo(ChronoUnit.SECONDS);
+    private static DynamicEvent getNotifiableDynamicEvent(EventCatalogue eventCatalogue, FestivalCalendar festivalCalendar, LocalDateTime utcDate, Integer dynamicEventID) {
+        Integer festivalCategoryID = eventCatalogue.getFestivalCategoryID(dynamicEventID);
+
+        if (festivalCategoryID == null) {
+            return eventCatalogue.getDynamicEvent(dynamicEventID);
+        }
+
+        Festival festival = festivalCalendar.getCurrentOrNextFestival(utcDate);
+
+        if (festival != null && festivalCategoryID.equals(festival.getCategoryID()) && festival.getIsOngoing()) {
+            return eventCatalogue.getDynamicEvent(dynamicEventID);
+        }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1 @@
+SHUTDOWN COMPACT;
\ No newline at end of file
@@ -1,14 +1,13 @@
 CREATE TABLE IF NOT EXISTS NotifyState (
 	PK_NotifyStateID INT PRIMARY KEY,
-	NotifyStateEnabled BIT
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/NotifyState.csv');
+	NotifyStateEnabled BIT,
+	NotifyStateMinutes INT
+);
 
 CREATE TABLE IF NOT EXISTS Expansion (
 	PK_ExpansionID INT PRIMARY KEY,
 	ExpansionName NVARCHAR(50) NOT NULL
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Expansion.csv');
+);
 
 CREATE TABLE IF NOT EXISTS Category (
 	PK_CategoryID INT PRIMARY KEY,
@@ -21,21 +20,19 @@ CREATE TABLE IF NOT EXISTS Category (
 
 	FOREIGN KEY (FK_Category_Expansion)
 	REFERENCES Expansion(PK_ExpansionID)
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Category.csv');
+);
 
 CREATE TABLE IF NOT EXISTS Kind (
 	PK_KindID INT PRIMARY KEY,
 	KindName NVARCHAR(50) NOT NULL,
-	KindMessage NVARCHAR(50) NOT NULL
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Kind.csv');
+	KindMessage NVARCHAR(50) NOT NULL,
+	KindShowsMapName BIT NOT NULL
+);
 
 CREATE TABLE IF NOT EXISTS Map (
 	PK_MapID INT PRIMARY KEY,
 	MapName NVARCHAR(50) NOT NULL
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Map.csv');
+);
 
 CREATE TABLE IF NOT EXISTS Waypoint (
 	PK_WaypointID INT PRIMARY KEY,
@@ -45,8 +42,7 @@ CREATE TABLE IF NOT EXISTS Waypoint (
 
 	FOREIGN KEY (FK_Waypoint_Map)
 	REFERENCES Map(PK_MapID)
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Waypoint.csv');
+);
 
 CREATE TABLE IF NOT EXISTS DynamicEvent (
 	PK_DynamicEventID INT PRIMARY KEY,
@@ -67,8 +63,7 @@ CREATE TABLE IF NOT EXISTS DynamicEvent (
 
 	FOREIGN KEY (FK_DynamicEvent_Waypoint)
 	REFERENCES Waypoint(PK_WaypointID)
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/DynamicEvent.csv');
+);
 
 CREATE TABLE IF NOT EXISTS Schedule (
 	PK_ScheduleID INT PRIMARY KEY,
@@ -78,8 +73,7 @@ CREATE TABLE IF NOT EXISTS Schedule (
 
 	FOREIGN KEY (FK_Schedule_DynamicEvent)
 	REFERENCES DynamicEvent(PK_DynamicEventID)
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Schedule.csv');
+);
 
 CREATE TABLE IF NOT EXISTS Festival (
 	FK_Festival_Category INT NOT NULL,
@@ -88,11 +82,9 @@ CREATE TABLE IF NOT EXISTS Festival (
 
 	FOREIGN KEY (FK_Festival_Category)
 	REFERENCES Category(PK_CategoryID)
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Festival.csv');
+);
 
 CREATE TABLE IF NOT EXISTS Version (
 	PK_VersionID INT PRIMARY KEY,
 	VersionName NVARCHAR(50) NOT NULL
-)
-AS SELECT * FROM CSVREAD('${CurrentWorkingDirectory}/Version.csv');
\ No newline at end of file
+);
\ No newline at end of file
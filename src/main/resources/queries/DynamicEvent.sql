@@ -1 +0,0 @@
-SELECT * FROM DynamicEvent WHERE PK_DynamicEventID = ?;
\ No newline at end of file
@@ -1 +0,0 @@
-SELECT FK_Category_Expansion FROM Category WHERE PK_CategoryID = ?;
\ No newline at end of file
@@ -0,0 +1,3 @@
+SELECT PK_DynamicEventID, FK_DynamicEvent_Category FROM DynamicEvent
+	JOIN Category ON FK_DynamicEvent_Category = PK_CategoryID
+	WHERE FK_Category_Expansion = (SELECT MAX(PK_ExpansionID) FROM Expansion);
\ No newline at end of file
@@ -1 +0,0 @@
-SELECT FestivalStart FROM Festival;
\ No newline at end of file
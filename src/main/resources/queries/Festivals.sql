@@ -1 +1,3 @@
-SELECT * FROM Festival;
\ No newline at end of file
+SELECT FK_Festival_Category, CategoryName, FestivalStart, FestivalEnd FROM Festival
+	JOIN Category ON FK_Festival_Category = PK_CategoryID
+	ORDER BY FestivalStart;
\ No newline at end of file
@@ -1 +0,0 @@
-SELECT KindMessage FROM Kind WHERE PK_KindID = ?;
\ No newline at end of file
@@ -0,0 +1 @@
+SELECT PK_KindID, KindMessage FROM Kind;
\ No newline at end of file
@@ -0,0 +1,4 @@
+SELECT PK_DynamicEventID, DynamicEventName, FK_DynamicEvent_Kind, KindShowsMapName, MapName FROM DynamicEvent
+	JOIN Kind ON FK_DynamicEvent_Kind = PK_KindID
+	JOIN Waypoint ON FK_DynamicEvent_Waypoint = PK_WaypointID
+	JOIN Map ON FK_Waypoint_Map = PK_MapID;
\ No newline at end of file
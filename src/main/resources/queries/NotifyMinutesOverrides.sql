@@ -0,0 +1,5 @@
+SELECT PK_DynamicEventID, COALESCE(EventNotifyState.NotifyStateMinutes, CategoryNotifyState.NotifyStateMinutes) AS NotifyMinutes FROM DynamicEvent
+	JOIN NotifyState AS EventNotifyState ON FK_DynamicEvent_NotifyState = EventNotifyState.PK_NotifyStateID
+	JOIN Category ON FK_DynamicEvent_Category = PK_CategoryID
+	LEFT JOIN NotifyState AS CategoryNotifyState ON FK_Category_NotifyState = CategoryNotifyState.PK_NotifyStateID
+	WHERE EventNotifyState.NotifyStateMinutes IS NOT NULL OR CategoryNotifyState.NotifyStateMinutes IS NOT NULL;
\ No newline at end of file
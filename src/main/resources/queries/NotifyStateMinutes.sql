@@ -0,0 +1 @@
+SELECT NotifyStateMinutes FROM NotifyState WHERE PK_NotifyStateID = ?;
\ No newline at end of file
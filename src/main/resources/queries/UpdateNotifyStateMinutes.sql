@@ -0,0 +1 @@
+UPDATE NotifyState SET NotifyStateMinutes = ? WHERE PK_NotifyStateID = ?;
\ No newline at end of file
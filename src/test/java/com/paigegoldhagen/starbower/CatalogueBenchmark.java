@@ -0,0 +1,253 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Comparing the startup load of the DynamicEvent and Festival information from the database into Java classes
+ * with mapping the binary catalogue, using synthetic table data of a given size.
+ * The catalogue is first checked against the database, and the benchmark exits with a failure status
+ * if any DynamicEvent, Festival Category, Kind message or Festival differs.
+ * The heap figures are the retained heap of several loads measured around garbage collections, so they are approximate.
+ *
+ * <p>Arguments: [number of synthetic DynamicEvents] [number of timed loads]
+ */
+public class CatalogueBenchmark {
+    private static final int RETAINED_LOADS = 20;
+
+    /**
+     * Generate and load the synthetic table data into an in-memory database, write the catalogue file,
+     * check it against the database and print the load time and retained heap of both paths.
+     *
+     * @param args          the optional number of synthetic DynamicEvents and number of timed loads
+     *
+     * @throws IOException  a resource folder/file could not be found or read, or a temporary file could not be written
+     * @throws SQLException the database could not be accessed or the table/column/row could not be found
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        int dynamicEventCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int loadCount = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        Path benchmarkFolder = Files.createTempDirectory("StarbowerCatalogue");
+        boolean isConsistent;
+
+        try (ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:StarbowerCatalogue", "sa", "")) {
+            Path dataFolder = benchmarkFolder.resolve("data");
+            ScalingDataGenerator.generate(dataFolder, dynamicEventCount, dynamicEventCount * 10, Math.max(1, dynamicEventCount / 30), Math.max(1, dynamicEventCount / 100), 1);
+
+            Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+            Connection databaseConnection = connectionProvider.getWriteConnection();
+            QueryHandler.createTables(databaseConnection, sqlQueries, dataFileName -> Files.newInputStream(dataFolder.resolve(dataFileName)));
+
+            String versionName = QueryHandler.getVersionName(databaseConnection, sqlQueries);
+            Path catalogueFile = benchmarkFolder.resolve(DatabaseHandler.CATALOGUE_NAME);
+            CatalogueFile.build(databaseConnection, sqlQueries).write(catalogueFile);
+
+            isConsistent = isCatalogueConsistent(databaseConnection, sqlQueries, CatalogueFile.map(catalogueFile, versionName));
+
+            List<Long> databaseNanosList = new ArrayList<>();
+            List<Long> catalogueNanosList = new ArrayList<>();
+
+            for (int load = 0; load < loadCount; load++) {
+                long startNanos = System.nanoTime();
+                Objects.requireNonNull(loadFromDatabase(databaseConnection, sqlQueries));
+                databaseNanosList.add(System.nanoTime() - startNanos);
+
+                startNanos = System.nanoTime();
+                Objects.requireNonNull(loadFromCatalogue(catalogueFile, versionName));
+                catalogueNanosList.add(System.nanoTime() - startNanos);
+            }
+
+            long databaseBytes = getRetainedBytes(() -> loadFromDatabase(databaseConnection, sqlQueries));
+            long catalogueBytes = getRetainedBytes(() -> loadFromCatalogue(catalogueFile, versionName));
+
+            System.out.println("DynamicEvents\t" + QueryHandler.getNotificationEventList(databaseConnection, sqlQueries).size() + "\tcatalogue file " + Files.size(catalogueFile) + " bytes");
+            System.out.println("Path\tMedianMicros\tRetainedHeapBytes");
+            System.out.println("Database\t" + getMedian(databaseNanosList) / 1000 + "\t" + databaseBytes);
+            System.out.println("Catalogue\t" + getMedian(catalogueNanosList) / 1000 + "\t" + catalogueBytes);
+        }
+        finally {
+            try (Stream<Path> pathStream = Files.walk(benchmarkFolder)) {
+                for (Path path : pathStream.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+
+        if (!isConsistent) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loading the startup information in one of the two ways.
+     */
+    private interface Loader {
+        Object load() throws IOException, SQLException;
+    }
+
+    /**
+     * Load the DynamicEvent, Festival Category, Kind message and Festival information from the database into Java classes,
+     * as the EventCatalogue did before the binary catalogue.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     *
+     * @return                      the loaded classes
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static Object loadFromDatabase(Connection databaseConnection, Queries sqlQueries) throws SQLException {
+        Map<Integer, DynamicEvent> dynamicEventMap = new HashMap<>();
+
+        for (DynamicEvent dynamicEvent : QueryHandler.getNotificationEventList(databaseConnection, sqlQueries)) {
+            dynamicEventMap.put(dynamicEvent.getID(), dynamicEvent);
+        }
+
+        Map<Integer, MessageTemplate> messageTemplateMap = new HashMap<>();
+
+        for (Map.Entry<Integer, String> kindMessage : QueryHandler.getKindMessageMap(databaseConnection, sqlQueries).entrySet()) {
+            messageTemplateMap.put(kindMessage.getKey(), MessageTemplate.compile(kindMessage.getValue()));
+        }
+        return List.of(dynamicEventMap, QueryHandler.getFestivalCategoryIDMap(databaseConnection, sqlQueries), messageTemplateMap, FestivalCalendar.load(databaseConnection, sqlQueries));
+    }
+
+    /**
+     * Map the catalogue file and load the EventCatalogue and FestivalCalendar from it.
+     *
+     * @param catalogueFile the path of the catalogue file
+     * @param versionName   the version name of the database
+     *
+     * @return              the loaded classes
+     * @throws IOException  the catalogue file could not be read
+     */
+    private static Object loadFromCatalogue(Path catalogueFile, String versionName) throws IOException {
+        CatalogueFile catalogue = CatalogueFile.map(catalogueFile, versionName);
+        return List.of(EventCatalogue.load(catalogue), FestivalCalendar.load(catalogue));
+    }
+
+    /**
+     * Compare every DynamicEvent, Festival Category, Kind message and Festival in the catalogue with the database.
+     *
+     * @param databaseConnection    the connection to the Starbower relational database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param catalogue             the mapped binary catalogue
+     *
+     * @return                      true if the catalogue matches the database
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static boolean isCatalogueConsistent(Connection databaseConnection, Queries sqlQueries, CatalogueFile catalogue) throws SQLException {
+        int mismatchCount = 0;
+
+        EventCatalogue eventCatalogue = EventCatalogue.load(catalogue);
+        Map<Integer, Integer> festivalCategoryIDMap = QueryHandler.getFestivalCategoryIDMap(databaseConnection, sqlQueries);
+        List<DynamicEvent> notificationEventList = QueryHandler.getNotificationEventList(databaseConnection, sqlQueries);
+
+        for (DynamicEvent dynamicEvent : notificationEventList) {
+            DynamicEvent catalogueEvent = eventCatalogue.getDynamicEvent(dynamicEvent.getID());
+
+            if (catalogueEvent == null
+                    || !catalogueEvent.getName().equals(dynamicEvent.getName())
+                    || !catalogueEvent.getKindID().equals(dynamicEvent.getKindID())
+                    || !catalogueEvent.getMapName().equals(dynamicEvent.getMapName())
+                    || !catalogueEvent.getDisplayName().equals(dynamicEvent.getDisplayName())
+                    || !Objects.equals(eventCatalogue.getFestivalCategoryID(dynamicEvent.getID()), festivalCategoryIDMap.get(dynamicEvent.getID()))) {
+                mismatchCount++;
+            }
+        }
+
+        if (catalogue.getEventCount() != notificationEventList.size()) {
+            mismatchCount++;
+        }
+
+        Map<Integer, String> kindMessageMap = QueryHandler.getKindMessageMap(databaseConnection, sqlQueries);
+
+        for (int record = 0; record < catalogue.getKindCount(); record++) {
+            if (!catalogue.getKindMessage(record).equals(kindMessageMap.get(catalogue.getKindID(record)))) {
+                mismatchCount++;
+            }
+        }
+
+        List<Festival> festivalList = QueryHandler.getFestivalList(databaseConnection, sqlQueries);
+
+        for (int record = 0; record < catalogue.getFestivalCount(); record++) {
+            Festival festival = festivalList.get(record);
+
+            if (catalogue.getFestivalCategoryID(record) != festival.getCategoryID()
+                    || !catalogue.getFestivalName(record).equals(festival.getName())
+                    || catalogue.getFestivalStartSecond(record) != festival.getStartDate().toEpochSecond(ZoneOffset.UTC)
+                    || catalogue.getFestivalEndSecond(record) != festival.getEndDate().toEpochSecond(ZoneOffset.UTC)) {
+                mismatchCount++;
+            }
+        }
+
+        if (catalogue.getKindCount() != kindMessageMap.size() || catalogue.getFestivalCount() != festivalList.size()) {
+            mismatchCount++;
+        }
+
+        System.out.println("Catalogue mismatches\t" + mismatchCount);
+        return mismatchCount == 0;
+    }
+
+    /**
+     * Measure the heap retained by the results of several loads, between garbage collections before and after the loads,
+     * and divide it by the number of loads so the collector noise is shared out.
+     *
+     * @param loader        the load to measure
+     *
+     * @return              the approximate retained heap of one load in bytes
+     * @throws IOException  a resource folder/file could not be found or read
+     * @throws SQLException the database could not be accessed or the table/column/row could not be found
+     */
+    private static long getRetainedBytes(Loader loader) throws IOException, SQLException {
+        List<Object> loadedList = new ArrayList<>();
+        loadedList.add(loader.load());
+
+        long usedBytesBefore = getUsedBytes();
+
+        for (int load = 0; load < RETAINED_LOADS; load++) {
+            loadedList.add(loader.load());
+        }
+        long usedBytesAfter = getUsedBytes();
+
+        Objects.requireNonNull(loadedList.getLast());
+        return (usedBytesAfter - usedBytesBefore) / RETAINED_LOADS;
+    }
+
+    /**
+     * Run the garbage collector a few times and get the used heap.
+     *
+     * @return  the used heap in bytes
+     */
+    private static long getUsedBytes() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int collection = 0; collection < 3; collection++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Get the median of a list of times.
+     *
+     * @param nanosList the times in nanoseconds
+     * @return          the median time in nanoseconds
+     */
+    private static long getMedian(List<Long> nanosList) {
+        List<Long> sortedNanosList = new ArrayList<>(nanosList);
+        Collections.sort(sortedNanosList);
+        return sortedNanosList.get(sortedNanosList.size() / 2);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stressing the connection handling of the Starbower database by running the notification engine,
+ * the Upcoming panel lookups, the Festival panel reads and random checkbox toggles on separate threads at the same time,
+ * using an in-memory copy of the Starbower database.
+ * The engine and the Upcoming lookups share one UpcomingEvents class, and the Festival panel updates and the toggles
+ * are handed to the event dispatch thread and use its write connection, as they are in the running application.
+ * The Festival panel updates run the Festival component updater of the app at a time during each Festival in turn,
+ * so every update reads the Festival DynamicEvents and rebuilds the Festival components between the toggle writes.
+ * Every thread has to keep up a minimum number of iterations a second, so a thread starved by lock contention fails the test.
+ * The engine steps a minute at a time, so it crosses midnight often and keeps handing Schedule table updates
+ * to the event dispatch thread while the toggles write, and the Upcoming lookups follow the clock of the engine,
+ * as the Upcoming panel and the notification sender read the same clock in the running application.
+ */
+class ConcurrencyTest {
+    private static final int RUN_SECONDS = 2;
+    private static final long RANDOM_SEED = 1;
+    private static final int ENGINE_STEP_SECONDS = 60;
+    private static final int UPCOMING_EVENT_LIMIT = 10;
+    private static final int MIN_ITERATIONS_PER_SECOND = 20;
+
+    /**
+     * Run the stress threads, then check that no thread threw an exception, that the NotifyState table matches
+     * the toggles that were made, and that the shared indexes match indexes built from scratch.
+     *
+     * @throws Exception    a resource could not be read, the database could not be accessed or the wait was interrupted
+     */
+    @Test
+    void stressThreadsKeepTheDatabaseConsistent() throws Exception {
+        Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+
+        try (ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:ConcurrencyTest", "sa", "")) {
+            Connection databaseConnection = connectionProvider.getWriteConnection();
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+
+            Settings settings = Settings.load(new MemoryPreferences(), ResourceHandler.getDropdownList());
+            EventCatalogue eventCatalogue = EventCatalogue.load(databaseConnection, sqlQueries);
+            FestivalCalendar festivalCalendar = FestivalCalendar.load(databaseConnection, sqlQueries);
+            UpcomingEvents upcomingEvents = new UpcomingEvents(connectionProvider, sqlQueries, eventCatalogue, festivalCalendar, settings);
+
+            Map<Integer, Boolean> expectedStateMap = new ConcurrentHashMap<>();
+
+            for (NotifyState notifyState : QueryHandler.getNotifyStateList(databaseConnection, sqlQueries)) {
+                expectedStateMap.put(notifyState.getID(), notifyState.getIsEnabled());
+            }
+
+            List<Throwable> failureList = runStressThreads(connectionProvider, sqlQueries, settings, eventCatalogue, festivalCalendar, upcomingEvents, expectedStateMap);
+
+            for (Throwable failure : failureList) {
+                failure.printStackTrace();
+            }
+            assertTrue(failureList.isEmpty(), failureList.size() + " stress threads failed");
+
+            for (NotifyState notifyState : QueryHandler.getNotifyStateList(connectionProvider.getReadConnection(), sqlQueries)) {
+                assertEquals(expectedStateMap.get(notifyState.getID()), notifyState.getIsEnabled(), "enabled boolean of NotifyState " + notifyState.getID());
+            }
+
+            assertSameOccurrences(upcomingEvents, new UpcomingEvents(connectionProvider, sqlQueries, eventCatalogue, festivalCalendar, settings));
+        }
+    }
+
+    /**
+     * Open a read connection on a thread that then ends, open another read connection on the test thread,
+     * and check that the read connection of the ended thread was closed.
+     *
+     * @throws Exception    the database could not be accessed or the wait was interrupted
+     */
+    @Test
+    void readConnectionsOfEndedThreadsAreClosed() throws Exception {
+        try (ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:ReadConnectionTest", "sa", "")) {
+            AtomicReference<Connection> endedThreadConnection = new AtomicReference<>();
+
+            Thread readerThread = new Thread(() -> {
+                try {
+                    endedThreadConnection.set(connectionProvider.getReadConnection());
+                }
+                catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            readerThread.start();
+            readerThread.join();
+
+            assertNotNull(endedThreadConnection.get(), "the ended thread did not get a read connection");
+            assertFalse(endedThreadConnection.get().isClosed());
+
+            Connection readConnection = connectionProvider.getReadConnection();
+
+            assertTrue(endedThreadConnection.get().isClosed(), "the read connection of the ended thread is still open");
+            assertSame(readConnection, connectionProvider.getReadConnection());
+        }
+    }
+
+    /**
+     * Start the engine, Upcoming, Festival and toggle threads together and stop them after the run time.
+     *
+     * @param connectionProvider    the connections to the in-memory database
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param settings              the typed snapshot of the user preferences
+     * @param eventCatalogue        the DynamicEvent information loaded at startup
+     * @param festivalCalendar      the Festival intervals loaded at startup
+     * @param upcomingEvents        the upcoming DynamicEvent indexes shared by the engine and Upcoming threads
+     * @param expectedStateMap      a map of NotifyState IDs to the enabled boolean each NotifyState should have
+     *
+     * @return                      a list of every exception thrown by the threads
+     * @throws InterruptedException the test thread was interrupted while waiting for the stress threads
+     * @throws SQLException         the Festival table could not be read
+     */
+    private static List<Throwable> runStressThreads(ConnectionProvider connectionProvider, Queries sqlQueries, Settings settings, EventCatalogue eventCatalogue, FestivalCalendar festivalCalendar, UpcomingEvents upcomingEvents, Map<Integer, Boolean> expectedStateMap) throws InterruptedException, SQLException {
+        List<Throwable> failureList = new ArrayList<>();
+        Map<String, AtomicLong> iterationCountMap = new HashMap<>();
+        CountDownLatch startSignal = new CountDownLatch(1);
+
+        long stopNanos = System.nanoTime() + RUN_SECONDS * 1_000_000_000L;
+        long startSecond = LocalDate.now(ZoneOffset.UTC).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        List<Integer> notifyStateIDList = new ArrayList<>(expectedStateMap.keySet());
+        MessageRenderer messageRenderer = new MessageRenderer(eventCatalogue);
+
+        List<Festival> festivalList = QueryHandler.getFestivalList(connectionProvider.getReadConnection(), sqlQueries);
+        EventSearchIndex searchIndex = new EventSearchIndex();
+        JPanel festivalPanel = new JPanel();
+        List<JCheckBox> checkboxList = new ArrayList<>();
+        List<EventTable> eventTableList = new ArrayList<>();
+
+        Map<String, SupervisedTask.Task> stressTaskMap = Map.of(
+                "Engine", () -> {
+                    long utcSecond = startSecond + iterationCountMap.get("Engine").get() * ENGINE_STEP_SECONDS;
+                    Notifications.sendDueNotifications(upcomingEvents, messageRenderer, utcSecond, notificationMessage -> {});
+                },
+                "Upcoming", () -> {
+                    long engineSecond = startSecond + iterationCountMap.get("Engine").get() * ENGINE_STEP_SECONDS;
+                    LocalDateTime utcDate = LocalDateTime.ofEpochSecond(engineSecond + iterationCountMap.get("Upcoming").get() % ENGINE_STEP_SECONDS, 0, ZoneOffset.UTC);
+                    upcomingEvents.getNextOccurrenceList(utcDate, UPCOMING_EVENT_LIMIT);
+                },
+                "Festival", () -> {
+                    Festival festival = festivalList.get((int) (iterationCountMap.get("Festival").get() % festivalList.size()));
+                    Clock festivalClock = Clock.fixed(festival.getStartDate().plusHours(1).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+                    FestivalComponents.updateFestivalComponents(connectionProvider.getWriteConnection(), sqlQueries, settings, festivalCalendar, festivalClock, searchIndex, festivalPanel, checkboxList, eventTableList).run();
+                },
+                "Toggle", new SupervisedTask.Task() {
+                    private final Random RandomToggles = new Random(RANDOM_SEED);
+
+                    @Override
+                    public void run() throws SQLException {
+                        Integer notifyStateID = notifyStateIDList.get(RandomToggles.nextInt(notifyStateIDList.size()));
+                        boolean notifyStateEnabled = !expectedStateMap.get(notifyStateID);
+
+                        connectionProvider.write(writeConnection -> {
+                            assertTrue(SwingUtilities.isEventDispatchThread(), "the write did not run on the event dispatch thread");
+                            QueryHandler.updateNotifyState(writeConnection, sqlQueries, notifyStateID, notifyStateEnabled);
+                        });
+                        expectedStateMap.put(notifyStateID, notifyStateEnabled);
+                    }
+                });
+
+        List<Thread> threadList = new ArrayList<>();
+
+        for (Map.Entry<String, SupervisedTask.Task> stressTask : stressTaskMap.entrySet()) {
+            AtomicLong iterationCount = new AtomicLong();
+            iterationCountMap.put(stressTask.getKey(), iterationCount);
+
+            threadList.add(new Thread(() -> {
+                try {
+                    startSignal.await();
+
+                    while (System.nanoTime() < stopNanos) {
+                        stressTask.getValue().run();
+                        iterationCount.incrementAndGet();
+                    }
+                }
+                catch (Throwable failure) {
+                    synchronized (failureList) {
+                        failureList.add(failure);
+                    }
+                }
+            }, stressTask.getKey()));
+        }
+
+        for (Thread thread : threadList) {
+            thread.start();
+        }
+        startSignal.countDown();
+
+        for (Thread thread : threadList) {
+            thread.join();
+        }
+
+        for (Map.Entry<String, AtomicLong> iterationCount : iterationCountMap.entrySet()) {
+            long iterationsPerSecond = iterationCount.getValue().get() / RUN_SECONDS;
+            assertTrue(iterationsPerSecond >= MIN_ITERATIONS_PER_SECOND, "the " + iterationCount.getKey() + " thread ran " + iterationsPerSecond + " iterations a second");
+        }
+        assertTrue(festivalPanel.getComponentCount() > 0, "the Festival component updater built no components");
+        return failureList;
+    }
+
+    /**
+     * Compare the next start times from the shared upcoming DynamicEvent indexes with indexes built from scratch,
+     * so a stale index left behind by a toggle is found.
+     *
+     * @param upcomingEvents    the upcoming DynamicEvent indexes shared by the engine and Upcoming threads
+     * @param rebuiltEvents     new upcoming DynamicEvent indexes
+     *
+     * @throws SQLException     the database could not be accessed or the table/column/row could not be found
+     */
+    private static void assertSameOccurrences(UpcomingEvents upcomingEvents, UpcomingEvents rebuiltEvents) throws SQLException {
+        LocalDateTime utcDate = LocalDate.now(ZoneOffset.UTC).atStartOfDay();
+
+        List<Occurrence> sharedOccurrenceList = upcomingEvents.getNextOccurrenceList(utcDate, UPCOMING_EVENT_LIMIT);
+        List<Occurrence> rebuiltOccurrenceList = rebuiltEvents.getNextOccurrenceList(utcDate, UPCOMING_EVENT_LIMIT);
+
+        assertEquals(rebuiltOccurrenceList.size(), sharedOccurrenceList.size());
+
+        for (int position = 0; position < sharedOccurrenceList.size(); position++) {
+            assertEquals(rebuiltOccurrenceList.get(position).getDynamicEvent().getID(), sharedOccurrenceList.get(position).getDynamicEvent().getID());
+            assertEquals(rebuiltOccurrenceList.get(position).getStartDate(), sharedOccurrenceList.get(position).getStartDate());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checking the FestivalCalendar against the bundled Festival table.
+ */
+class FestivalCalendarTest {
+    /**
+     * Look up dates during and between the bundled Festivals,
+     * and check that the bundled intervals are projected onto the same dates of later years.
+     *
+     * @throws Exception    the database could not be accessed
+     */
+    @Test
+    void storedIntervalsAreProjectedOntoLaterYears() throws Exception {
+        Queries sqlQueries = new Queries();
+
+        try (Connection databaseConnection = DriverManager.getConnection("jdbc:h2:mem:FestivalCalendarTest", "sa", "")) {
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+            FestivalCalendar festivalCalendar = FestivalCalendar.load(databaseConnection, sqlQueries);
+
+            Festival ongoingFestival = festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2024, 10, 20, 0, 0));
+            assertEquals(336, ongoingFestival.getCategoryID());
+            assertTrue(ongoingFestival.getIsOngoing());
+
+            Festival nextFestival = festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2024, 11, 5, 20, 0, 1));
+            assertEquals(337, nextFestival.getCategoryID());
+            assertFalse(nextFestival.getIsOngoing());
+            assertEquals(LocalDateTime.of(2024, 12, 10, 17, 0), nextFestival.getStartDate());
+
+            assertTrue(festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2025, 1, 2, 20, 0)).getIsOngoing());
+
+            Festival projectedNextFestival = festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2025, 1, 2, 20, 0, 1));
+            assertEquals(332, projectedNextFestival.getCategoryID());
+            assertFalse(projectedNextFestival.getIsOngoing());
+            assertEquals(LocalDateTime.of(2025, 1, 31, 17, 0), projectedNextFestival.getStartDate());
+
+            Festival projectedOngoingFestival = festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2026, 10, 19, 0, 0));
+            assertEquals(336, projectedOngoingFestival.getCategoryID());
+            assertTrue(projectedOngoingFestival.getIsOngoing());
+            assertEquals(LocalDateTime.of(2026, 10, 15, 17, 0), projectedOngoingFestival.getStartDate());
+            assertEquals(LocalDateTime.of(2026, 11, 5, 20, 0), projectedOngoingFestival.getEndDate());
+
+            Festival yearEndFestival = festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2031, 1, 1, 0, 0));
+            assertEquals(337, yearEndFestival.getCategoryID());
+            assertTrue(yearEndFestival.getIsOngoing());
+            assertEquals(LocalDateTime.of(2030, 12, 10, 17, 0), yearEndFestival.getStartDate());
+        }
+    }
+
+    /**
+     * Add the dates of a later year for one Festival and check that they replace its projection,
+     * while the Festivals without dates for that year are still projected.
+     *
+     * @throws Exception    the database could not be accessed
+     */
+    @Test
+    void laterStoredIntervalsReplaceTheProjection() throws Exception {
+        Queries sqlQueries = new Queries();
+
+        try (Connection databaseConnection = DriverManager.getConnection("jdbc:h2:mem:FestivalCalendarLaterTest", "sa", "");
+             Statement statement = databaseConnection.createStatement()) {
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+            statement.executeUpdate("INSERT INTO Festival VALUES (332, '2025-02-04 17:00:00', '2025-02-25 20:00:00');");
+            FestivalCalendar festivalCalendar = FestivalCalendar.load(databaseConnection, sqlQueries);
+
+            Festival storedFestival = festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2025, 1, 10, 0, 0));
+            assertEquals(332, storedFestival.getCategoryID());
+            assertEquals(LocalDateTime.of(2025, 2, 4, 17, 0), storedFestival.getStartDate());
+
+            Festival projectedFestival = festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2026, 1, 10, 0, 0));
+            assertEquals(332, projectedFestival.getCategoryID());
+            assertEquals(LocalDateTime.of(2026, 2, 4, 17, 0), projectedFestival.getStartDate());
+
+            assertEquals(LocalDateTime.of(2025, 4, 16, 17, 0), festivalCalendar.getCurrentOrNextFestival(LocalDateTime.of(2025, 3, 1, 0, 0)).getStartDate());
+        }
+    }
+
+    /**
+     * Add the dates of a later year for one Festival that overlap the projection of another Festival,
+     * and check that the calendar refuses to load.
+     *
+     * @throws Exception    the database could not be accessed
+     */
+    @Test
+    void overlappingProjectedIntervalsAreRejected() throws Exception {
+        Queries sqlQueries = new Queries();
+
+        try (Connection databaseConnection = DriverManager.getConnection("jdbc:h2:mem:FestivalCalendarProjectedOverlapTest", "sa", "");
+             Statement statement = databaseConnection.createStatement()) {
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+            statement.executeUpdate("INSERT INTO Festival VALUES (332, '2025-03-25 17:00:00', '2025-04-20 20:00:00');");
+
+            assertThrows(IllegalArgumentException.class, () -> FestivalCalendar.load(databaseConnection, sqlQueries));
+        }
+    }
+
+    /**
+     * Add a Festival overlapping a bundled Festival and check that the calendar refuses to load.
+     *
+     * @throws Exception    the database could not be accessed
+     */
+    @Test
+    void overlappingIntervalsAreRejected() throws Exception {
+        Queries sqlQueries = new Queries();
+
+        try (Connection databaseConnection = DriverManager.getConnection("jdbc:h2:mem:FestivalCalendarOverlapTest", "sa", "");
+             Statement statement = databaseConnection.createStatement()) {
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+            statement.executeUpdate("INSERT INTO Festival VALUES (333, '2024-02-21 20:00:00', '2024-03-01 00:00:00');");
+
+            assertThrows(IllegalArgumentException.class, () -> FestivalCalendar.load(databaseConnection, sqlQueries));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Handing launches off between two guards on the same lock file and socket file in a temporary folder,
+ * as a later launch hands off to the running Starbower.
+ */
+class InstanceGuardTest {
+    private static final long HAND_OFF_TIMEOUT_MILLIS = 500;
+    private static final long WAIT_SECONDS = 10;
+
+    /**
+     * Acquire the first guard, check that the second guard cannot acquire the lock and hands its request off instead,
+     * and that the first guard runs the show window action. Once the first guard is released the second guard can acquire the lock.
+     *
+     * @param folder        a temporary folder for the lock file and socket file
+     * @throws Exception    the lock could not be taken or the wait was interrupted
+     */
+    @Test
+    void handOffRunsShowWindowAction(@TempDir Path folder) throws Exception {
+        InstanceGuard runningGuard = new InstanceGuard(folder.resolve("Starbower.lock"), folder.resolve("Starbower.socket"), HAND_OFF_TIMEOUT_MILLIS);
+        InstanceGuard laterGuard = new InstanceGuard(folder.resolve("Starbower.lock"), folder.resolve("Starbower.socket"), HAND_OFF_TIMEOUT_MILLIS);
+        CountDownLatch showWindowSignal = new CountDownLatch(1);
+
+        try {
+            assertTrue(runningGuard.acquire());
+            runningGuard.setShowWindowAction(showWindowSignal::countDown);
+
+            assertFalse(laterGuard.acquire(), "the later guard took the lock of the running guard");
+            assertTrue(laterGuard.handOff(InstanceGuard.SHOW_WINDOW_REQUEST), "the hand-off did not reach the running guard");
+            assertTrue(showWindowSignal.await(WAIT_SECONDS, TimeUnit.SECONDS), "the show window action did not run");
+
+            runningGuard.release();
+            assertTrue(laterGuard.acquire(), "the lock was not released");
+        }
+        finally {
+            runningGuard.release();
+            laterGuard.release();
+        }
+    }
+
+    /**
+     * Connect to the running guard without sending anything, and check that a hand-off sent meanwhile is still handled
+     * before the stalled connection is closed at the request timeout.
+     *
+     * @param folder        a temporary folder for the lock file and socket file
+     * @throws Exception    the lock could not be taken, the socket could not be reached or the wait was interrupted
+     */
+    @Test
+    void stalledConnectionDoesNotBlockHandOff(@TempDir Path folder) throws Exception {
+        InstanceGuard runningGuard = new InstanceGuard(folder.resolve("Starbower.lock"), folder.resolve("Starbower.socket"), HAND_OFF_TIMEOUT_MILLIS);
+        InstanceGuard laterGuard = new InstanceGuard(folder.resolve("Starbower.lock"), folder.resolve("Starbower.socket"), HAND_OFF_TIMEOUT_MILLIS);
+        CountDownLatch showWindowSignal = new CountDownLatch(1);
+
+        try {
+            assertTrue(runningGuard.acquire());
+            runningGuard.setShowWindowAction(showWindowSignal::countDown);
+
+            try (SocketChannel stalledChannel = SocketChannel.open(UnixDomainSocketAddress.of(folder.resolve("Starbower.socket")))) {
+                assertTrue(stalledChannel.isConnected());
+                assertTrue(laterGuard.handOff(InstanceGuard.SHOW_WINDOW_REQUEST));
+                assertTrue(showWindowSignal.await(1, TimeUnit.SECONDS), "the stalled connection held up the hand-off");
+            }
+        }
+        finally {
+            runningGuard.release();
+        }
+    }
+
+    /**
+     * Hand a request off with no running guard listening, and check that the failure is reported once the hand-off times out.
+     *
+     * @param folder    a temporary folder for the lock file and socket file
+     */
+    @Test
+    void failedHandOffIsReported(@TempDir Path folder) {
+        InstanceGuard laterGuard = new InstanceGuard(folder.resolve("Starbower.lock"), folder.resolve("Starbower.socket"), HAND_OFF_TIMEOUT_MILLIS);
+        long startNanos = System.nanoTime();
+
+        assertFalse(laterGuard.handOff(InstanceGuard.SHOW_WINDOW_REQUEST), "the hand-off reported success without a running guard");
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(HAND_OFF_TIMEOUT_MILLIS), "the hand-off gave up before its timeout");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Comparing the launch of Starbower from the plain jar on the full JDK against the launch from the runtime image,
+ * the trimmed jlink runtime with the Application Class-Data Sharing archive built by the runtime-image profile.
+ * Each launch starts a new process running the LaunchProbe, and is timed from starting the process until the tray icon is in the system tray.
+ * The resident set size is read after the first notification tick, when Starbower is idle in the system tray.
+ * Both launch types use the app jar in the runtime image with the test classes holding the LaunchProbe added after it,
+ * which the AppCDS archive of the app jar allows, and each launch type has its own working folder and preferences,
+ * and each has an untimed first launch to create its database, so every timed launch is a launch at login.
+ * The launch types are run in turn so both see the same file cache state.
+ *
+ * <p>Arguments: [runtime image folder] [number of launches of each type]
+ */
+public class LaunchBenchmark {
+    /**
+     * Launch Starbower the given number of times with each launch type after an untimed first launch,
+     * and print the fastest and median launch time and the median resident set size of each launch type.
+     *
+     * @param args                      the optional runtime image folder and number of launches of each type
+     *
+     * @throws IOException              a launch could not be started or read, or a temporary file could not be written
+     * @throws InterruptedException     the wait for a launched process was interrupted
+     * @throws URISyntaxException       the location of the LaunchProbe class could not be read
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, URISyntaxException {
+        Path runtimeImage = Path.of(args.length > 0 ? args[0] : "target/starbower-runtime").toAbsolutePath();
+        int launchCount = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        String probeClassPath = runtimeImage.resolve("app").resolve("Starbower.jar") + File.pathSeparator
+                + Path.of(LaunchProbe.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        String executableName = System.getProperty("os.name").startsWith("Windows") ? "java.exe" : "java";
+
+        Map<String, List<String>> launchCommandMap = new LinkedHashMap<>();
+        launchCommandMap.put("Plain jar", List.of(Path.of(System.getProperty("java.home"), "bin", executableName).toString(),
+                "-cp", probeClassPath, LaunchProbe.class.getName()));
+        launchCommandMap.put("Runtime image", List.of(runtimeImage.resolve("runtime").resolve("bin").resolve(executableName).toString(),
+                "-XX:SharedArchiveFile=" + runtimeImage.resolve("app").resolve("starbower.jsa"), "-cp", probeClassPath, LaunchProbe.class.getName()));
+
+        Path benchmarkFolder = Files.createTempDirectory("StarbowerLaunch");
+
+        try {
+            Map<String, Path> workingFolderMap = new LinkedHashMap<>();
+            Map<String, List<long[]>> resultListMap = new LinkedHashMap<>();
+
+            for (Map.Entry<String, List<String>> launchCommand : launchCommandMap.entrySet()) {
+                Path workingFolder = Files.createDirectories(benchmarkFolder.resolve("launch" + workingFolderMap.size()));
+                workingFolderMap.put(launchCommand.getKey(), workingFolder);
+                resultListMap.put(launchCommand.getKey(), new ArrayList<>());
+
+                measureLaunch(launchCommand.getValue(), workingFolder);
+            }
+
+            for (int launch = 0; launch < launchCount; launch++) {
+                for (Map.Entry<String, List<String>> launchCommand : launchCommandMap.entrySet()) {
+                    resultListMap.get(launchCommand.getKey()).add(measureLaunch(launchCommand.getValue(), workingFolderMap.get(launchCommand.getKey())));
+                }
+            }
+
+            System.out.println("Launch\tFastestMs\tMedianMs\tMedianRssMb");
+
+            for (Map.Entry<String, List<long[]>> resultList : resultListMap.entrySet()) {
+                System.out.println(getSummaryLine(resultList.getKey(), resultList.getValue()));
+            }
+        }
+        finally {
+            deleteFolder(benchmarkFolder);
+        }
+    }
+
+    /**
+     * Launch the LaunchProbe in a working folder and time it until it prints the tray icon line,
+     * then read the resident set size it prints after the first notification tick.
+     *
+     * @param command               the command launching the LaunchProbe
+     * @param workingFolder         the working folder holding the database and preferences of the launch type
+     *
+     * @return                      the launch time in nanoseconds and the resident set size in kilobytes
+     * @throws IOException          the launch could not be started or read, or it exited before the tray icon was added
+     * @throws InterruptedException the wait for the launched process was interrupted
+     */
+    private static long[] measureLaunch(List<String> command, Path workingFolder) throws IOException, InterruptedException {
+        List<String> launchCommand = new ArrayList<>(command);
+        launchCommand.add(1, "-Djava.util.prefs.userRoot=" + workingFolder.resolve("preferences"));
+
+        ProcessBuilder processBuilder = new ProcessBuilder(launchCommand)
+                .directory(workingFolder.toFile())
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+
+        long startNanos = System.nanoTime();
+        Process process = processBuilder.start();
+
+        try (BufferedReader outputReader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line = outputReader.readLine();
+
+            while (line != null && !line.equals(LaunchProbe.TRAY_ICON_LINE)) {
+                line = outputReader.readLine();
+            }
+            long launchNanos = System.nanoTime() - startNanos;
+
+            String residentSetLine = outputReader.readLine();
+            process.waitFor();
+
+            if (line == null || residentSetLine == null) {
+                throw new IOException("The launch exited with code " + process.exitValue() + " before the first notification tick: " + String.join(" ", launchCommand));
+            }
+            return new long[] {launchNanos, Long.parseLong(residentSetLine.trim())};
+        }
+    }
+
+    /**
+     * Get the tab-separated fastest and median launch time in milliseconds and the median resident set size in megabytes of a launch type.
+     *
+     * @param launchName    the name of the launch type
+     * @param resultList    the launch time in nanoseconds and resident set size in kilobytes of each launch
+     *
+     * @return              the tab-separated summary line
+     */
+    private static String getSummaryLine(String launchName, List<long[]> resultList) {
+        List<Long> sortedNanosList = new ArrayList<>();
+        List<Long> sortedKilobytesList = new ArrayList<>();
+
+        for (long[] result : resultList) {
+            sortedNanosList.add(result[0]);
+            sortedKilobytesList.add(result[1]);
+        }
+        Collections.sort(sortedNanosList);
+        Collections.sort(sortedKilobytesList);
+
+        return launchName + "\t" + sortedNanosList.getFirst() / 1_000_000 + "\t" + sortedNanosList.get(sortedNanosList.size() / 2) / 1_000_000
+                + "\t" + sortedKilobytesList.get(sortedKilobytesList.size() / 2) / 1024;
+    }
+
+    /**
+     * Delete a folder and everything in it.
+     *
+     * @param folder        the folder to delete
+     * @throws IOException  a file could not be deleted
+     */
+    private static void deleteFolder(Path folder) throws IOException {
+        try (Stream<Path> pathStream = Files.walk(folder)) {
+            for (Path path : pathStream.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
\ No newline at end of file
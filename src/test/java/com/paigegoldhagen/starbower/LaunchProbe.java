@@ -0,0 +1,64 @@
+package com.paigegoldhagen.starbower;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Launching Starbower as it is launched at login, then exiting once the first notification tick has run.
+ * This is the process launched by the LaunchBenchmark.
+ * A line is printed as soon as the tray icon is in the system tray, and the resident set size is printed after the first tick.
+ */
+public class LaunchProbe {
+    static final String TRAY_ICON_LINE = "TrayIcon";
+
+    private static final long FIRST_TICK_MILLIS = 1500;
+
+    /**
+     * Launch Starbower, print the tray icon line, wait for the first notification tick,
+     * print the resident set size in kilobytes and exit.
+     * Exit with a failure code if the launch fails, as the GUI threads would otherwise keep the process running.
+     *
+     * @param args                  the Starbower launch arguments
+     *
+     * @throws IOException          the process status file could not be read
+     * @throws InterruptedException the wait for the first notification tick was interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        try {
+            Starbower.main(args);
+        }
+        catch (SQLException | IOException | AWTException | FontFormatException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+        System.out.println(TRAY_ICON_LINE);
+
+        Thread.sleep(FIRST_TICK_MILLIS);
+        System.out.println(getResidentSetKilobytes());
+        System.exit(0);
+    }
+
+    /**
+     * Read the resident set size of this process from the Linux process status file.
+     *
+     * @return              the resident set size in kilobytes, or -1 if the process status file is not available
+     * @throws IOException  the process status file could not be read
+     */
+    private static long getResidentSetKilobytes() throws IOException {
+        Path statusFile = Path.of("/proc/self/status");
+
+        if (!Files.isReadable(statusFile)) {
+            return -1;
+        }
+
+        for (String line : Files.readAllLines(statusFile)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.paigegoldhagen.starbower;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.prefs.AbstractPreferences;
+
+/**
+ * Holding user preferences in memory, so tests never read or change the saved user preferences.
+ * Preference change listeners are notified as they are for the Windows Registry.
+ */
+class MemoryPreferences extends AbstractPreferences {
+    private final Map<String, String> PreferenceMap = new HashMap<>();
+    private final Map<String, MemoryPreferences> ChildMap = new HashMap<>();
+
+    MemoryPreferences() {
+        this(null, "");
+    }
+
+    private MemoryPreferences(MemoryPreferences parent, String name) {
+        super(parent, name);
+    }
+
+    @Override
+    protected void putSpi(String key, String value) {PreferenceMap.put(key, value);}
+
+    @Override
+    protected String getSpi(String key) {return PreferenceMap.get(key);}
+
+    @Override
+    protected void removeSpi(String key) {PreferenceMap.remove(key);}
+
+    @Override
+    protected void removeNodeSpi() {ChildMap.clear();}
+
+    @Override
+    protected String[] keysSpi() {return PreferenceMap.keySet().toArray(new String[0]);}
+
+    @Override
+    protected String[] childrenNamesSpi() {return ChildMap.keySet().toArray(new String[0]);}
+
+    @Override
+    protected AbstractPreferences childSpi(String name) {return ChildMap.computeIfAbsent(name, childName -> new MemoryPreferences(this, childName));}
+
+    @Override
+    protected void syncSpi() {}
+
+    @Override
+    protected void flushSpi() {}
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Comparing the notification messages of the MessageRenderer with formatting each message the way the MessageHandler did
+ * before the Kind messages were compiled, using the bundled DynamicEvents in an in-memory copy of the Starbower database.
+ * Both implementations render the same lists of upcoming DynamicEvents, and the benchmark exits with a failure status
+ * if any message differs.
+ *
+ * <p>Arguments: [number of timed runs]
+ */
+public class MessageRendererBenchmark {
+    private static final int WARMUP_RUNS = 200;
+    private static final int MESSAGES_PER_RUN = 1000;
+    private static final int NOTIFY_MINUTES = 15;
+    private static final int[] EVENT_COUNTS = {1, 3, 4, 10, 100};
+
+    /**
+     * The notification message formatting of the MessageHandler before the Kind messages were compiled.
+     * Each message formats the Kind message with String.format, adds the Map name to the event name for each event,
+     * and finds each event's position in the list with indexOf.
+     * The Map name is added when the display name differs from the name, in place of the removed Kind ID check.
+     */
+    static class FormattingRenderer {
+        private final Map<Integer, String> KindMessageMap;
+
+        FormattingRenderer(Map<Integer, String> kindMessageMap) {
+            this.KindMessageMap = kindMessageMap;
+        }
+
+        /**
+         * Format the caption string and text string based on the amount of upcoming DynamicEvents.
+         *
+         * @param upcomingDynamicEventList  a list of upcoming DynamicEvents
+         * @param notifyMinutes             the notification reminder time in minutes
+         *
+         * @return                          a populated Message class
+         */
+        Message getNotificationMessage(List<DynamicEvent> upcomingDynamicEventList, Integer notifyMinutes) {
+            String notifyMinuteString = " in " + notifyMinutes + " minutes!";
+
+            String messageCaption = null;
+            String messageText = String.format(KindMessageMap.get(upcomingDynamicEventList.getFirst().getKindID()), getEventName(upcomingDynamicEventList.getFirst())) + notifyMinuteString;
+
+            if (upcomingDynamicEventList.size() > 1) {
+                messageCaption = "Multiple events starting" + notifyMinuteString;
+                messageText = formatMultiLineString(upcomingDynamicEventList);
+            }
+            return new Message(messageCaption, messageText);
+        }
+
+        /**
+         * Build a multi-line string, finding the position of each event in the list as it goes.
+         *
+         * @param upcomingDynamicEventList  a list of upcoming DynamicEvents
+         * @return                          a formatted multi-line string
+         */
+        private static String formatMultiLineString(List<DynamicEvent> upcomingDynamicEventList) {
+            StringBuilder messageText = new StringBuilder();
+            String lastEventToShow = null;
+
+            int eventDisplayLimit = 2;
+            int remainingEvents = 0;
+
+            for (DynamicEvent dynamicEvent : upcomingDynamicEventList) {
+                String eventName = getEventName(dynamicEvent);
+                int eventPosition = upcomingDynamicEventList.indexOf(dynamicEvent);
+
+                if (eventPosition <= eventDisplayLimit) {
+                    messageText.append(eventName).append("\n");
+                }
+                else {
+                    lastEventToShow = eventName;
+                    remainingEvents = upcomingDynamicEventList.size() - eventPosition;
+                    break;
+                }
+            }
+
+            if (remainingEvents == 1) {
+                messageText.append(lastEventToShow);
+            }
+            else if (remainingEvents != 0) {
+                messageText.append("...and ").append(remainingEvents).append(" more events");
+            }
+            return String.valueOf(messageText);
+        }
+
+        /**
+         * Build the event name, adding the Map name for Kinds that share DynamicEvent names between maps.
+         *
+         * @param dynamicEvent  a class for retrieving DynamicEvent information
+         * @return              the DynamicEvent name, with the Map name if needed
+         */
+        private static String getEventName(DynamicEvent dynamicEvent) {
+            String eventName = dynamicEvent.getName();
+
+            if (!dynamicEvent.getDisplayName().equals(eventName)) {
+                eventName = eventName + " (" + dynamicEvent.getMapName() + ")";
+            }
+            return eventName;
+        }
+    }
+
+    /**
+     * Load the bundled tables into an in-memory database, check that both implementations render the same messages,
+     * and print the time per message of both implementations for each number of upcoming DynamicEvents.
+     *
+     * @param args          the optional number of timed runs
+     *
+     * @throws IOException  a resource folder/file could not be found or read
+     * @throws SQLException the database could not be accessed or the table/column/row could not be found
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        int runCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        List<DynamicEvent> dynamicEventList;
+        FormattingRenderer formattingRenderer;
+        MessageRenderer messageRenderer;
+
+        try (ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:StarbowerMessages", "sa", "")) {
+            Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+            Connection databaseConnection = connectionProvider.getWriteConnection();
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+
+            dynamicEventList = QueryHandler.getNotificationEventList(databaseConnection, sqlQueries);
+            formattingRenderer = new FormattingRenderer(QueryHandler.getKindMessageMap(databaseConnection, sqlQueries));
+            messageRenderer = new MessageRenderer(EventCatalogue.load(databaseConnection, sqlQueries));
+        }
+
+        boolean isConsistent = true;
+        System.out.println("Events\tImplementation\tFastestNanosPerMessage\tMedianNanosPerMessage");
+
+        for (int eventCount : EVENT_COUNTS) {
+            List<List<DynamicEvent>> upcomingListList = getUpcomingListList(dynamicEventList, eventCount);
+
+            for (List<DynamicEvent> upcomingDynamicEventList : upcomingListList) {
+                Message formattedMessage = formattingRenderer.getNotificationMessage(upcomingDynamicEventList, NOTIFY_MINUTES);
+                Message renderedMessage = messageRenderer.getNotificationMessage(upcomingDynamicEventList, NOTIFY_MINUTES);
+
+                if (!formattedMessage.getText().equals(renderedMessage.getText()) || !String.valueOf(formattedMessage.getCaption()).equals(String.valueOf(renderedMessage.getCaption()))) {
+                    System.err.println("Messages differ:\n" + formattedMessage.getText() + "\n---\n" + renderedMessage.getText());
+                    isConsistent = false;
+                }
+            }
+
+            List<Long> formattingNanosList = new ArrayList<>();
+            List<Long> renderingNanosList = new ArrayList<>();
+
+            for (int run = 0; run < WARMUP_RUNS + runCount; run++) {
+                long startNanos = System.nanoTime();
+
+                for (int message = 0; message < MESSAGES_PER_RUN; message++) {
+                    formattingRenderer.getNotificationMessage(upcomingListList.get(message % upcomingListList.size()), NOTIFY_MINUTES);
+                }
+                long formattingNanos = System.nanoTime() - startNanos;
+
+                startNanos = System.nanoTime();
+
+                for (int message = 0; message < MESSAGES_PER_RUN; message++) {
+                    messageRenderer.getNotificationMessage(upcomingListList.get(message % upcomingListList.size()), NOTIFY_MINUTES);
+                }
+                long renderingNanos = System.nanoTime() - startNanos;
+
+                if (run >= WARMUP_RUNS) {
+                    formattingNanosList.add(formattingNanos / MESSAGES_PER_RUN);
+                    renderingNanosList.add(renderingNanos / MESSAGES_PER_RUN);
+                }
+            }
+
+            System.out.println(getSummaryLine(eventCount + "\tString.format", formattingNanosList));
+            System.out.println(getSummaryLine(eventCount + "\tMessageRenderer", renderingNanosList));
+        }
+
+        if (!isConsistent) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Split the DynamicEvents into consecutive lists of upcoming DynamicEvents, wrapping around the end of the list.
+     *
+     * @param dynamicEventList  every DynamicEvent
+     * @param eventCount        the number of DynamicEvents in each list
+     *
+     * @return                  one list starting at each DynamicEvent
+     */
+    static List<List<DynamicEvent>> getUpcomingListList(List<DynamicEvent> dynamicEventList, int eventCount) {
+        List<List<DynamicEvent>> upcomingListList = new ArrayList<>();
+
+        for (int start = 0; start < dynamicEventList.size(); start++) {
+            List<DynamicEvent> upcomingDynamicEventList = new ArrayList<>();
+
+            for (int offset = 0; offset < eventCount; offset++) {
+                upcomingDynamicEventList.add(dynamicEventList.get((start + offset) % dynamicEventList.size()));
+            }
+            upcomingListList.add(upcomingDynamicEventList);
+        }
+        return upcomingListList;
+    }
+
+    /**
+     * Build a tab-separated line with the fastest and median time.
+     *
+     * @param label         the first columns of the line
+     * @param nanosList     the measured times in nanoseconds
+     *
+     * @return              the summary line
+     */
+    private static String getSummaryLine(String label, List<Long> nanosList) {
+        List<Long> sortedNanosList = new ArrayList<>(nanosList);
+        Collections.sort(sortedNanosList);
+        return label + "\t" + sortedNanosList.getFirst() + "\t" + sortedNanosList.get(sortedNanosList.size() / 2);
+    }
+}
\ No newline at end of file
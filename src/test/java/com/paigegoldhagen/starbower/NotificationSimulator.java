@@ -0,0 +1,242 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+import java.util.prefs.Preferences;
+
+/**
+ * Replaying the notification engine over simulated days as fast as the engine can run,
+ * using a stepping clock and an in-memory copy of the Starbower database.
+ * Every notification produced is recorded, and the notifications, queries, allocated bytes and run time
+ * of each simulated day are reported, so the output can be diffed between builds and used as a throughput benchmark.
+ * The ticks with nothing due are measured separately once the JIT compiler has warmed up,
+ * and the NotificationSimulatorTest fails if they allocate any bytes or run any queries.
+ * The test also replays a day and compares the notifications with the expected notification log.
+ *
+ * <p>Arguments: [start date, e.g. 2024-06-01] [number of days] [reminder times, e.g. 15,5,0] [notification log file]
+ */
+public class NotificationSimulator {
+    static final int WARM_UP_DAYS = 2;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * The bytes allocated and queries run by the ticks that sent no notification after the warm-up days.
+     */
+    record IdleTickCost(long Bytes, long Queries) {}
+
+    /**
+     * A clock that only moves when it is stepped, always in UTC.
+     * The clock holds a primitive epoch second, so stepping the clock and reading the milliseconds allocate nothing.
+     */
+    static class SteppingClock extends Clock {
+        private long CurrentSecond;
+
+        SteppingClock(long startSecond) {
+            this.CurrentSecond = startSecond;
+        }
+
+        long getEpochSecond() {return CurrentSecond;}
+        void step(long seconds) {CurrentSecond += seconds;}
+
+        @Override
+        public ZoneId getZone() {return ZoneOffset.UTC;}
+
+        @Override
+        public Clock withZone(ZoneId zone) {return zone.equals(ZoneOffset.UTC) ? this : new ZonedClock(this, zone);}
+
+        @Override
+        public long millis() {return CurrentSecond * 1000;}
+
+        @Override
+        public Instant instant() {return Instant.ofEpochSecond(CurrentSecond);}
+    }
+
+    /**
+     * A view of a stepping clock in another time zone, which moves whenever the stepping clock is stepped.
+     */
+    static class ZonedClock extends Clock {
+        private final SteppingClock SteppingClock;
+        private final ZoneId Zone;
+
+        ZonedClock(SteppingClock steppingClock, ZoneId zone) {
+            this.SteppingClock = steppingClock;
+            this.Zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {return Zone;}
+
+        @Override
+        public Clock withZone(ZoneId zone) {return SteppingClock.withZone(zone);}
+
+        @Override
+        public long millis() {return SteppingClock.millis();}
+
+        @Override
+        public Instant instant() {return SteppingClock.instant();}
+    }
+
+    /**
+     * A Queries class counting every SQL query string retrieved, which is one per executed query.
+     */
+    static class CountingQueries extends Queries {
+        private final Queries SqlQueries;
+        private long QueryCount;
+
+        CountingQueries(Queries sqlQueries) {
+            this.SqlQueries = sqlQueries;
+        }
+
+        long getQueryCount() {return QueryCount;}
+
+        @Override
+        public String getQueryString(SqlQuery query) {
+            QueryCount++;
+            return SqlQueries.getQueryString(query);
+        }
+    }
+
+    /**
+     * Simulate the days, recording the notifications to the notification log file if one is given.
+     *
+     * @param args          the optional start date, number of days, reminder times and notification log file
+     *
+     * @throws IOException  a resource folder/file could not be found or read, or the notification log could not be written
+     * @throws SQLException the database could not be accessed or the table/column/row could not be found
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        LocalDate startDate = args.length > 0 ? LocalDate.parse(args[0]) : LocalDate.now(ZoneOffset.UTC);
+        int dayCount = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+        String notifyMinutes = args.length > 2 ? args[2] : null;
+
+        try (PrintWriter notificationLog = args.length > 3 ? new PrintWriter(Files.newBufferedWriter(Path.of(args[3]))) : null) {
+            simulate(startDate, dayCount, notifyMinutes, notificationLog);
+        }
+    }
+
+    /**
+     * Create the tables of an in-memory database and load the EventCatalogue and FestivalCalendar.
+     * Keep the reminder times in in-memory preferences so the saved user preferences are never read or changed.
+     * Step the clock one second at a time through each simulated day, sending the due notifications to the recorder,
+     * and report the cost of each day.
+     *
+     * @param startDate         the first simulated day in UTC
+     * @param dayCount          the number of days to simulate
+     * @param notifyMinutes     the reminder times, e.g. 15,5,0, or null for the default reminder times
+     * @param notificationLog   the writer to record every notification, or null to only count them
+     *
+     * @return                  the bytes allocated and queries run by ticks with nothing due after the warm-up days
+     * @throws IOException      a resource folder/file could not be found or read
+     * @throws SQLException     the database could not be accessed or the table/column/row could not be found
+     */
+    static IdleTickCost simulate(LocalDate startDate, int dayCount, String notifyMinutes, PrintWriter notificationLog) throws IOException, SQLException {
+        CountingQueries sqlQueries = new CountingQueries(ResourceHandler.getDatabaseQueries());
+        Preferences simulationPreferences = new MemoryPreferences();
+
+        if (notifyMinutes != null) {
+            simulationPreferences.put(Settings.NOTIFY_MINUTES_KEY, notifyMinutes);
+        }
+
+        try (ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:StarbowerSimulation", "sa", "")) {
+            Connection databaseConnection = connectionProvider.getWriteConnection();
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+
+            Settings settings = Settings.load(simulationPreferences, ResourceHandler.getDropdownList());
+            EventCatalogue eventCatalogue = EventCatalogue.load(databaseConnection, sqlQueries);
+            FestivalCalendar festivalCalendar = FestivalCalendar.load(databaseConnection, sqlQueries);
+
+            SteppingClock utcClock = new SteppingClock(startDate.atStartOfDay().toEpochSecond(ZoneOffset.UTC));
+            UpcomingEvents upcomingEvents = new UpcomingEvents(connectionProvider, sqlQueries, eventCatalogue, festivalCalendar, settings);
+
+            System.out.println("Simulating " + dayCount + " days from " + startDate + " with reminder times " + Settings.formatNotifyMinutesList(settings.getNotifyMinutesList()));
+            return simulateDays(upcomingEvents, new MessageRenderer(eventCatalogue), sqlQueries, utcClock, dayCount, notificationLog);
+        }
+    }
+
+    /**
+     * Step the clock through each simulated day and print the notifications, queries,
+     * allocated bytes and run time of the day, then print the totals.
+     * Separately count the bytes allocated and queries run by ticks that sent no notification after the warm-up days,
+     * skipping the first tick of each day, which rebuilds the indexes for the new date.
+     * Deoptimisation during the warm-up days can materialise a few objects, so those days are not counted.
+     *
+     * @param upcomingEvents    the upcoming DynamicEvent indexes
+     * @param messageRenderer   a class for rendering notification messages
+     * @param sqlQueries        the counting Queries class used by the upcoming DynamicEvent indexes
+     * @param utcClock          the stepping clock
+     * @param dayCount          the number of days to simulate
+     * @param notificationLog   the writer to record every notification, or null to only count them
+     *
+     * @return                  the bytes allocated and queries run by ticks with nothing due after the warm-up days
+     * @throws SQLException     the database could not be accessed or the table/column/row could not be found
+     */
+    private static IdleTickCost simulateDays(UpcomingEvents upcomingEvents, MessageRenderer messageRenderer, CountingQueries sqlQueries, SteppingClock utcClock, int dayCount, PrintWriter notificationLog) throws SQLException {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] notificationCount = new long[1];
+
+        Consumer<Message> notificationRecorder = notificationMessage -> {
+            notificationCount[0]++;
+
+            if (notificationLog != null) {
+                LocalDateTime utcDate = LocalDateTime.ofEpochSecond(utcClock.getEpochSecond(), 0, ZoneOffset.UTC);
+                notificationLog.println(utcDate + "\t" + notificationMessage.getCaption() + "\t" + notificationMessage.getText().replace("\n", " / "));
+            }
+        };
+
+        long totalNotifications = 0, totalQueries = 0, totalBytes = 0, totalIdleBytes = 0, totalIdleQueries = 0, totalNanos = 0;
+
+        for (int day = 0; day < dayCount; day++) {
+            LocalDate simulatedDate = LocalDate.ofEpochDay(Math.floorDiv(utcClock.getEpochSecond(), SECONDS_PER_DAY));
+
+            notificationCount[0] = 0;
+            long idleBytes = 0, idleQueries = 0;
+            long startQueries = sqlQueries.getQueryCount();
+            long startBytes = threadBean.getCurrentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+
+            for (int second = 0; second < SECONDS_PER_DAY; second++) {
+                long tickNotifications = notificationCount[0];
+                long tickQueries = sqlQueries.getQueryCount();
+                long tickBytes = threadBean.getCurrentThreadAllocatedBytes();
+
+                Notifications.sendDueNotifications(upcomingEvents, messageRenderer, utcClock.getEpochSecond(), notificationRecorder);
+
+                if (second > 0 && notificationCount[0] == tickNotifications) {
+                    idleBytes += threadBean.getCurrentThreadAllocatedBytes() - tickBytes;
+                    idleQueries += sqlQueries.getQueryCount() - tickQueries;
+                }
+                utcClock.step(1);
+            }
+
+            long dayNanos = System.nanoTime() - startNanos;
+            long dayQueries = sqlQueries.getQueryCount() - startQueries;
+            long dayBytes = threadBean.getCurrentThreadAllocatedBytes() - startBytes;
+
+            System.out.printf("%s  %6d notifications  %8d queries  %,14d bytes  %,10d idle tick bytes  %6d ms  %,8.0fx real time%n", simulatedDate, notificationCount[0], dayQueries, dayBytes, idleBytes, dayNanos / 1_000_000, SECONDS_PER_DAY * 1e9 / dayNanos);
+
+            totalNotifications += notificationCount[0];
+            totalQueries += dayQueries;
+            totalBytes += dayBytes;
+            if (day >= WARM_UP_DAYS) {
+                totalIdleBytes += idleBytes;
+                totalIdleQueries += idleQueries;
+            }
+            totalNanos += dayNanos;
+        }
+        System.out.printf("Total       %6d notifications  %8d queries  %,14d bytes  %,10d idle tick bytes and %d idle tick queries after warm-up  %6d ms%n", totalNotifications, totalQueries, totalBytes, totalIdleBytes, totalIdleQueries, totalNanos / 1_000_000);
+        return new IdleTickCost(totalIdleBytes, totalIdleQueries);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replaying the notification engine with the NotificationSimulator and checking the notifications it sends.
+ */
+class NotificationSimulatorTest {
+    private static final LocalDate SIMULATED_DATE = LocalDate.of(2024, 10, 28);
+    private static final String NOTIFY_MINUTES = "15,5,0";
+    private static final String EXPECTED_LOG = "/notifications-2024-10-28.log";
+
+    /**
+     * Simulate a day during a Festival with three reminder times and compare every notification
+     * with the committed notification log, so any change to the notifications sent shows up as a failing line.
+     *
+     * @throws Exception    a resource could not be read or the database could not be accessed
+     */
+    @Test
+    void notificationsMatchExpectedLog() throws Exception {
+        StringWriter notificationLog = new StringWriter();
+
+        try (PrintWriter notificationWriter = new PrintWriter(notificationLog)) {
+            NotificationSimulator.simulate(SIMULATED_DATE, 1, NOTIFY_MINUTES, notificationWriter);
+        }
+
+        List<String> expectedLineList = readExpectedLog();
+        List<String> notificationLineList = notificationLog.toString().lines().toList();
+
+        for (int line = 0; line < Math.min(expectedLineList.size(), notificationLineList.size()); line++) {
+            assertEquals(expectedLineList.get(line), notificationLineList.get(line), "notification log line " + (line + 1));
+        }
+        assertEquals(expectedLineList.size(), notificationLineList.size(), "number of notifications");
+    }
+
+    /**
+     * Simulate the warm-up days and two more days, and check that the ticks with nothing due after the warm-up days
+     * allocate no bytes and run no queries.
+     * The first tick of each day rebuilds the indexes for the new date and is not counted.
+     *
+     * @throws Exception    a resource could not be read or the database could not be accessed
+     */
+    @Test
+    void idleTicksAllocateNothing() throws Exception {
+        NotificationSimulator.IdleTickCost idleTickCost = NotificationSimulator.simulate(SIMULATED_DATE, NotificationSimulator.WARM_UP_DAYS + 2, NOTIFY_MINUTES, null);
+
+        assertEquals(0, idleTickCost.Bytes(), "bytes allocated by ticks with nothing due");
+        assertEquals(0, idleTickCost.Queries(), "queries run by ticks with nothing due");
+    }
+
+    /**
+     * Check that the stepping clock can be viewed in another time zone and the view moves with the clock.
+     */
+    @Test
+    void steppingClockHasZonedViews() {
+        NotificationSimulator.SteppingClock utcClock = new NotificationSimulator.SteppingClock(SIMULATED_DATE.atStartOfDay().toEpochSecond(ZoneOffset.UTC));
+        ZoneId localZone = ZoneId.of("Pacific/Auckland");
+
+        assertSame(utcClock, utcClock.withZone(ZoneOffset.UTC));
+
+        Clock localClock = utcClock.withZone(localZone);
+        utcClock.step(90);
+
+        assertEquals(localZone, localClock.getZone());
+        assertEquals(utcClock.instant(), localClock.instant());
+        assertSame(utcClock, localClock.withZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * Read the expected notification log from the test resources.
+     *
+     * @return              the lines of the expected notification log
+     * @throws IOException  the expected notification log could not be found or read
+     */
+    private static List<String> readExpectedLog() throws IOException {
+        try (InputStream expectedStream = NotificationSimulatorTest.class.getResourceAsStream(EXPECTED_LOG)) {
+            assertNotNull(expectedStream, "the expected notification log " + EXPECTED_LOG + " is missing");
+            return new String(expectedStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checking the query plan and the latency growth of every bundled SQL query against an in-memory copy
+ * of the Starbower database, so a query that stops using an index or slows down faster than the data grows
+ * fails the build before it ships.
+ * A query that looks rows up by a parameter must read every table through an index.
+ * Queries that read every row of a table by design are allowed to scan.
+ * A database is then built for each scale by copying the tables, with every key offset so each copy references its own rows,
+ * and every query is warmed up and timed at every scale with parameters sampled from the data.
+ * A parameter lookup returns the same number of rows at every scale, so its latency must stay nearly flat,
+ * and a whole table read must grow no faster than the number of rows.
+ */
+class QueryPlanTest {
+    private static final Set<SqlQuery> SKIPPED_QUERIES = EnumSet.of(SqlQuery.CompactDatabase, SqlQuery.CreateTables, SqlQuery.DropTable, SqlQuery.TableNames);
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("CREATE TABLE IF NOT EXISTS (\\w+)");
+    private static final Pattern PARAMETER_COLUMN_PATTERN = Pattern.compile("(\\w+) = \\?");
+    private static final Pattern QUERY_TABLE_PATTERN = Pattern.compile("(?:FROM|UPDATE) (\\w+)");
+    private static final Pattern PLAN_ACCESS_PATTERN = Pattern.compile("/\\* PUBLIC\\.([\\w.]+)");
+
+    private static final int KEY_OFFSET = 1_000_000;
+    private static final List<Integer> SCALE_LIST = List.of(1, 4, 16);
+    private static final double LOOKUP_GROWTH_LIMIT = 4.0;
+    private static final double TABLE_READ_GROWTH_TOLERANCE = 1.5;
+    private static final long WARM_UP_NANOS = 10_000_000;
+    private static final long ROUND_NANOS = 5_000_000;
+    private static final int TIMED_ROUNDS = 7;
+    private static final int WARM_UP_PASSES = 2;
+    private static final int SAMPLED_PARAMETER_SETS = 64;
+
+    /**
+     * Explain every query that looks rows up by a parameter, with parameters sampled from the data,
+     * and check that every table is read through an index.
+     *
+     * @return              a test for each parameter lookup
+     * @throws Exception    a resource could not be read or the database could not be accessed
+     */
+    @TestFactory
+    Stream<DynamicTest> parameterLookupsUseIndexes() throws Exception {
+        Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+        List<DynamicTest> planTestList = new ArrayList<>();
+
+        for (SqlQuery query : getCheckedQueryList(sqlQueries)) {
+            String queryString = sqlQueries.getQueryString(query);
+
+            if (isParameterLookup(queryString)) {
+                planTestList.add(DynamicTest.dynamicTest(query.name(), () -> {
+                    try (ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:QueryPlanTest", "sa", "")) {
+                        Connection databaseConnection = connectionProvider.getWriteConnection();
+                        QueryHandler.createTables(databaseConnection, sqlQueries);
+
+                        List<String> accessList = getPlanAccessList(databaseConnection, queryString);
+
+                        assertFalse(accessList.isEmpty(), "the plan of " + query.name() + " reads no table");
+                        assertTrue(accessList.stream().noneMatch(access -> access.endsWith(".tableScan")), query.name() + " scans a table: " + accessList);
+                    }
+                }));
+            }
+        }
+        return planTestList.stream();
+    }
+
+    /**
+     * Time every query at each scale after warming it up at every scale, print the latency table,
+     * and check the latency growth of every query between the smallest and largest scale.
+     *
+     * @throws Exception    a resource could not be read or the database could not be accessed
+     */
+    @Test
+    void latencyGrowsNoFasterThanRows() throws Exception {
+        Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+        List<SqlQuery> queryList = getCheckedQueryList(sqlQueries);
+        List<String> tableNameList = getTableNameList(sqlQueries.getQueryString(SqlQuery.CreateTables));
+        List<ConnectionProvider> providerList = new ArrayList<>();
+        List<Connection> connectionList = new ArrayList<>();
+        Map<SqlQuery, List<Long>> latencyMap;
+
+        try {
+            for (int scale : SCALE_LIST) {
+                ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:QueryLatencyTest" + scale, "sa", "");
+                providerList.add(connectionProvider);
+
+                Connection databaseConnection = connectionProvider.getWriteConnection();
+                QueryHandler.createTables(databaseConnection, sqlQueries);
+                scaleTables(databaseConnection, tableNameList, scale);
+                connectionList.add(databaseConnection);
+            }
+            latencyMap = getLatencyMap(connectionList, sqlQueries, queryList);
+        }
+        finally {
+            for (ConnectionProvider connectionProvider : providerList) {
+                connectionProvider.close();
+            }
+        }
+
+        double rowGrowth = (double) SCALE_LIST.getLast() / SCALE_LIST.getFirst();
+        List<String> failureList = new ArrayList<>();
+
+        System.out.printf("Latency by scale %s (median ns per execution)%n", SCALE_LIST);
+
+        for (SqlQuery query : queryList) {
+            List<Long> latencyList = latencyMap.get(query);
+            double latencyGrowth = (double) latencyList.getLast() / Math.max(latencyList.getFirst(), 1);
+            double growthLimit = isParameterLookup(sqlQueries.getQueryString(query)) ? LOOKUP_GROWTH_LIMIT : rowGrowth * TABLE_READ_GROWTH_TOLERANCE;
+
+            StringBuilder latencyLine = new StringBuilder(String.format("%-26s", query.name()));
+
+            for (long latencyNanos : latencyList) {
+                latencyLine.append(String.format("  %,12d", latencyNanos));
+            }
+            latencyLine.append(String.format("  %6.1fx of %4.1fx", latencyGrowth, growthLimit));
+            System.out.println(latencyLine);
+
+            if (latencyGrowth > growthLimit) {
+                failureList.add(String.format("%s grew %.1fx for %.0fx the rows, over the limit of %.1fx", query.name(), latencyGrowth, rowGrowth, growthLimit));
+            }
+        }
+        assertTrue(failureList.isEmpty(), String.join("\n", failureList));
+    }
+
+    /**
+     * Get every query except the queries that create, drop or list the tables or compact the database.
+     *
+     * @param sqlQueries    a class for retrieving SQL query strings
+     * @return              a list of queries to check
+     */
+    private static List<SqlQuery> getCheckedQueryList(Queries sqlQueries) {
+        List<SqlQuery> queryList = new ArrayList<>();
+
+        for (SqlQuery query : sqlQueries.getQueryList()) {
+            if (!SKIPPED_QUERIES.contains(query)) {
+                queryList.add(query);
+            }
+        }
+        return queryList;
+    }
+
+    /**
+     * Check if a query looks rows up by a parameter.
+     *
+     * @param queryString   the SQL query string
+     * @return              true if the query has a parameter
+     */
+    private static boolean isParameterLookup(String queryString) {
+        return queryString.contains("?");
+    }
+
+    /**
+     * Get the table names in the order they are created, so every referenced row is copied before the rows referencing it.
+     *
+     * @param createTablesQuery the CreateTables query string
+     * @return                  a list of table name strings
+     */
+    private static List<String> getTableNameList(String createTablesQuery) {
+        List<String> tableNameList = new ArrayList<>();
+        Matcher tableName = TABLE_NAME_PATTERN.matcher(createTablesQuery);
+
+        while (tableName.find()) {
+            tableNameList.add(tableName.group(1));
+        }
+        return tableNameList;
+    }
+
+    /**
+     * Explain a query with sampled parameters and get how each table is accessed.
+     *
+     * @param databaseConnection    the connection to the in-memory database
+     * @param queryString           the SQL query string
+     *
+     * @return                      a list of table access strings, e.g. DYNAMICEVENT.PRIMARY_KEY_4
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static List<String> getPlanAccessList(Connection databaseConnection, String queryString) throws SQLException {
+        List<String> accessList = new ArrayList<>();
+
+        try (PreparedStatement explainStatement = databaseConnection.prepareStatement("EXPLAIN " + queryString)) {
+            bindParameters(explainStatement, getSampledParameters(databaseConnection, queryString, new Random(0)));
+
+            try (ResultSet queryPlan = explainStatement.executeQuery()) {
+                while (queryPlan.next()) {
+                    Matcher planAccess = PLAN_ACCESS_PATTERN.matcher(queryPlan.getString(1));
+
+                    while (planAccess.find()) {
+                        accessList.add(planAccess.group(1));
+                    }
+                }
+            }
+        }
+        return accessList;
+    }
+
+    /**
+     * Sample a value for each parameter of a query from the column the parameter is compared with or assigned to.
+     *
+     * @param databaseConnection    the connection to the in-memory database
+     * @param queryString           the SQL query string
+     * @param random                the random source used to choose the sampled rows
+     *
+     * @return                      a list of the parameter values in parameter order
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static List<Object> getSampledParameters(Connection databaseConnection, String queryString, Random random) throws SQLException {
+        List<Object> parameterList = new ArrayList<>();
+        Matcher queryTable = QUERY_TABLE_PATTERN.matcher(queryString);
+
+        if (!queryTable.find()) {
+            return parameterList;
+        }
+
+        Matcher parameterColumn = PARAMETER_COLUMN_PATTERN.matcher(queryString);
+
+        while (parameterColumn.find()) {
+            parameterList.add(getSampledValue(databaseConnection, queryTable.group(1), parameterColumn.group(1), random));
+        }
+        return parameterList;
+    }
+
+    /**
+     * Bind the parameter values to a prepared statement.
+     *
+     * @param preparedStatement the prepared statement to bind
+     * @param parameterList     a list of the parameter values in parameter order
+     *
+     * @throws SQLException     the parameter values could not be bound
+     */
+    private static void bindParameters(PreparedStatement preparedStatement, List<Object> parameterList) throws SQLException {
+        for (int parameterPosition = 1; parameterPosition <= parameterList.size(); parameterPosition++) {
+            preparedStatement.setObject(parameterPosition, parameterList.get(parameterPosition - 1));
+        }
+    }
+
+    /**
+     * Get the value of a column from a random row of a table, skipping rows where the column is null
+     * as Starbower never looks rows up by a null value.
+     *
+     * @param databaseConnection    the connection to the in-memory database
+     * @param tableName             the table name string
+     * @param columnName            the column name string
+     * @param random                the random source used to choose the row
+     *
+     * @return                      the column value, or null if the column has no values
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static Object getSampledValue(Connection databaseConnection, String tableName, String columnName, Random random) throws SQLException {
+        try (Statement sqlStatement = databaseConnection.createStatement();
+             ResultSet rowCount = sqlStatement.executeQuery("SELECT COUNT(" + columnName + ") FROM " + tableName)) {
+            rowCount.next();
+
+            if (rowCount.getLong(1) == 0) {
+                return null;
+            }
+
+            try (ResultSet sampledRow = sqlStatement.executeQuery("SELECT " + columnName + " FROM " + tableName + " WHERE " + columnName + " IS NOT NULL LIMIT 1 OFFSET " + random.nextLong(rowCount.getLong(1)))) {
+                sampledRow.next();
+                return sampledRow.getObject(1);
+            }
+        }
+    }
+
+    /**
+     * Copy the original rows of every table until the tables hold the scale of rows,
+     * offsetting every key column of each copy so each copy references its own rows.
+     *
+     * @param databaseConnection    the connection to the in-memory database
+     * @param tableNameList         the table name strings in creation order
+     * @param scale                 the number of copies the tables should hold
+     *
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static void scaleTables(Connection databaseConnection, List<String> tableNameList, int scale) throws SQLException {
+        DatabaseMetaData databaseMetaData = databaseConnection.getMetaData();
+
+        for (int copy = 1; copy < scale; copy++) {
+            for (String tableName : tableNameList) {
+                List<String> columnList = new ArrayList<>();
+                String firstKeyColumn = null;
+
+                try (ResultSet columns = databaseMetaData.getColumns(null, "PUBLIC", tableName.toUpperCase(), null)) {
+                    while (columns.next()) {
+                        String columnName = columns.getString("COLUMN_NAME");
+
+                        if (columnName.startsWith("PK_") || columnName.startsWith("FK_")) {
+                            firstKeyColumn = firstKeyColumn == null ? columnName : firstKeyColumn;
+                            columnList.add(columnName + " + " + copy * KEY_OFFSET);
+                        }
+                        else {
+                            columnList.add(columnName);
+                        }
+                    }
+                }
+
+                try (Statement sqlStatement = databaseConnection.createStatement()) {
+                    sqlStatement.executeUpdate("INSERT INTO " + tableName + " SELECT " + String.join(", ", columnList) + " FROM " + tableName + " WHERE " + firstKeyColumn + " < " + KEY_OFFSET);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sample parameter values for every query from the data of each scale and run every query at every scale untimed,
+     * then time every query at every scale in interleaved rounds and take the median of the mean latency of each round.
+     * Each scale has its own database, so every scale is measured with the same warmed-up code
+     * and neither a cold JIT compiler, a single pause nor a drift over the run skews the growth between scales.
+     *
+     * @param connectionList        the connections to the in-memory database of each scale
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param queryList             the queries to time
+     *
+     * @return                      a map of the median latency of one execution of each query at each scale in nanoseconds
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static Map<SqlQuery, List<Long>> getLatencyMap(List<Connection> connectionList, Queries sqlQueries, List<SqlQuery> queryList) throws SQLException {
+        List<PreparedStatement> statementList = new ArrayList<>();
+        List<List<List<Object>>> parameterSetListList = new ArrayList<>();
+        List<List<Long>> roundLatencyListList = new ArrayList<>();
+
+        try {
+            for (Connection databaseConnection : connectionList) {
+                for (SqlQuery query : queryList) {
+                    String queryString = sqlQueries.getQueryString(query);
+                    Random random = new Random(0);
+                    List<List<Object>> parameterSetList = new ArrayList<>();
+
+                    for (int parameterSet = 0; parameterSet < SAMPLED_PARAMETER_SETS; parameterSet++) {
+                        parameterSetList.add(getSampledParameters(databaseConnection, queryString, random));
+                    }
+                    parameterSetListList.add(parameterSetList);
+                    statementList.add(databaseConnection.prepareStatement(queryString));
+                    roundLatencyListList.add(new ArrayList<>());
+                }
+            }
+
+            for (int pass = 0; pass < WARM_UP_PASSES; pass++) {
+                for (int timing = 0; timing < statementList.size(); timing++) {
+                    runForNanos(statementList.get(timing), parameterSetListList.get(timing), WARM_UP_NANOS);
+                }
+            }
+
+            for (int round = 0; round < TIMED_ROUNDS; round++) {
+                for (int timing = 0; timing < statementList.size(); timing++) {
+                    roundLatencyListList.get(timing).add(runForNanos(statementList.get(timing), parameterSetListList.get(timing), ROUND_NANOS));
+                }
+            }
+        }
+        finally {
+            for (PreparedStatement preparedStatement : statementList) {
+                preparedStatement.close();
+            }
+        }
+
+        Map<SqlQuery, List<Long>> latencyMap = new EnumMap<>(SqlQuery.class);
+
+        for (int timing = 0; timing < roundLatencyListList.size(); timing++) {
+            List<Long> roundLatencyList = roundLatencyListList.get(timing);
+            Collections.sort(roundLatencyList);
+            latencyMap.computeIfAbsent(queryList.get(timing % queryList.size()), latencyQuery -> new ArrayList<>()).add(roundLatencyList.get(roundLatencyList.size() / 2));
+        }
+        return latencyMap;
+    }
+
+    /**
+     * Run a query with each sampled parameter set in turn until the time is spent, reading every row of each result.
+     *
+     * @param preparedStatement the prepared query
+     * @param parameterSetList  the sampled parameter sets
+     * @param runNanos          the time to run for in nanoseconds
+     *
+     * @return                  the mean latency of one execution in nanoseconds
+     * @throws SQLException     the database could not be accessed or the table/column/row could not be found
+     */
+    private static long runForNanos(PreparedStatement preparedStatement, List<List<Object>> parameterSetList, long runNanos) throws SQLException {
+        long executionCount = 0, executionNanos = 0;
+
+        while (executionNanos < runNanos) {
+            bindParameters(preparedStatement, parameterSetList.get((int) (executionCount % parameterSetList.size())));
+            long startNanos = System.nanoTime();
+
+            if (preparedStatement.execute()) {
+                try (ResultSet resultSet = preparedStatement.getResultSet()) {
+                    while (resultSet.next()) {
+                        resultSet.getObject(1);
+                    }
+                }
+            }
+            executionNanos += System.nanoTime() - startNanos;
+            executionCount++;
+        }
+        return executionNanos / executionCount;
+    }
+}
\ No newline at end of file
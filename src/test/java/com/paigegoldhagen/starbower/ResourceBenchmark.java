@@ -0,0 +1,129 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Comparing the two ways of reading the startup resource files:
+ * looking up and opening each file through a class loader on the resource folder, and reading the indexed resource pack in one pass
+ * and opening each file from the pack entries.
+ * The packed files are not copied into the build on their own, so both paths read the source resource folder:
+ * the pack is built from it into a temporary file first, and both paths read every packed file to the end. Reading the DropdownData CSV into Dropdown classes is timed as well.
+ * The paths are run in turn so both see the same JIT compiler and file cache state.
+ *
+ * <p>Arguments: [number of runs of each path] [resource folder, e.g. src/main/resources]
+ */
+public class ResourceBenchmark {
+    private static final int WARMUP_RUNS = 200;
+
+    /**
+     * Build the resource pack, run each path the given number of times after some untimed warm-up runs,
+     * and print the fastest and median time of each path.
+     *
+     * @param args          the optional number of runs of each path and resource folder
+     *
+     * @throws IOException  a resource folder/file could not be found or read, or a temporary file could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        int runCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        Path resourceFolder = Path.of(args.length > 1 ? args[1] : "src/main/resources");
+        Path packFile = Files.createTempFile("Starbower", ".pack");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {resourceFolder.toUri().toURL()}, null)) {
+            int entryCount = ResourcePack.write(resourceFolder, packFile);
+            List<String> entryNameList = new ArrayList<>(ResourcePack.read(Files.newInputStream(packFile)).getEntryNameSet());
+
+            List<Long> classLoaderNanosList = new ArrayList<>();
+            List<Long> packNanosList = new ArrayList<>();
+            List<Long> dropdownNanosList = new ArrayList<>();
+
+            for (int run = 0; run < WARMUP_RUNS + runCount; run++) {
+                long classLoaderNanos = measureClassLoader(classLoader, entryNameList);
+                long packNanos = measurePack(entryNameList, packFile);
+
+                long startNanos = System.nanoTime();
+                ResourceHandler.getDropdownList();
+                long dropdownNanos = System.nanoTime() - startNanos;
+
+                if (run >= WARMUP_RUNS) {
+                    classLoaderNanosList.add(classLoaderNanos);
+                    packNanosList.add(packNanos);
+                    dropdownNanosList.add(dropdownNanos);
+                }
+            }
+
+            System.out.println("Resource pack\t" + entryCount + " entries, " + Files.size(packFile) + " bytes");
+            System.out.println("Path\tFastestMicros\tMedianMicros");
+            System.out.println(getSummaryLine("Class loader", classLoaderNanosList));
+            System.out.println(getSummaryLine("Resource pack", packNanosList));
+            System.out.println(getSummaryLine("Dropdown list", dropdownNanosList));
+        }
+        finally {
+            Files.deleteIfExists(packFile);
+        }
+    }
+
+    /**
+     * Time looking up, opening and reading every packed file through the class loader.
+     *
+     * @param classLoader   the class loader on the resource folder
+     * @param entryNameList the resource paths of the packed files
+     *
+     * @return              the time in nanoseconds
+     * @throws IOException  a resource file could not be found or read
+     */
+    private static long measureClassLoader(ClassLoader classLoader, List<String> entryNameList) throws IOException {
+        long startNanos = System.nanoTime();
+
+        for (String entryName : entryNameList) {
+            try (InputStream stream = classLoader.getResourceAsStream(entryName)) {
+                stream.readAllBytes();
+            }
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Time reading the resource pack in one pass, then opening and reading every packed file from the pack.
+     *
+     * @param entryNameList the resource paths of the packed files
+     * @param packFile      the resource pack file
+     *
+     * @return              the time in nanoseconds
+     * @throws IOException  the resource pack could not be read
+     */
+    private static long measurePack(List<String> entryNameList, Path packFile) throws IOException {
+        long startNanos = System.nanoTime();
+        ResourcePack resourcePack = ResourcePack.read(Files.newInputStream(packFile));
+
+        for (String entryName : entryNameList) {
+            try (InputStream stream = resourcePack.getInputStream(entryName)) {
+                stream.readAllBytes();
+            }
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Get the tab-separated fastest and median time of a path in microseconds.
+     *
+     * @param pathName      the name of the path
+     * @param nanosList     the times of the path in nanoseconds
+     *
+     * @return              the tab-separated summary line
+     */
+    private static String getSummaryLine(String pathName, List<Long> nanosList) {
+        List<Long> sortedNanosList = new ArrayList<>(nanosList);
+        Collections.sort(sortedNanosList);
+
+        return pathName + "\t" + sortedNanosList.getFirst() / 1000 + "\t" + sortedNanosList.get(sortedNanosList.size() / 2) / 1000;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writing a resource pack from a small resource folder and reading its entries back,
+ * both from the whole pack and one entry at a time as a packed file opened after startup is read.
+ */
+class ResourcePackTest {
+    /**
+     * Write two packed folders and a folder that is not packed, and check that every packed file reads back unchanged.
+     *
+     * @param resourceFolder    a temporary resource folder
+     * @throws IOException      a file could not be written or read
+     */
+    @Test
+    void packedFilesReadBack(@TempDir Path resourceFolder) throws IOException {
+        Path packFile = writePack(resourceFolder);
+        ResourcePack resourcePack = ResourcePack.read(Files.newInputStream(packFile));
+
+        assertEquals(Set.of("init/VersionData.csv", "init/TableNames.csv", "data/Maps.csv"), resourcePack.getEntryNameSet());
+        assertEquals("1.6.0", readString(resourcePack.getInputStream("init/VersionData.csv")));
+        assertEquals("Maps,Kinds", readString(resourcePack.getInputStream("init/TableNames.csv")));
+        assertNull(resourcePack.getInputStream("themes/StarbowerDarkLAF.properties"));
+    }
+
+    /**
+     * Read single entries from fresh passes over the pack, including the first and last entry and one that is not packed.
+     *
+     * @param resourceFolder    a temporary resource folder
+     * @throws IOException      a file could not be written or read
+     */
+    @Test
+    void singleEntriesReadFromPack(@TempDir Path resourceFolder) throws IOException {
+        Path packFile = writePack(resourceFolder);
+
+        assertEquals("Name\nQueensdale", readString(ResourcePack.readEntry(Files.newInputStream(packFile), "data/Maps.csv")));
+        assertEquals("1.6.0", readString(ResourcePack.readEntry(Files.newInputStream(packFile), "init/VersionData.csv")));
+        assertNull(ResourcePack.readEntry(Files.newInputStream(packFile), "init/Missing.csv"));
+        assertNull(ResourcePack.readEntry(null, "init/VersionData.csv"));
+    }
+
+    /**
+     * Check that a truncated pack is reported instead of read short.
+     *
+     * @param resourceFolder    a temporary resource folder
+     * @throws IOException      a file could not be written or read
+     */
+    @Test
+    void truncatedPackIsRejected(@TempDir Path resourceFolder) throws IOException {
+        Path packFile = writePack(resourceFolder);
+        byte[] packBytes = Files.readAllBytes(packFile);
+        Files.write(packFile, Arrays.copyOf(packBytes, packBytes.length - 1));
+
+        assertThrows(IOException.class, () -> ResourcePack.read(Files.newInputStream(packFile)));
+    }
+
+    /**
+     * Write a small resource folder and pack it.
+     *
+     * @param resourceFolder    the resource folder to fill
+     *
+     * @return                  the resource pack file
+     * @throws IOException      a file could not be written
+     */
+    private static Path writePack(Path resourceFolder) throws IOException {
+        Files.createDirectories(resourceFolder.resolve("init"));
+        Files.createDirectories(resourceFolder.resolve("data"));
+        Files.createDirectories(resourceFolder.resolve("themes"));
+
+        Files.writeString(resourceFolder.resolve("init/VersionData.csv"), "1.6.0");
+        Files.writeString(resourceFolder.resolve("init/TableNames.csv"), "Maps,Kinds");
+        Files.writeString(resourceFolder.resolve("data/Maps.csv"), "Name\nQueensdale");
+        Files.writeString(resourceFolder.resolve("themes/StarbowerDarkLAF.properties"), "@accentColor=#8c5cd6");
+
+        Path packFile = resourceFolder.resolve(ResourcePack.PACK_PATH);
+        assertEquals(3, ResourcePack.write(resourceFolder, packFile));
+        return packFile;
+    }
+
+    /**
+     * Read a stream to the end as UTF-8 text.
+     *
+     * @param stream        the input stream
+     *
+     * @return              the text
+     * @throws IOException  the stream could not be read
+     */
+    private static String readString(InputStream stream) throws IOException {
+        try (stream) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+package com.paigegoldhagen.starbower;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+/**
+ * Measuring how startup, the notification tick and the GUI model construction scale with the size of the table data.
+ * For each size, a synthetic copy of the table data is generated with the ScalingDataGenerator
+ * and loaded into an in-memory database, and the time of each stage is printed as one row of a table
+ * that can be charted against the number of DynamicEvents.
+ * Schedules, Categories and Festivals are generated in proportion to the number of DynamicEvents.
+ *
+ * <p>Arguments: [DynamicEvent counts, e.g. 1000,2500,5000,10000] [results file] [start date, e.g. 2024-06-01]
+ */
+public class ScalingBenchmark {
+    private static final int SCHEDULES_PER_EVENT = 10;
+    private static final int EVENTS_PER_CATEGORY = 30;
+    private static final int EVENTS_PER_FESTIVAL = 100;
+    private static final int TICK_SECONDS = 3600;
+    private static final List<String> SEARCH_TEXT_LIST = List.of("synthetic event 1", "event 99", "tequatl");
+    private static final int SEARCH_WARMUP_RUNS = 5;
+    private static final int SEARCH_RUNS = 20;
+
+    /**
+     * Measure the smallest size once untimed to warm up the JIT compiler, then generate and measure each size in turn,
+     * printing the results and writing them to the results file if given.
+     * The scheduled GUI updaters keep reading each database after the measurements,
+     * so the databases are left open and the benchmark exits when it is done.
+     *
+     * @param args                      the optional DynamicEvent counts, results file and start date
+     *
+     * @throws IOException              a resource folder/file could not be found or read, or an output file could not be written
+     * @throws SQLException             the database could not be accessed or the table/column/row could not be found
+     * @throws BackingStoreException    the temporary preferences node could not be removed
+     * @throws FontFormatException      the font format type is incompatible
+     */
+    public static void main(String[] args) throws IOException, SQLException, BackingStoreException, FontFormatException {
+        List<Integer> dynamicEventCountList = new ArrayList<>();
+
+        for (String dynamicEventCount : (args.length > 0 ? args[0] : "1000,2500,5000,10000").split(",")) {
+            dynamicEventCountList.add(Integer.valueOf(dynamicEventCount.trim()));
+        }
+
+        Path resultsFile = args.length > 1 ? Path.of(args[1]) : null;
+        LocalDate startDate = args.length > 2 ? LocalDate.parse(args[2]) : LocalDate.now(ZoneOffset.UTC);
+
+        List<String> resultLineList = new ArrayList<>();
+        resultLineList.add("DynamicEvents\tSchedules\tCategories\tFestivals\tTablesMs\tCatalogueMs\tIndexesMs\tTickNanos\tGuiModelMs\tGuiComponents\tGuiLayoutMs\tSearchMicros\tSearchBytes\tThemeTreeMs\tThemeSwitchMs");
+        System.out.println(resultLineList.getFirst());
+
+        Preferences benchmarkPreferences = Preferences.userRoot().node("StarbowerScaling");
+        FontHandler.awaitCustomFonts();
+        ThemeHandler.initialiseLookAndFeel(Settings.load(benchmarkPreferences, ResourceHandler.getDropdownList()));
+
+        try {
+            measureSize(benchmarkPreferences, dynamicEventCountList.getFirst(), startDate, "Warmup");
+
+            for (Integer dynamicEventCount : dynamicEventCountList) {
+                String resultLine = measureSize(benchmarkPreferences, dynamicEventCount, startDate, "Scaling");
+
+                resultLineList.add(resultLine);
+                System.out.println(resultLine);
+            }
+        }
+        finally {
+            benchmarkPreferences.removeNode();
+        }
+
+        if (resultsFile != null) {
+            Files.writeString(resultsFile, String.join("\n", resultLineList));
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Generate the table data for one size, then time creating the tables, loading the EventCatalogue and FestivalCalendar,
+     * building the upcoming DynamicEvent indexes, an hour of notification ticks, populating the tabbed pane and laying it out,
+     * the slowest keystroke and the allocation per keystroke of a few searches typed into the search field, and switching the theme by restyling the whole tabbed pane
+     * and by restyling only the selected tab, and count the components in the tabbed pane.
+     *
+     * @param benchmarkPreferences  the temporary preferences node for the settings
+     * @param dynamicEventCount     the number of synthetic DynamicEvents
+     * @param startDate             the date in UTC to start the ticks
+     * @param runName               the name of the run used to name the in-memory database
+     *
+     * @return                      the tab-separated result line
+     * @throws IOException          a resource folder/file could not be found or read, or an output file could not be written
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static String measureSize(Preferences benchmarkPreferences, int dynamicEventCount, LocalDate startDate, String runName) throws IOException, SQLException {
+        int scheduleCount = dynamicEventCount * SCHEDULES_PER_EVENT;
+        int categoryCount = Math.max(1, dynamicEventCount / EVENTS_PER_CATEGORY);
+        int festivalCount = Math.max(1, dynamicEventCount / EVENTS_PER_FESTIVAL);
+
+        Path dataFolder = Path.of("scaling-data", String.valueOf(dynamicEventCount));
+        ScalingDataGenerator.generate(dataFolder, dynamicEventCount, scheduleCount, categoryCount, festivalCount, dynamicEventCount);
+
+        Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+        Settings settings = Settings.load(benchmarkPreferences, ResourceHandler.getDropdownList());
+        long utcSecond = startDate.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+
+        ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:Starbower" + runName + dynamicEventCount, "sa", "");
+        Connection databaseConnection = connectionProvider.getWriteConnection();
+
+        long startNanos = System.nanoTime();
+        QueryHandler.createTables(databaseConnection, sqlQueries, dataFileName -> Files.newInputStream(dataFolder.resolve(dataFileName)));
+        long tablesNanos = System.nanoTime() - startNanos;
+
+        startNanos = System.nanoTime();
+        EventCatalogue eventCatalogue = EventCatalogue.load(databaseConnection, sqlQueries);
+        FestivalCalendar festivalCalendar = FestivalCalendar.load(databaseConnection, sqlQueries);
+        long catalogueNanos = System.nanoTime() - startNanos;
+
+        startNanos = System.nanoTime();
+        UpcomingEvents upcomingEvents = new UpcomingEvents(connectionProvider, sqlQueries, eventCatalogue, festivalCalendar, settings);
+        upcomingEvents.getUpcomingDynamicEventMap(utcSecond);
+        long indexesNanos = System.nanoTime() - startNanos;
+
+        MessageRenderer messageRenderer = new MessageRenderer(eventCatalogue);
+        startNanos = System.nanoTime();
+
+        for (int second = 1; second <= TICK_SECONDS; second++) {
+            Notifications.sendDueNotifications(upcomingEvents, messageRenderer, utcSecond + second, notificationMessage -> {});
+        }
+        long tickNanos = System.nanoTime() - startNanos;
+
+        Clock utcClock = Clock.fixed(startDate.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        startNanos = System.nanoTime();
+        JTabbedPane tabbedPane = new JTabbedPane();
+        EventSearchIndex searchIndex = new EventSearchIndex();
+        ComponentHandler.populateTabbedPane(databaseConnection, sqlQueries, settings, festivalCalendar, upcomingEvents, utcClock, searchIndex, tabbedPane);
+        long guiModelNanos = System.nanoTime() - startNanos;
+
+        int guiComponentCount = getComponentCount(tabbedPane);
+
+        startNanos = System.nanoTime();
+        tabbedPane.setSize(tabbedPane.getPreferredSize());
+        tabbedPane.validate();
+        long guiLayoutNanos = System.nanoTime() - startNanos;
+
+        long[] searchCost = getSearchKeystrokeCost(searchIndex);
+        long[] themeSwitchNanos = getThemeSwitchNanos(tabbedPane);
+
+        return dynamicEventCount + "\t" + scheduleCount + "\t" + categoryCount + "\t" + festivalCount + "\t"
+                + tablesNanos / 1_000_000 + "\t" + catalogueNanos / 1_000_000 + "\t" + indexesNanos / 1_000_000 + "\t"
+                + tickNanos / TICK_SECONDS + "\t" + guiModelNanos / 1_000_000 + "\t" + guiComponentCount + "\t" + guiLayoutNanos / 1_000_000 + "\t" + searchCost[0] / 1_000 + "\t" + searchCost[1]
+                + "\t" + themeSwitchNanos[0] / 1_000_000 + "\t" + themeSwitchNanos[1] / 1_000_000;
+    }
+
+    /**
+     * Type each search text into the search index one character at a time on the event dispatch thread,
+     * where the Festival updater also changes the search index, and clear the search after each text.
+     * The typing is repeated after a few untimed runs, and the median time of each keystroke is taken
+     * so a garbage collection pause in one run does not count as the time of the keystroke.
+     * The bytes allocated on the event dispatch thread by the timed runs are averaged over every keystroke.
+     *
+     * @param searchIndex   the search index of all DynamicEvent tables
+     * @return              the median time of the slowest keystroke in nanoseconds and the allocated bytes per keystroke
+     */
+    private static long[] getSearchKeystrokeCost(EventSearchIndex searchIndex) {
+        List<String> keystrokeTextList = new ArrayList<>();
+
+        for (String searchText : SEARCH_TEXT_LIST) {
+            for (int length = 1; length <= searchText.length(); length++) {
+                keystrokeTextList.add(searchText.substring(0, length));
+            }
+            keystrokeTextList.add("");
+        }
+
+        long[][] keystrokeNanos = new long[keystrokeTextList.size()][SEARCH_RUNS];
+        long[] searchBytes = new long[1];
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                for (int run = 0; run < SEARCH_WARMUP_RUNS + SEARCH_RUNS; run++) {
+                    if (run == SEARCH_WARMUP_RUNS) {
+                        searchBytes[0] = threadBean.getCurrentThreadAllocatedBytes();
+                    }
+
+                    for (int keystroke = 0; keystroke < keystrokeTextList.size(); keystroke++) {
+                        long startNanos = System.nanoTime();
+                        searchIndex.search(keystrokeTextList.get(keystroke));
+
+                        if (run >= SEARCH_WARMUP_RUNS) {
+                            keystrokeNanos[keystroke][run - SEARCH_WARMUP_RUNS] = System.nanoTime() - startNanos;
+                        }
+                    }
+                }
+                searchBytes[0] = threadBean.getCurrentThreadAllocatedBytes() - searchBytes[0];
+            });
+        }
+        catch (InterruptedException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+
+        long slowestNanos = 0;
+
+        for (long[] runNanos : keystrokeNanos) {
+            Arrays.sort(runNanos);
+            slowestNanos = Math.max(slowestNanos, runNanos[runNanos.length / 2]);
+        }
+        return new long[] {slowestNanos, searchBytes[0] / ((long) SEARCH_RUNS * keystrokeTextList.size())};
+    }
+
+    /**
+     * Time switching from the light theme to the dark theme on the event dispatch thread, once by restyling
+     * every component in the tabbed pane as the theme dropdown used to, and once with the ThemeHandler,
+     * which restyles only the selected tab and leaves the hidden tabs until they are selected.
+     * Both runs start from the light theme with every component restyled.
+     *
+     * @param tabbedPane    the populated tabbed pane
+     * @return              the whole tree and the selected tab switch times in nanoseconds
+     */
+    private static long[] getThemeSwitchNanos(JTabbedPane tabbedPane) {
+        long[] themeSwitchNanos = new long[2];
+
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                ThemeHandler.setTheme("Light");
+                SwingUtilities.updateComponentTreeUI(tabbedPane);
+
+                long startNanos = System.nanoTime();
+                ThemeHandler.setTheme("Dark");
+                SwingUtilities.updateComponentTreeUI(tabbedPane);
+                themeSwitchNanos[0] = System.nanoTime() - startNanos;
+
+                ThemeHandler.setTheme("Light");
+                SwingUtilities.updateComponentTreeUI(tabbedPane);
+
+                startNanos = System.nanoTime();
+                ThemeHandler.switchTheme("Dark", tabbedPane, tabbedPane);
+                themeSwitchNanos[1] = System.nanoTime() - startNanos;
+
+                ThemeHandler.setTheme("Light");
+                SwingUtilities.updateComponentTreeUI(tabbedPane);
+            });
+        }
+        catch (InterruptedException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+        return themeSwitchNanos;
+    }
+
+    /**
+     * Count a container and every component inside it.
+     *
+     * @param container the container to count
+     * @return          the number of components including the container
+     */
+    private static int getComponentCount(Container container) {
+        int componentCount = 1;
+
+        for (Component component : container.getComponents()) {
+            componentCount += component instanceof Container childContainer ? getComponentCount(childContainer) : 1;
+        }
+        return componentCount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Generating a large copy of the Starbower table data for scaling tests.
+ * The bundled rows are kept as they are and synthetic Categories, Festivals, DynamicEvents, Schedules and NotifyStates
+ * are appended in the exact format of the bundled data CSVs, so the files can be loaded by the DataImporter.
+ * Synthetic rows use their own key ranges, reference the bundled Kinds, Waypoints and Expansions,
+ * and never use the rotational Category or Schedule frequency.
+ * Synthetic Festivals are placed in the gaps between the bundled Festivals so no two Festivals overlap.
+ *
+ * <p>Arguments: [output folder] [DynamicEvents] [Schedules] [Categories] [Festivals] [random seed]
+ */
+public class ScalingDataGenerator {
+    private static final int NOTIFY_STATE_BASE = 1_000_000;
+    private static final int CATEGORY_BASE = 2_000_000;
+    private static final int DYNAMIC_EVENT_BASE = 3_000_000;
+    private static final int SCHEDULE_BASE = 4_000_000;
+
+    private static final int[] PROJECTED_FREQUENCY_LIST = {1, 2, 3, 6};
+    private static final int MINUTES_PER_DAY = 1440;
+    private static final DateTimeFormatter FESTIVAL_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * Generate the table data CSVs into the output folder with the given number of synthetic rows.
+     *
+     * @param args          the optional output folder, numbers of DynamicEvents, Schedules, Categories and Festivals, and random seed
+     * @throws IOException  a resource folder/file could not be found or read, or an output file could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path dataFolder = Path.of(args.length > 0 ? args[0] : "scaling-data");
+        int dynamicEventCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int scheduleCount = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        int categoryCount = args.length > 3 ? Integer.parseInt(args[3]) : 300;
+        int festivalCount = args.length > 4 ? Integer.parseInt(args[4]) : 100;
+        long randomSeed = args.length > 5 ? Long.parseLong(args[5]) : 1;
+
+        generate(dataFolder, dynamicEventCount, scheduleCount, categoryCount, festivalCount, randomSeed);
+        System.out.println("Generated " + dynamicEventCount + " DynamicEvents, " + scheduleCount + " Schedules, " + categoryCount + " Categories and " + festivalCount + " Festivals in " + dataFolder.toAbsolutePath());
+    }
+
+    /**
+     * Read every bundled data CSV, append the synthetic rows and write the CSVs to the output folder.
+     * DynamicEvents are shared out in turn between the synthetic Categories and Festival Categories,
+     * and Schedules are shared out evenly between the DynamicEvents.
+     *
+     * @param dataFolder        the folder to write the data CSVs
+     * @param dynamicEventCount the number of synthetic DynamicEvents
+     * @param scheduleCount     the number of synthetic Schedules
+     * @param categoryCount     the number of synthetic Categories
+     * @param festivalCount     the number of synthetic Festivals
+     * @param randomSeed        the seed of the random names, times and references
+     *
+     * @throws IOException      a resource folder/file could not be found or read, or an output file could not be written
+     */
+    public static void generate(Path dataFolder, int dynamicEventCount, int scheduleCount, int categoryCount, int festivalCount, long randomSeed) throws IOException {
+        Random random = new Random(randomSeed);
+        Map<String, List<String>> dataFileMap = readBundledDataFiles();
+
+        List<Integer> kindIDList = getFirstColumnList(dataFileMap.get("Kind.csv"));
+        List<Integer> waypointIDList = getFirstColumnList(dataFileMap.get("Waypoint.csv"));
+        List<Integer> expansionIDList = getFirstColumnList(dataFileMap.get("Expansion.csv"));
+        Integer festivalExpansionID = expansionIDList.removeLast();
+
+        List<String> notifyStateLineList = dataFileMap.get("NotifyState.csv");
+        List<String> categoryLineList = dataFileMap.get("Category.csv");
+        List<Integer> categoryIDList = new ArrayList<>();
+        int notifyStateID = NOTIFY_STATE_BASE;
+
+        for (int categoryNumber = 1; categoryNumber <= categoryCount + festivalCount; categoryNumber++) {
+            boolean isFestival = categoryNumber > categoryCount;
+            String categoryName = isFestival ? "Synthetic Festival " + (categoryNumber - categoryCount) : "Synthetic Category " + categoryNumber;
+            Integer expansionID = isFestival ? festivalExpansionID : expansionIDList.get(categoryNumber % expansionIDList.size());
+
+            notifyStateID++;
+            notifyStateLineList.add(notifyStateID + ",1,");
+            categoryLineList.add((CATEGORY_BASE + categoryNumber) + "," + categoryName + "," + notifyStateID + "," + expansionID);
+            categoryIDList.add(CATEGORY_BASE + categoryNumber);
+        }
+
+        List<String> dynamicEventLineList = dataFileMap.get("DynamicEvent.csv");
+        List<String> scheduleLineList = dataFileMap.get("Schedule.csv");
+        int scheduleID = SCHEDULE_BASE;
+
+        for (int dynamicEventNumber = 1; dynamicEventNumber <= dynamicEventCount && !categoryIDList.isEmpty(); dynamicEventNumber++) {
+            int dynamicEventID = DYNAMIC_EVENT_BASE + dynamicEventNumber;
+            Integer categoryID = categoryIDList.get(dynamicEventNumber % categoryIDList.size());
+            Integer kindID = kindIDList.get(random.nextInt(kindIDList.size()));
+            Integer waypointID = waypointIDList.get(random.nextInt(waypointIDList.size()));
+
+            notifyStateID++;
+            notifyStateLineList.add(notifyStateID + ",1,");
+            dynamicEventLineList.add(dynamicEventID + ",Synthetic Event " + dynamicEventNumber + "," + notifyStateID + "," + categoryID + "," + kindID + "," + waypointID);
+
+            int eventScheduleCount = scheduleCount / dynamicEventCount + (dynamicEventNumber <= scheduleCount % dynamicEventCount ? 1 : 0);
+            String frequency = eventScheduleCount <= 2 ? String.valueOf(PROJECTED_FREQUENCY_LIST[random.nextInt(PROJECTED_FREQUENCY_LIST.length)]) : "";
+
+            for (LocalTime scheduleTime : getRandomTimeSet(random, eventScheduleCount)) {
+                scheduleID++;
+                scheduleLineList.add(scheduleID + "," + scheduleTime + ":00," + frequency + "," + dynamicEventID);
+            }
+        }
+
+        addFestivalLines(dataFileMap.get("Festival.csv"), categoryIDList.subList(categoryCount, categoryIDList.size()));
+
+        Files.createDirectories(dataFolder);
+
+        for (Map.Entry<String, List<String>> dataFile : dataFileMap.entrySet()) {
+            Files.writeString(dataFolder.resolve(dataFile.getKey()), String.join("\n", dataFile.getValue()));
+        }
+    }
+
+    /**
+     * Read the lines of every data CSV listed in the DataFiles CSV, including the header lines.
+     *
+     * @return              a map of data file names to the lines of each file
+     * @throws IOException  a resource folder/file could not be found or read
+     */
+    private static Map<String, List<String>> readBundledDataFiles() throws IOException {
+        Map<String, List<String>> dataFileMap = new LinkedHashMap<>();
+
+        for (String fileName : ResourceHandler.getDataFileNames()) {
+            List<String> lineList = new ArrayList<>();
+
+            BufferedReader textReader = FileHandler.getTextReader("data/" + fileName);
+            String line = textReader.readLine();
+
+            while (line != null) {
+                lineList.add(line);
+                line = textReader.readLine();
+            }
+            dataFileMap.put(fileName, lineList);
+        }
+        return dataFileMap;
+    }
+
+    /**
+     * Get the first column of every line after the header line as an integer.
+     *
+     * @param lineList  the lines of a data CSV
+     * @return          a list of the first column values
+     */
+    private static List<Integer> getFirstColumnList(List<String> lineList) {
+        List<Integer> firstColumnList = new ArrayList<>();
+
+        for (String line : lineList.subList(1, lineList.size())) {
+            firstColumnList.add(Integer.valueOf(line.substring(0, line.indexOf(','))));
+        }
+        return firstColumnList;
+    }
+
+    /**
+     * Get a number of distinct random times on the minute, in order, up to one for every minute of the day.
+     *
+     * @param random    the random source of the times
+     * @param timeCount the number of times to get
+     *
+     * @return          a sorted set of times
+     */
+    private static TreeSet<LocalTime> getRandomTimeSet(Random random, int timeCount) {
+        TreeSet<LocalTime> timeSet = new TreeSet<>();
+
+        while (timeSet.size() < Math.min(timeCount, MINUTES_PER_DAY)) {
+            timeSet.add(LocalTime.ofSecondOfDay(random.nextInt(MINUTES_PER_DAY) * 60L));
+        }
+        return timeSet;
+    }
+
+    /**
+     * Share the synthetic Festivals between the gaps of the bundled Festivals in proportion to the length of each gap,
+     * split each gap into equal slots and add a Festival line for each slot, leaving up to an hour free on either side.
+     *
+     * @param festivalLineList          the lines of the Festival CSV
+     * @param festivalCategoryIDList    the synthetic Festival Category IDs
+     */
+    private static void addFestivalLines(List<String> festivalLineList, List<Integer> festivalCategoryIDList) {
+        List<LocalDateTime[]> gapList = new ArrayList<>();
+        LocalDateTime previousEnd = null;
+
+        for (String line : festivalLineList.subList(1, festivalLineList.size())) {
+            String[] columnList = line.split(",");
+            LocalDateTime festivalStart = LocalDateTime.parse(columnList[1], FESTIVAL_DATE_FORMAT);
+
+            if (previousEnd != null && previousEnd.isBefore(festivalStart)) {
+                gapList.add(new LocalDateTime[] {previousEnd, festivalStart});
+            }
+            previousEnd = LocalDateTime.parse(columnList[2], FESTIVAL_DATE_FORMAT);
+        }
+
+        long totalGapSeconds = gapList.stream().mapToLong(gap -> Duration.between(gap[0], gap[1]).toSeconds()).sum();
+        int festivalPosition = 0;
+
+        for (int gapPosition = 0; gapPosition < gapList.size(); gapPosition++) {
+            LocalDateTime[] gap = gapList.get(gapPosition);
+            long gapSeconds = Duration.between(gap[0], gap[1]).toSeconds();
+
+            int remainingFestivals = festivalCategoryIDList.size() - festivalPosition;
+            int gapFestivalCount = gapPosition == gapList.size() - 1 ? remainingFestivals : (int) Math.min(remainingFestivals, Math.round((double) festivalCategoryIDList.size() * gapSeconds / totalGapSeconds));
+
+            for (int slot = 0; slot < gapFestivalCount; slot++) {
+                long slotStartSecond = gapSeconds * slot / gapFestivalCount;
+                long slotEndSecond = gapSeconds * (slot + 1) / gapFestivalCount;
+                long paddingSeconds = Math.min(3600, (slotEndSecond - slotStartSecond) / 4);
+
+                LocalDateTime festivalStart = gap[0].plusSeconds(slotStartSecond + paddingSeconds);
+                LocalDateTime festivalEnd = gap[0].plusSeconds(slotEndSecond - paddingSeconds);
+
+                festivalLineList.add(festivalCategoryIDList.get(festivalPosition) + "," + festivalStart.format(FESTIVAL_DATE_FORMAT) + "," + festivalEnd.format(FESTIVAL_DATE_FORMAT));
+                festivalPosition++;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.paigegoldhagen.starbower;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+import java.util.stream.Stream;
+
+/**
+ * Comparing the first run startup time of the two ways of populating the Starbower database:
+ * creating the tables from the bundled table data CSVs, and copying the prebuilt database image into place.
+ * Each run starts from an empty temporary folder, opens the database, populates it and restores the saved preferences,
+ * as Starbower does on first run, and the two paths are run in turn so both see the same JIT compiler and file cache state.
+ * The database image is built into the temporary folder first, so the benchmark does not need a build with the image.
+ *
+ * <p>Arguments: [number of runs of each path]
+ */
+public class StartupBenchmark {
+    private static final int WARMUP_RUNS = 3;
+
+    /**
+     * Build the database image, run both paths the given number of times after a few untimed warm-up runs,
+     * and print the fastest and median time of each path.
+     *
+     * @param args                      the optional number of runs of each path
+     *
+     * @throws IOException              a resource folder/file could not be found or read, or a temporary file could not be written
+     * @throws SQLException             the database could not be accessed or the table/column/row could not be found
+     * @throws BackingStoreException    the temporary preferences node could not be removed
+     */
+    public static void main(String[] args) throws IOException, SQLException, BackingStoreException {
+        int runCount = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+        Path benchmarkFolder = Files.createTempDirectory("StarbowerStartup");
+        Preferences benchmarkPreferences = Preferences.userRoot().node("StarbowerStartup");
+
+        try {
+            Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+            String currentVersionName = ResourceHandler.getCurrentVersionName();
+            Path imageFile = DatabaseImageBuilder.build(benchmarkFolder.resolve("image"));
+
+            List<Long> csvNanosList = new ArrayList<>();
+            List<Long> imageNanosList = new ArrayList<>();
+
+            for (int run = 0; run < WARMUP_RUNS + runCount; run++) {
+                long csvNanos = measureStartup(benchmarkFolder.resolve("csv" + run), null, sqlQueries, currentVersionName, benchmarkPreferences);
+                long imageNanos = measureStartup(benchmarkFolder.resolve("image" + run), imageFile, sqlQueries, currentVersionName, benchmarkPreferences);
+
+                if (run >= WARMUP_RUNS) {
+                    csvNanosList.add(csvNanos);
+                    imageNanosList.add(imageNanos);
+                }
+            }
+
+            System.out.println("Database image\t" + Files.size(imageFile) + " bytes");
+            System.out.println("Path\tFastestMs\tMedianMs");
+            System.out.println(getSummaryLine("CSV import", csvNanosList));
+            System.out.println(getSummaryLine("Image copy", imageNanosList));
+        }
+        finally {
+            benchmarkPreferences.removeNode();
+            deleteFolder(benchmarkFolder);
+        }
+    }
+
+    /**
+     * Time one first run startup in a new folder: install the database image if given, open the database,
+     * populate it and restore the saved preferences, then close the database.
+     *
+     * @param runFolder             the new folder of the database files
+     * @param imageFile             the database image file, or null to populate the database from the table data CSVs
+     * @param sqlQueries            a class for retrieving SQL query strings
+     * @param currentVersionName    the current version name of Starbower
+     * @param benchmarkPreferences  the temporary preferences node for the saved preferences
+     *
+     * @return                      the startup time in nanoseconds
+     * @throws IOException          a resource folder/file could not be found or read, or a temporary file could not be written
+     * @throws SQLException         the database could not be accessed or the table/column/row could not be found
+     */
+    private static long measureStartup(Path runFolder, Path imageFile, Queries sqlQueries, String currentVersionName, Preferences benchmarkPreferences) throws IOException, SQLException {
+        Files.createDirectories(runFolder);
+        String databasePath = runFolder.toAbsolutePath().resolve(DatabaseHandler.DATABASE_NAME).toString();
+
+        long startNanos = System.nanoTime();
+        boolean isImageInstalled = imageFile != null && DatabaseHandler.installDatabaseImage(databasePath, Files.newInputStream(imageFile), sqlQueries, currentVersionName);
+
+        try (ConnectionProvider connectionProvider = DatabaseHandler.getConnectionProvider(databasePath)) {
+            DatabaseHandler.populateDatabase(connectionProvider.getWriteConnection(), sqlQueries, currentVersionName, ResourceHandler.getExistingTableNames(), isImageInstalled, benchmarkPreferences);
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Get the tab-separated fastest and median time of a path in milliseconds.
+     *
+     * @param pathName      the name of the path
+     * @param nanosList     the startup times of the path in nanoseconds
+     *
+     * @return              the tab-separated summary line
+     */
+    private static String getSummaryLine(String pathName, List<Long> nanosList) {
+        List<Long> sortedNanosList = new ArrayList<>(nanosList);
+        Collections.sort(sortedNanosList);
+
+        return pathName + "\t" + sortedNanosList.getFirst() / 1_000_000 + "\t" + sortedNanosList.get(sortedNanosList.size() / 2) / 1_000_000;
+    }
+
+    /**
+     * Delete a folder and everything in it.
+     *
+     * @param folder        the folder to delete
+     * @throws IOException  a file could not be deleted
+     */
+    private static void deleteFolder(Path folder) throws IOException {
+        try (Stream<Path> pathStream = Files.walk(folder)) {
+            for (Path path : pathStream.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
\ No newline at end of file
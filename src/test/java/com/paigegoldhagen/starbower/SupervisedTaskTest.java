@@ -0,0 +1,173 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Injecting faults into supervised tasks and checking that the schedule survives them.
+ */
+class SupervisedTaskTest {
+    private static final long PERIOD_MILLIS = 5;
+    private static final long WAIT_SECONDS = 10;
+
+    /**
+     * Run a NotifyState query through the QueryExecutor against a database without tables, so every execution throws an SQLException,
+     * then create the tables and check that the same schedule goes on to succeed.
+     *
+     * @throws Exception    the database could not be accessed or the wait was interrupted
+     */
+    @Test
+    void scheduleSurvivesQueryExecutorFailures() throws Exception {
+        Queries sqlQueries = new Queries();
+        int injectedFailures = 3;
+
+        try (Connection databaseConnection = DriverManager.getConnection("jdbc:h2:mem:SupervisedTaskTest", "sa", "")) {
+            CountDownLatch failureSignal = new CountDownLatch(injectedFailures);
+            CountDownLatch successSignal = new CountDownLatch(1);
+
+            SupervisedTask supervisedTask = SupervisedTask.scheduleAtFixedRate("Query executor", () -> {
+                try {
+                    QueryHandler.getNotifyStateList(databaseConnection, sqlQueries);
+                }
+                catch (SQLException e) {
+                    failureSignal.countDown();
+                    throw e;
+                }
+                successSignal.countDown();
+            }, 0, PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+
+            try {
+                assertTrue(failureSignal.await(WAIT_SECONDS, TimeUnit.SECONDS), "the failing query was not retried");
+                assertInstanceOf(SQLException.class, supervisedTask.getLastFailure());
+
+                QueryHandler.createTables(databaseConnection, sqlQueries);
+
+                assertTrue(successSignal.await(WAIT_SECONDS, TimeUnit.SECONDS), "the schedule did not survive the failures");
+                assertTrue(supervisedTask.getFailureCount() >= injectedFailures);
+            }
+            finally {
+                supervisedTask.cancel();
+            }
+        }
+    }
+
+    /**
+     * Throw an error from the first execution and check that the error is recorded and the schedule carries on.
+     *
+     * @throws InterruptedException the wait was interrupted
+     */
+    @Test
+    void scheduleSurvivesErrors() throws InterruptedException {
+        AtomicInteger executionCount = new AtomicInteger();
+        CountDownLatch successSignal = new CountDownLatch(2);
+
+        SupervisedTask supervisedTask = SupervisedTask.scheduleAtFixedRate("Error", () -> {
+            if (executionCount.getAndIncrement() == 0) {
+                throw new AssertionError("Injected error");
+            }
+            successSignal.countDown();
+        }, 0, PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+
+        try {
+            assertTrue(successSignal.await(WAIT_SECONDS, TimeUnit.SECONDS), "the schedule was cancelled by the error");
+            assertEquals(1, supervisedTask.getFailureCount());
+            assertInstanceOf(AssertionError.class, supervisedTask.getLastFailure());
+        }
+        finally {
+            supervisedTask.cancel();
+        }
+    }
+
+    /**
+     * Fail enough times to back off for the longest time, re-arming after each failure has been recorded,
+     * and check that the task runs again straight away.
+     *
+     * @throws InterruptedException the wait was interrupted
+     */
+    @Test
+    void rearmClearsBackoff() throws InterruptedException {
+        int injectedFailures = 6;
+        AtomicInteger executionCount = new AtomicInteger();
+        CountDownLatch successSignal = new CountDownLatch(1);
+
+        SupervisedTask supervisedTask = SupervisedTask.scheduleAtFixedRate("Backoff", () -> {
+            if (executionCount.incrementAndGet() <= injectedFailures) {
+                throw new SQLException("Injected failure");
+            }
+            successSignal.countDown();
+        }, 0, 1, TimeUnit.HOURS);
+
+        try {
+            for (int failure = 1; failure <= injectedFailures; failure++) {
+                awaitFailureCount(supervisedTask, failure);
+                supervisedTask.rearm();
+            }
+
+            assertTrue(successSignal.await(WAIT_SECONDS, TimeUnit.SECONDS), "the re-armed task did not run straight away");
+            assertEquals(injectedFailures, supervisedTask.getFailureCount());
+        }
+        finally {
+            supervisedTask.cancel();
+        }
+    }
+
+    /**
+     * Re-arm the task while a failing execution is still running, then let it fail,
+     * and check that the failure of the earlier execution does not skip the immediate execution of the re-arm.
+     *
+     * @throws InterruptedException the wait was interrupted
+     */
+    @Test
+    void failureBeforeRearmKeepsImmediateRun() throws InterruptedException {
+        AtomicInteger executionCount = new AtomicInteger();
+        CountDownLatch runningSignal = new CountDownLatch(1);
+        CountDownLatch releaseSignal = new CountDownLatch(1);
+        CountDownLatch successSignal = new CountDownLatch(1);
+
+        SupervisedTask supervisedTask = SupervisedTask.scheduleAtFixedRate("Rearm while running", () -> {
+            if (executionCount.getAndIncrement() == 0) {
+                runningSignal.countDown();
+                releaseSignal.await();
+                throw new SQLException("Injected failure");
+            }
+            successSignal.countDown();
+        }, 0, 1, TimeUnit.HOURS);
+
+        try {
+            assertTrue(runningSignal.await(WAIT_SECONDS, TimeUnit.SECONDS), "the task did not start");
+            supervisedTask.rearm();
+            releaseSignal.countDown();
+
+            assertTrue(successSignal.await(WAIT_SECONDS, TimeUnit.SECONDS), "the failure before the re-arm skipped the immediate run");
+            assertEquals(1, supervisedTask.getFailureCount());
+        }
+        finally {
+            supervisedTask.cancel();
+        }
+    }
+
+    /**
+     * Wait until a task has recorded at least the given number of failures.
+     *
+     * @param supervisedTask        the supervised task
+     * @param expectedCount         the number of failures to wait for
+     *
+     * @throws InterruptedException the wait was interrupted
+     */
+    private static void awaitFailureCount(SupervisedTask supervisedTask, int expectedCount) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+
+        while (supervisedTask.getFailureCount() < expectedCount) {
+            assertTrue(System.nanoTime() < deadlineNanos, "the task did not fail " + expectedCount + " times");
+            Thread.sleep(PERIOD_MILLIS);
+        }
+    }
+}
\ No newline at end of file
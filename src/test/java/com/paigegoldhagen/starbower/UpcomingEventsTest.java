@@ -0,0 +1,52 @@
+package com.paigegoldhagen.starbower;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checking the upcoming DynamicEvent indexes against an in-memory copy of the Starbower database.
+ */
+class UpcomingEventsTest {
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * Find the first second of a day with a notification due, then ask for the same second again,
+     * as a re-armed notification sender does when it runs within the same second as the last tick,
+     * and check that nothing is due the second time.
+     *
+     * @throws Exception    a resource could not be read or the database could not be accessed
+     */
+    @Test
+    void secondIsOnlyHandledOnce() throws Exception {
+        Queries sqlQueries = ResourceHandler.getDatabaseQueries();
+
+        try (ConnectionProvider connectionProvider = new ConnectionProvider("jdbc:h2:mem:UpcomingEventsTest", "sa", "")) {
+            Connection databaseConnection = connectionProvider.getWriteConnection();
+            QueryHandler.createTables(databaseConnection, sqlQueries);
+
+            Settings settings = Settings.load(new MemoryPreferences(), ResourceHandler.getDropdownList());
+            EventCatalogue eventCatalogue = EventCatalogue.load(databaseConnection, sqlQueries);
+            FestivalCalendar festivalCalendar = FestivalCalendar.load(databaseConnection, sqlQueries);
+            UpcomingEvents upcomingEvents = new UpcomingEvents(connectionProvider, sqlQueries, eventCatalogue, festivalCalendar, settings);
+
+            long startSecond = LocalDate.of(2024, 10, 28).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+            long dueSecond = startSecond;
+            Map<Integer, List<DynamicEvent>> upcomingDynamicEventMap = upcomingEvents.getUpcomingDynamicEventMap(dueSecond);
+
+            while (upcomingDynamicEventMap.isEmpty() && dueSecond < startSecond + SECONDS_PER_DAY) {
+                upcomingDynamicEventMap = upcomingEvents.getUpcomingDynamicEventMap(++dueSecond);
+            }
+
+            assertFalse(upcomingDynamicEventMap.isEmpty(), "no notification was due during the day");
+            assertTrue(upcomingEvents.getUpcomingDynamicEventMap(dueSecond).isEmpty(), "the same second was handled twice");
+            assertTrue(upcomingEvents.getUpcomingDynamicEventMap(dueSecond - 1).isEmpty(), "an earlier second was handled after a later one");
+        }
+    }
+}